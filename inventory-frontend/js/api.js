@@ -1,6 +1,11 @@
 const API_BASE = 'http://localhost:8080/api/items';
 
 async function request(url, opts = {}){
+  const {body} = await send(url, opts);
+  return body;
+}
+
+async function send(url, opts = {}){
   const res = await fetch(url, opts);
   const contentType = res.headers.get('content-type') || '';
   let body = null;
@@ -16,17 +21,20 @@ async function request(url, opts = {}){
     error.body = body;
     throw error;
   }
-  return body;
+  return {body, headers: res.headers};
 }
 
-export async function getAllItems({minPrice, maxPrice, sortBy, order} = {}){
+export async function getAllItems({minPrice, maxPrice, sortBy, order, limit, after} = {}){
   const params = new URLSearchParams();
   if (minPrice != null) params.set('minPrice', String(minPrice));
   if (maxPrice != null) params.set('maxPrice', String(maxPrice));
   if (sortBy) params.set('sortBy', sortBy);
   if (order) params.set('order', order);
+  if (limit != null) params.set('limit', String(limit));
+  if (after) params.set('after', after);
   const url = `${API_BASE}${params.toString() ? '?'+params.toString() : ''}`;
-  return request(url);
+  const {body, headers} = await send(url);
+  return {items: body, nextCursor: headers.get('X-Next-Cursor')};
 }
 
 export async function getLowStockItems(threshold = 5){
@@ -45,10 +53,12 @@ export async function createItem(dto){
   });
 }
 
-export async function updateItem(id, dto){
+export async function updateItem(id, dto, version){
+  const headers = {'Content-Type': 'application/json'};
+  if (version != null) headers['If-Match'] = `"${version}"`;
   return request(`${API_BASE}/${id}`, {
     method: 'PUT',
-    headers: {'Content-Type': 'application/json'},
+    headers,
     body: JSON.stringify(dto)
   });
 }
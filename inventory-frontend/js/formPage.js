@@ -31,10 +31,13 @@ export default function mountForm(container, id){
   const message = document.createElement('div');
   container.append(message, form);
 
+  let version = null;
+
   async function load(){
     if (!isEdit) return;
     try{
       const dto = await getItemById(id);
+      version = dto.version;
       form.name.value = dto.name || '';
       form.description.value = dto.description || '';
       form.quantity.value = dto.quantity != null ? dto.quantity : '';
@@ -69,7 +72,7 @@ export default function mountForm(container, id){
 
     try{
       if (isEdit){
-        await updateItem(id, dto);
+        await updateItem(id, dto, version);
         location.hash = '#/items';
       } else {
         await createItem(dto);
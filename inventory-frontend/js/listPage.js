@@ -51,12 +51,19 @@ export default function mountList(container){
   `;
   container.appendChild(table);
 
+  const moreBtn = document.createElement('button');
+  moreBtn.className = 'btn';
+  moreBtn.textContent = 'Load more';
+  moreBtn.hidden = true;
+  container.appendChild(moreBtn);
+
   let lowMode = false;
+  let nextCursor = null;
 
-  async function load(){
+  async function load(append = false){
     message.textContent = '';
     const tbody = table.querySelector('tbody');
-    tbody.innerHTML = '';
+    if (!append) tbody.innerHTML = '';
     try{
       let items;
       if (lowMode){
@@ -64,13 +71,16 @@ export default function mountList(container){
         let threshold = Number(raw);
         if (Number.isNaN(threshold) || threshold < 0) threshold = 5;
         items = await getLowStockItems(threshold);
+        nextCursor = null;
       } else {
         const minPrice = minInput.value ? Number(minInput.value) : undefined;
         const maxPrice = maxInput.value ? Number(maxInput.value) : undefined;
         const order = sortBtn.dataset.order === 'asc' ? 'asc' : 'desc';
-        items = await getAllItems({minPrice, maxPrice, sortBy: 'price', order});
+        const after = append ? nextCursor : undefined;
+        ({items, nextCursor} = await getAllItems({minPrice, maxPrice, sortBy: 'price', order, after}));
       }
-      if (!items || items.length === 0){
+      moreBtn.hidden = !nextCursor;
+      if (!append && (!items || items.length === 0)){
         message.innerHTML = '<div class="small">No items found</div>';
         return;
       }
@@ -109,6 +119,10 @@ export default function mountList(container){
     }
   });
 
+  moreBtn.addEventListener('click', async () => {
+    if (nextCursor) await load(true);
+  });
+
   thresholdInput.addEventListener('change', async () => {
     if (lowMode) await load();
   });
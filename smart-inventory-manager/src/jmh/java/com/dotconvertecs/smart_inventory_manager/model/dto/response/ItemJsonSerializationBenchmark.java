@@ -0,0 +1,62 @@
+package com.dotconvertecs.smart_inventory_manager.model.dto.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ItemJsonSerializationBenchmark {
+
+    @Param({"20", "100", "1000"})
+    public int items;
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter listWriter;
+    private List<ItemResponseDto> list;
+    private ItemPageResponseDto page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        listWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, ItemResponseDto.class));
+
+        list = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            list.add(new ItemResponseDto((long) i + 1, "Item " + i, "Description of item " + i, i % 500, i * 1.25, 0L));
+        }
+        page = new ItemPageResponseDto(list, "1000");
+    }
+
+    @Benchmark
+    public byte[] list() throws JsonProcessingException {
+        return listWriter.writeValueAsBytes(list);
+    }
+
+    @Benchmark
+    public byte[] page() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,45 @@
+package com.dotconvertecs.smart_inventory_manager.model.mapper;
+
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemResponseDto;
+import com.dotconvertecs.smart_inventory_manager.model.entity.Item;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ItemMapperBenchmark {
+
+    private static final int ITEMS = 1024;
+
+    private final ItemMapper mapper = new ItemMapper();
+    private Item[] items;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        items = new Item[ITEMS];
+        for (int i = 0; i < ITEMS; i++) {
+            items[i] = new Item((long) i + 1, "Item " + i, "Description of item " + i, i % 500, i * 1.25, 0L);
+        }
+    }
+
+    @Benchmark
+    public ItemResponseDto toResponse() {
+        return mapper.toResponse(items[next++ & (ITEMS - 1)]);
+    }
+}
@@ -0,0 +1,272 @@
+package com.dotconvertecs.smart_inventory_manager.service.impl;
+
+import com.dotconvertecs.smart_inventory_manager.index.PriceIndex;
+import com.dotconvertecs.smart_inventory_manager.index.SearchIndex;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemPageResponseDto;
+import com.dotconvertecs.smart_inventory_manager.model.entity.Item;
+import com.dotconvertecs.smart_inventory_manager.model.mapper.ItemMapper;
+import com.dotconvertecs.smart_inventory_manager.model.query.ItemCursor;
+import com.dotconvertecs.smart_inventory_manager.model.query.ItemQuery;
+import com.dotconvertecs.smart_inventory_manager.repository.ItemRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Benchmarks {@link ItemServiceImpl#getAllItems} over an in-memory repository, so only the
+ * service's own work is measured: cursor handling, price-index range scans and DTO mapping.
+ * SQL execution is covered by the load-test profile instead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemServiceBenchmark {
+
+    private static final int CURSORS = 1024;
+
+    @Param({"1000", "100000", "1000000"})
+    public int items;
+
+    @Param({"20", "100", "1000"})
+    public int limit;
+
+    private ItemServiceImpl service;
+    private String[] idCursors;
+    private String[] priceCursors;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Item[] data = new Item[items];
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < items; i++) {
+            data[i] = new Item((long) i + 1, "Item " + (i + 1), "Description of item " + (i + 1),
+                    random.nextInt(0, 500), Math.round(random.nextDouble(1, 5000) * 100) / 100.0, 0L);
+        }
+
+        InMemoryItemRepository repository = new InMemoryItemRepository(data);
+        PriceIndex priceIndex = new PriceIndex(repository, true);
+        priceIndex.rebuild();
+        service = new ItemServiceImpl(repository, new ItemMapper(), event -> { }, priceIndex,
+                new StockAdjuster(repository, false), new SearchIndex(repository, false, 1), new ObjectMapper());
+
+        idCursors = new String[CURSORS];
+        priceCursors = new String[CURSORS];
+        for (int i = 0; i < CURSORS; i++) {
+            Item item = data[random.nextInt(items)];
+            idCursors[i] = ItemCursor.of(item, false).encode();
+            priceCursors[i] = ItemCursor.of(item, true).encode();
+        }
+    }
+
+    @Benchmark
+    public ItemPageResponseDto pageById() {
+        return service.getAllItems(null, null, null, "asc", limit, idCursors[next++ & (CURSORS - 1)]);
+    }
+
+    @Benchmark
+    public ItemPageResponseDto pageByPriceFromIndex() {
+        return service.getAllItems(null, null, "price", "asc", limit, priceCursors[next++ & (CURSORS - 1)]);
+    }
+
+    @Benchmark
+    public ItemPageResponseDto pageByPriceRangeFromIndex() {
+        return service.getAllItems(100.0, 2500.0, "price", "desc", limit, null);
+    }
+
+    /**
+     * Keeps the items in a sorted map and answers every repository call from it, so service
+     * paths beyond the ones benchmarked today (low stock, writes, fallbacks when an index is not
+     * ready) run against the same data instead of failing.
+     */
+    private static class InMemoryItemRepository implements ItemRepository {
+
+        private static final Comparator<Item> BY_PRICE = Comparator.comparingDouble(Item::getPrice)
+                .thenComparing(Item::getId);
+
+        private final NavigableMap<Long, Item> items = new ConcurrentSkipListMap<>();
+        private final AtomicLong nextId = new AtomicLong();
+
+        InMemoryItemRepository(Item[] data) {
+            for (Item item : data) {
+                items.put(item.getId(), item);
+                nextId.accumulateAndGet(item.getId(), Math::max);
+            }
+        }
+
+        @Override
+        public List<Item> findAll() {
+            return new ArrayList<>(items.values());
+        }
+
+        @Override
+        public List<Item> findPage(ItemQuery query) {
+            ItemCursor after = query.getAfter();
+            Stream<Item> rows;
+            if (query.isSortByPrice()) {
+                Comparator<Item> order = query.isDescending() ? BY_PRICE.reversed() : BY_PRICE;
+                Item cursor = after == null ? null : Item.builder().id(after.getId()).price(after.getPrice()).build();
+                rows = items.values().stream()
+                        .filter(item -> cursor == null || order.compare(item, cursor) > 0)
+                        .sorted(order);
+            } else {
+                NavigableMap<Long, Item> range = after == null ? items
+                        : query.isDescending() ? items.headMap(after.getId(), false) : items.tailMap(after.getId(), false);
+                rows = (query.isDescending() ? range.descendingMap() : range).values().stream();
+            }
+            return rows
+                    .filter(item -> query.getMinPrice() == null || item.getPrice() >= query.getMinPrice())
+                    .filter(item -> query.getMaxPrice() == null || item.getPrice() <= query.getMaxPrice())
+                    .limit(query.getLimit())
+                    .collect(Collectors.toCollection(ArrayList::new));
+        }
+
+        @Override
+        public void forEachInPage(ItemQuery query, RowConsumer consumer) {
+            findPage(query).forEach(item -> accept(item, consumer));
+        }
+
+        @Override
+        public void streamAll(Consumer<Item> consumer) {
+            items.values().forEach(consumer);
+        }
+
+        @Override
+        public void streamPrices(PriceConsumer consumer) {
+            items.values().stream()
+                    .sorted(BY_PRICE)
+                    .forEach(item -> consumer.accept(item.getId(), item.getPrice()));
+        }
+
+        @Override
+        public List<Item> findByIds(List<Long> ids) {
+            List<Item> found = new ArrayList<>(ids.size());
+            for (Long id : ids) {
+                Item item = items.get(id);
+                if (item != null) {
+                    found.add(item);
+                }
+            }
+            return found;
+        }
+
+        @Override
+        public Optional<Item> findById(Long id) {
+            return Optional.ofNullable(items.get(id));
+        }
+
+        @Override
+        public Item save(Item item) {
+            if (item.getId() == null) {
+                item.setId(nextId.incrementAndGet());
+            } else {
+                nextId.accumulateAndGet(item.getId(), Math::max);
+            }
+            item.setVersion(0L);
+            items.put(item.getId(), item);
+            return item;
+        }
+
+        @Override
+        public List<Item> saveAll(List<Item> batch) {
+            batch.forEach(this::save);
+            return batch;
+        }
+
+        @Override
+        public int update(Item item) {
+            int[] updated = new int[1];
+            items.computeIfPresent(item.getId(), (id, current) -> {
+                if (item.getVersion() != null && !item.getVersion().equals(current.getVersion())) {
+                    return current;
+                }
+                updated[0] = 1;
+                return new Item(id, item.getName(), item.getDescription(), item.getQuantity(), item.getPrice(),
+                        current.getVersion() + 1);
+            });
+            return updated[0];
+        }
+
+        @Override
+        public int adjustQuantity(Long id, int delta) {
+            int[] updated = new int[1];
+            items.computeIfPresent(id, (key, current) -> {
+                if (current.getQuantity() + delta < 0) {
+                    return current;
+                }
+                updated[0] = 1;
+                return new Item(key, current.getName(), current.getDescription(), current.getQuantity() + delta,
+                        current.getPrice(), current.getVersion() + 1);
+            });
+            return updated[0];
+        }
+
+        @Override
+        public int[] updateAll(List<Item> batch) {
+            int[] counts = new int[batch.size()];
+            for (int i = 0; i < counts.length; i++) {
+                Item item = batch.get(i);
+                counts[i] = update(new Item(item.getId(), item.getName(), item.getDescription(),
+                        item.getQuantity(), item.getPrice(), null));
+            }
+            return counts;
+        }
+
+        @Override
+        public int delete(Long id) {
+            return items.remove(id) != null ? 1 : 0;
+        }
+
+        @Override
+        public int[] deleteAll(List<Long> ids) {
+            return ids.stream().mapToInt(this::delete).toArray();
+        }
+
+        @Override
+        public List<Item> findLowStock(int threshold) {
+            return items.values().stream()
+                    .filter(item -> item.getQuantity() <= threshold)
+                    .collect(Collectors.toCollection(ArrayList::new));
+        }
+
+        @Override
+        public void forEachLowStock(int threshold, RowConsumer consumer) {
+            for (Item item : items.values()) {
+                if (item.getQuantity() <= threshold) {
+                    accept(item, consumer);
+                }
+            }
+        }
+
+        private static void accept(Item item, RowConsumer consumer) {
+            consumer.accept(item.getId(), item.getName(), item.getDescription(), item.getQuantity(),
+                    item.getPrice(), item.getVersion());
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.dotconvertecs.smart_inventory_manager.bulkhead;
+
+/**
+ * Concurrency limit adjusted from measured latency, AIMD style. Latency is smoothed with an
+ * exponentially weighted moving average, so a single slow request does not move the limit. The
+ * baseline is the lowest smoothed latency seen over the current and previous window of samples.
+ * While the smoothed latency is above {@code tolerance} times the baseline, the limit is cut by a
+ * tenth, at most once per window. Otherwise the limit grows by about one per limit's worth of
+ * samples while the bulkhead is at least half busy.
+ */
+final class AdaptiveLimit {
+
+    private static final double BACKOFF = 0.9;
+    private static final double SMOOTHING = 0.2;
+    private static final long CONGESTION_HOLD_NANOS = 1_000_000_000L;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final int window;
+
+    private volatile double limit;
+    private volatile long congestedAt;
+    private double smoothedNanos = -1;
+    private double windowMinNanos = Double.MAX_VALUE;
+    private double baselineNanos = Double.MAX_VALUE;
+    private int samples;
+    private int samplesSinceDecrease;
+
+    AdaptiveLimit(int initialLimit, int minLimit, int maxLimit, double tolerance, int window) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.window = window;
+        this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+        this.congestedAt = System.nanoTime() - CONGESTION_HOLD_NANOS;
+        this.samplesSinceDecrease = window;
+    }
+
+    int current() {
+        return (int) limit;
+    }
+
+    int min() {
+        return minLimit;
+    }
+
+    /**
+     * True if the smoothed latency was over the tolerance in the last second.
+     */
+    boolean isCongested() {
+        return System.nanoTime() - congestedAt < CONGESTION_HOLD_NANOS;
+    }
+
+    synchronized void onSample(long latencyNanos, int inFlight) {
+        smoothedNanos = smoothedNanos < 0 ? latencyNanos : smoothedNanos + SMOOTHING * (latencyNanos - smoothedNanos);
+        windowMinNanos = Math.min(windowMinNanos, smoothedNanos);
+        if (++samples >= window) {
+            baselineNanos = windowMinNanos;
+            windowMinNanos = Double.MAX_VALUE;
+            samples = 0;
+        }
+        double baseline = Math.min(baselineNanos, windowMinNanos);
+        samplesSinceDecrease++;
+
+        if (smoothedNanos > baseline * tolerance) {
+            congestedAt = System.nanoTime();
+            if (samplesSinceDecrease >= window) {
+                limit = Math.max(minLimit, limit * BACKOFF);
+                samplesSinceDecrease = 0;
+            }
+        } else if (inFlight * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.dotconvertecs.smart_inventory_manager.bulkhead;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs a handler method inside the named bulkhead. Methods sharing a name share one limit.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Bulkhead {
+
+    String value();
+
+    Priority priority() default Priority.CRITICAL;
+}
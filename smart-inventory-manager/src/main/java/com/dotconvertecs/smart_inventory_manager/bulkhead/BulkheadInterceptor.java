@@ -0,0 +1,160 @@
+package com.dotconvertecs.smart_inventory_manager.bulkhead;
+
+import com.dotconvertecs.smart_inventory_manager.config.BulkheadProperties;
+import com.dotconvertecs.smart_inventory_manager.exception.custome.ServiceUnavailableException;
+import com.dotconvertecs.smart_inventory_manager.exception.custome.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Admits each request to the bulkhead named by its handler's {@link Bulkhead} annotation. Every
+ * bulkhead has its own adaptive limit, so a slow listing cannot use up the capacity that
+ * single-item reads and stock writes depend on. While any critical bulkhead sees latency above
+ * its tolerance, bulk bulkheads drop to their minimum limit. Rejected bulk requests get a 429 and
+ * rejected critical requests a 503, both with {@code Retry-After}.
+ */
+public class BulkheadInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = BulkheadInterceptor.class.getName() + ".permit";
+
+    private final BulkheadProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final long retryAfterSeconds;
+    private final Map<String, EndpointBulkhead> bulkheads = new ConcurrentHashMap<>();
+    private final Map<String, Counter> rejections = new ConcurrentHashMap<>();
+
+    public BulkheadInterceptor(BulkheadProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.retryAfterSeconds = Math.max(1, properties.getRetryAfter().toSeconds());
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() != DispatcherType.REQUEST || !(handler instanceof HandlerMethod method)) {
+            return true;
+        }
+        Bulkhead annotation = method.getMethodAnnotation(Bulkhead.class);
+        if (annotation == null) {
+            return true;
+        }
+
+        EndpointBulkhead bulkhead = bulkheads.computeIfAbsent(annotation.value(), name -> create(name, annotation.priority()));
+        boolean shed = bulkhead.priority() == Priority.BULK && criticalCongested();
+        boolean admitted;
+        try {
+            admitted = bulkhead.tryAcquire(shed);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            admitted = false;
+        }
+        if (!admitted) {
+            rejections.get(bulkhead.name()).increment();
+            String message = "Too many concurrent '" + bulkhead.name() + "' requests, try again later";
+            if (bulkhead.priority() == Priority.BULK) {
+                throw new TooManyRequestsException(message, retryAfterSeconds);
+            }
+            throw new ServiceUnavailableException(message, retryAfterSeconds);
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, new Permit(bulkhead, System.nanoTime()));
+        return true;
+    }
+
+    /**
+     * Streamed and deferred responses keep working after the handler returns, so the slot is
+     * held until the async request completes. The listener covers requests that complete without
+     * being dispatched back; otherwise {@link #afterCompletion} of the async dispatch gets there first.
+     */
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof Permit permit) {
+            request.getAsyncContext().addListener(permit);
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof Permit permit) {
+            permit.release();
+        }
+    }
+
+    public Collection<EndpointBulkhead> bulkheads() {
+        return bulkheads.values();
+    }
+
+    private boolean criticalCongested() {
+        for (EndpointBulkhead bulkhead : bulkheads.values()) {
+            if (bulkhead.priority() == Priority.CRITICAL && bulkhead.isCongested()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private EndpointBulkhead create(String name, Priority priority) {
+        BulkheadProperties.Limits limits = priority == Priority.BULK ? properties.getBulk() : properties.getCritical();
+        AdaptiveLimit limit = new AdaptiveLimit(limits.getInitialLimit(), limits.getMinLimit(), limits.getMaxLimit(),
+                properties.getLatencyTolerance(), properties.getSampleWindow());
+        EndpointBulkhead bulkhead = new EndpointBulkhead(name, priority, limit, limits.getQueue(), properties.getMaxWait());
+
+        Gauge.builder("inventory.bulkhead.limit", bulkhead, EndpointBulkhead::limit)
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("inventory.bulkhead.in_flight", bulkhead, EndpointBulkhead::inFlight)
+                .tag("name", name)
+                .register(meterRegistry);
+        rejections.put(name, Counter.builder("inventory.bulkhead.rejected")
+                .tag("name", name)
+                .tag("priority", priority.name().toLowerCase())
+                .register(meterRegistry));
+        return bulkhead;
+    }
+
+    private static final class Permit implements AsyncListener {
+        private final EndpointBulkhead bulkhead;
+        private final long started;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(EndpointBulkhead bulkhead, long started) {
+            this.bulkhead = bulkhead;
+            this.started = started;
+        }
+
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                bulkhead.release(System.nanoTime() - started);
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.dotconvertecs.smart_inventory_manager.bulkhead;
+
+import java.time.Duration;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * One named compartment: admits requests up to its adaptive limit, lets a few more wait briefly,
+ * and turns the rest away at once.
+ */
+public final class EndpointBulkhead {
+
+    private final String name;
+    private final Priority priority;
+    private final AdaptiveLimit limit;
+    private final int maxQueue;
+    private final long maxWaitNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+
+    private int inFlight;
+    private int waiting;
+
+    EndpointBulkhead(String name, Priority priority, AdaptiveLimit limit, int maxQueue, Duration maxWait) {
+        this.name = name;
+        this.priority = priority;
+        this.limit = limit;
+        this.maxQueue = maxQueue;
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public Priority priority() {
+        return priority;
+    }
+
+    public int limit() {
+        return limit.current();
+    }
+
+    public int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    boolean isCongested() {
+        return limit.isCongested();
+    }
+
+    /**
+     * Takes a slot, waiting up to the configured time if the queue has room. With {@code shed}
+     * set only the minimum limit is available, which is how bulk traffic yields to critical
+     * traffic under pressure.
+     */
+    boolean tryAcquire(boolean shed) throws InterruptedException {
+        lock.lock();
+        try {
+            if (inFlight < allowed(shed)) {
+                inFlight++;
+                return true;
+            }
+            if (waiting >= maxQueue) {
+                return false;
+            }
+            waiting++;
+            try {
+                long remaining = maxWaitNanos;
+                while (inFlight >= allowed(shed)) {
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    remaining = released.awaitNanos(remaining);
+                }
+                inFlight++;
+                return true;
+            } finally {
+                waiting--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void release(long latencyNanos) {
+        int busy;
+        lock.lock();
+        try {
+            busy = inFlight--;
+            // waiters do not share a ceiling: a shed bulk request may still be over its limit
+            // while one admitted at the full limit could go, so wake them all to re-check
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        limit.onSample(latencyNanos, busy);
+    }
+
+    private int allowed(boolean shed) {
+        return shed ? limit.min() : limit.current();
+    }
+}
@@ -0,0 +1,8 @@
+package com.dotconvertecs.smart_inventory_manager.bulkhead;
+
+public enum Priority {
+    /** Single-item reads and writes; rejected with 503 only when their own bulkhead is full. */
+    CRITICAL,
+    /** Scans and listings; throttled first and rejected with 429. */
+    BULK
+}
@@ -0,0 +1,40 @@
+package com.dotconvertecs.smart_inventory_manager.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "inventory.bulkhead")
+public class BulkheadProperties {
+
+    private boolean enabled = true;
+    private Duration maxWait = Duration.ofMillis(50);
+    private Duration retryAfter = Duration.ofSeconds(1);
+    private double latencyTolerance = 2.0;
+    private int sampleWindow = 100;
+    private Limits critical = new Limits(32, 8, 256, 64);
+    private Limits bulk = new Limits(8, 1, 64, 8);
+
+    @Getter
+    @Setter
+    public static class Limits {
+        private int initialLimit;
+        private int minLimit;
+        private int maxLimit;
+        private int queue;
+
+        public Limits() {
+        }
+
+        public Limits(int initialLimit, int minLimit, int maxLimit, int queue) {
+            this.initialLimit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+            this.queue = queue;
+        }
+    }
+}
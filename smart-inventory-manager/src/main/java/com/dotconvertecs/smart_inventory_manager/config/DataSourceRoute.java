@@ -0,0 +1,27 @@
+package com.dotconvertecs.smart_inventory_manager.config;
+
+/**
+ * Where the current thread's next connection should come from. Set per request by
+ * {@link ReadRoutingInterceptor}; threads without a route, such as schedulers and index
+ * rebuilds, always use the primary.
+ */
+public enum DataSourceRoute {
+    PRIMARY,
+    REPLICA,
+    STICKY_PRIMARY;
+
+    private static final ThreadLocal<DataSourceRoute> CURRENT = new ThreadLocal<>();
+
+    public static DataSourceRoute current() {
+        DataSourceRoute route = CURRENT.get();
+        return route == null ? PRIMARY : route;
+    }
+
+    public static void set(DataSourceRoute route) {
+        CURRENT.set(route);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+}
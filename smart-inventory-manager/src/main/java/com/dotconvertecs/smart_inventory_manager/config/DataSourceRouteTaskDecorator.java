@@ -0,0 +1,24 @@
+package com.dotconvertecs.smart_inventory_manager.config;
+
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Carries the submitting thread's {@link DataSourceRoute} into a task. Spring Boot applies it to
+ * the application task executor, which also runs MVC async work such as a
+ * {@code StreamingResponseBody}, so a streamed read stays on the route its request was given.
+ */
+public class DataSourceRouteTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        DataSourceRoute route = DataSourceRoute.current();
+        return () -> {
+            DataSourceRoute.set(route);
+            try {
+                runnable.run();
+            } finally {
+                DataSourceRoute.clear();
+            }
+        };
+    }
+}
@@ -0,0 +1,79 @@
+package com.dotconvertecs.smart_inventory_manager.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Creates the listing indexes on an {@code items} table that was created before they were added
+ * to {@code schema.sql}. The script declares them inside {@code CREATE TABLE IF NOT EXISTS},
+ * which leaves an existing table as it is, and MySQL has no {@code CREATE INDEX IF NOT EXISTS},
+ * so the table metadata decides which ones are missing. Running it again is a metadata lookup.
+ */
+@Slf4j
+public class ItemIndexMigration {
+
+    private static final Map<String, String> INDEXES = new LinkedHashMap<>();
+
+    static {
+        INDEXES.put("idx_items_price", "CREATE INDEX idx_items_price ON items (price, id)");
+        INDEXES.put("idx_items_quantity", "CREATE INDEX idx_items_quantity ON items (quantity)");
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ItemIndexMigration(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * @return the number of indexes created
+     */
+    public int apply() {
+        Set<String> existing = existingIndexes();
+        if (existing == null) {
+            // no items table yet, so there is nothing to migrate
+            return 0;
+        }
+        int created = 0;
+        for (Map.Entry<String, String> index : INDEXES.entrySet()) {
+            if (!existing.contains(index.getKey())) {
+                log.info("Creating missing index {} on items", index.getKey());
+                jdbcTemplate.execute(index.getValue());
+                created++;
+            }
+        }
+        return created;
+    }
+
+    private Set<String> existingIndexes() {
+        return jdbcTemplate.execute((ConnectionCallback<Set<String>>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            String table = metaData.storesUpperCaseIdentifiers() ? "ITEMS" : "items";
+            try (ResultSet tables = metaData.getTables(connection.getCatalog(), connection.getSchema(), table, null)) {
+                if (!tables.next()) {
+                    return null;
+                }
+            }
+            Set<String> names = new HashSet<>();
+            try (ResultSet indexes = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), table, false, true)) {
+                while (indexes.next()) {
+                    String name = indexes.getString("INDEX_NAME");
+                    if (name != null) {
+                        names.add(name.toLowerCase(Locale.ROOT));
+                    }
+                }
+            }
+            return names;
+        });
+    }
+}
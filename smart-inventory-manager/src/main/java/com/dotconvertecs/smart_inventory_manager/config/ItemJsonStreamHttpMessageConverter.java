@@ -0,0 +1,44 @@
+package com.dotconvertecs.smart_inventory_manager.config;
+
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemJsonStream;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Writes an {@link ItemJsonStream} body on the request thread while the handler's response is
+ * rendered, so a streamed body goes through the same return-value handling as any other
+ * {@code ResponseEntity} and no async dispatch is involved.
+ */
+@Component
+public class ItemJsonStreamHttpMessageConverter extends AbstractHttpMessageConverter<ItemJsonStream> {
+
+    public ItemJsonStreamHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ItemJsonStream.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected ItemJsonStream readInternal(Class<? extends ItemJsonStream> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("ItemJsonStream is write-only", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(ItemJsonStream body, HttpOutputMessage outputMessage) throws IOException {
+        body.writeTo(outputMessage.getBody());
+    }
+}
@@ -0,0 +1,80 @@
+package com.dotconvertecs.smart_inventory_manager.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Sends GET and HEAD requests to a replica and everything else to the primary. A client that
+ * sent a write is kept on the primary for the stickiness window so it reads its own writes
+ * even while replicas lag. Clients are identified by remote address; behind a proxy set
+ * {@code server.forward-headers-strategy} so that is the real client.
+ * <p>
+ * Reads matching one of the primary-read patterns always use the primary. The list endpoints
+ * tag their responses with the instance's change counter, which moves as soon as a write commits;
+ * a replica that has not applied that write yet would pair the new tag with old rows, and the
+ * client would keep revalidating against a stale copy.
+ */
+public class ReadRoutingInterceptor implements AsyncHandlerInterceptor {
+
+    private final Cache<String, Boolean> recentWriters;
+    private final List<String> primaryReads;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public ReadRoutingInterceptor(Duration stickinessWindow) {
+        this(stickinessWindow, List.of());
+    }
+
+    public ReadRoutingInterceptor(Duration stickinessWindow, List<String> primaryReads) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(stickinessWindow)
+                .build();
+        this.primaryReads = List.copyOf(primaryReads);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (isRead(request)) {
+            boolean sticky = recentWriters.getIfPresent(request.getRemoteAddr()) != null || pinnedToPrimary(request);
+            DataSourceRoute.set(sticky ? DataSourceRoute.STICKY_PRIMARY : DataSourceRoute.REPLICA);
+        } else {
+            recentWriters.put(request.getRemoteAddr(), Boolean.TRUE);
+            DataSourceRoute.set(DataSourceRoute.PRIMARY);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        DataSourceRoute.clear();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!isRead(request)) {
+            // the window starts when the write has committed, not when it arrived
+            recentWriters.put(request.getRemoteAddr(), Boolean.TRUE);
+        }
+        DataSourceRoute.clear();
+    }
+
+    private boolean pinnedToPrimary(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (String pattern : primaryReads) {
+            if (pathMatcher.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isRead(HttpServletRequest request) {
+        return "GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod());
+    }
+}
@@ -0,0 +1,90 @@
+package com.dotconvertecs.smart_inventory_manager.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the auto-configured {@code DataSource} with a {@link ReadWriteRoutingDataSource} over
+ * {@code spring.datasource} and the replicas in {@code inventory.replicas.nodes}, and registers
+ * the interceptor that picks the route for each API request. The task decorator hands that route
+ * on to async request work.
+ */
+@Configuration
+@ConditionalOnProperty(name = "inventory.replicas.enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class ReadWriteRoutingConfig implements WebMvcConfigurer {
+
+    private final ReplicaProperties properties;
+
+    public ReadWriteRoutingConfig(ReplicaProperties properties) {
+        this.properties = properties;
+    }
+
+    @Bean(destroyMethod = "close")
+    public RoutedDataSources routedDataSources(DataSourceProperties dataSourceProperties, Environment environment) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName("primary");
+
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < properties.getNodes().size(); i++) {
+            ReplicaProperties.Node node = properties.getNodes().get(i);
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + i);
+            replica.setJdbcUrl(node.getUrl());
+            replica.setUsername(node.getUsername());
+            replica.setPassword(node.getPassword());
+            replica.setMaximumPoolSize(node.getMaximumPoolSize());
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+        return new RoutedDataSources(primary, replicas);
+    }
+
+    @Bean
+    @Primary
+    public ReadWriteRoutingDataSource dataSource(RoutedDataSources routedDataSources, MeterRegistry meterRegistry) {
+        return new ReadWriteRoutingDataSource(routedDataSources.primary(), routedDataSources.replicas(),
+                properties.getMaxLag(), meterRegistry);
+    }
+
+    @Bean
+    public ReadRoutingInterceptor readRoutingInterceptor() {
+        return new ReadRoutingInterceptor(properties.getStickinessWindow(), properties.getPrimaryReads());
+    }
+
+    @Bean
+    public DataSourceRouteTaskDecorator dataSourceRouteTaskDecorator() {
+        return new DataSourceRouteTaskDecorator();
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(readRoutingInterceptor())
+                .addPathPatterns("/api/**");
+    }
+
+    public record RoutedDataSources(HikariDataSource primary, List<HikariDataSource> replicas) implements AutoCloseable {
+        @Override
+        public void close() {
+            replicas.forEach(HikariDataSource::close);
+            primary.close();
+        }
+    }
+}
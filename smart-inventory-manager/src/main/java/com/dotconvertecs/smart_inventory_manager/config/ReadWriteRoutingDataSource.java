@@ -0,0 +1,168 @@
+package com.dotconvertecs.smart_inventory_manager.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands out primary or replica connections according to {@link DataSourceRoute}. Replica reads
+ * are spread round-robin over the replicas that passed the last health check. A replica is
+ * skipped while it does not answer or, when {@code maxLag} is positive, while the heartbeat row
+ * the primary keeps updating is older on the replica than {@code maxLag}. With no usable replica
+ * reads fall back to the primary.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private static final String HEARTBEAT_SELECT = "SELECT beat FROM replication_heartbeat WHERE id = 1";
+    private static final String HEARTBEAT_UPDATE = "UPDATE replication_heartbeat SET beat = ? WHERE id = 1";
+    private static final String HEARTBEAT_INSERT = "INSERT INTO replication_heartbeat (id, beat) VALUES (1, ?)";
+
+    private final JdbcTemplate primary;
+    private final List<Replica> replicas;
+    private final long maxLagMillis;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter writes;
+    private final Counter sticky;
+    private final Counter fallback;
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<? extends DataSource> replicas,
+                                      Duration maxLag, MeterRegistry meterRegistry) {
+        this.primary = new JdbcTemplate(primary);
+        this.maxLagMillis = maxLag.toMillis();
+        this.writes = routed(meterRegistry, PRIMARY, "write");
+        this.sticky = routed(meterRegistry, PRIMARY, "sticky");
+        this.fallback = routed(meterRegistry, PRIMARY, "fallback");
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        this.replicas = new ArrayList<>(replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = new Replica("replica-" + i, new JdbcTemplate(replicas.get(i)),
+                    routed(meterRegistry, "replica-" + i, "read"));
+            this.replicas.add(replica);
+            targets.put(replica.name, replicas.get(i));
+            Gauge.builder("inventory.datasource.replica.available", replica, r -> r.available ? 1 : 0)
+                    .tag("replica", replica.name)
+                    .register(meterRegistry);
+            Gauge.builder("inventory.datasource.replica.lag", replica,
+                            r -> r.lagMillis < 0 ? Double.NaN : r.lagMillis / 1000.0)
+                    .tag("replica", replica.name)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        DataSourceRoute route = DataSourceRoute.current();
+        if (route == DataSourceRoute.PRIMARY) {
+            writes.increment();
+            return PRIMARY;
+        }
+        if (route == DataSourceRoute.STICKY_PRIMARY) {
+            sticky.increment();
+            return PRIMARY;
+        }
+        int size = replicas.size();
+        int start = size == 0 ? 0 : Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.available) {
+                replica.reads.increment();
+                return replica.name;
+            }
+        }
+        fallback.increment();
+        return PRIMARY;
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.replicas.heartbeat-interval:PT1S}")
+    public void heartbeat() {
+        if (maxLagMillis <= 0) {
+            return;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            if (primary.update(HEARTBEAT_UPDATE, now) == 0) {
+                primary.update(HEARTBEAT_INSERT, now);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Could not write replication heartbeat: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.replicas.check-interval:PT1S}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            boolean available;
+            long lag = -1;
+            try {
+                if (maxLagMillis <= 0) {
+                    available = Boolean.TRUE.equals(replica.jdbcTemplate.execute(
+                            (ConnectionCallback<Boolean>) connection -> connection.isValid(1)));
+                } else {
+                    List<Long> beats = replica.jdbcTemplate.queryForList(HEARTBEAT_SELECT, Long.class);
+                    lag = beats.isEmpty() ? Long.MAX_VALUE : Math.max(0, System.currentTimeMillis() - beats.getFirst());
+                    available = lag <= maxLagMillis;
+                }
+            } catch (DataAccessException e) {
+                available = false;
+            }
+            if (available != replica.available) {
+                if (available) {
+                    log.info("Replica {} is back in rotation", replica.name);
+                } else {
+                    log.warn("Replica {} taken out of rotation (lag {} ms)", replica.name, lag);
+                }
+            }
+            replica.lagMillis = lag;
+            replica.available = available;
+        }
+    }
+
+    boolean isAvailable(int replica) {
+        return replicas.get(replica).available;
+    }
+
+    private static Counter routed(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder("inventory.datasource.routed")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final JdbcTemplate jdbcTemplate;
+        private final Counter reads;
+        private volatile boolean available;
+        private volatile long lagMillis = -1;
+
+        private Replica(String name, JdbcTemplate jdbcTemplate, Counter reads) {
+            this.name = name;
+            this.jdbcTemplate = jdbcTemplate;
+            this.reads = reads;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.dotconvertecs.smart_inventory_manager.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "inventory.replicas")
+public class ReplicaProperties {
+
+    private boolean enabled;
+    private Duration stickinessWindow = Duration.ofSeconds(5);
+    private Duration maxLag = Duration.ofSeconds(5);
+    private List<String> primaryReads = new ArrayList<>();
+    private List<Node> nodes = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Node {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,37 @@
+package com.dotconvertecs.smart_inventory_manager.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.sql.init.SqlInitializationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+
+import javax.sql.DataSource;
+
+/**
+ * Replaces the auto-configured {@code spring.sql.init} initializer with
+ * {@link VersionedSchemaInitializer}. The initializer stays eager under lazy initialization, so
+ * the schema check and the first pool connection happen at startup rather than on the first
+ * request.
+ */
+@Configuration
+@ConditionalOnProperty(name = "inventory.schema.versioned", havingValue = "true")
+@EnableConfigurationProperties(SqlInitializationProperties.class)
+public class SchemaInitConfig {
+
+    @Bean
+    public VersionedSchemaInitializer dataSourceScriptDatabaseInitializer(
+            DataSource dataSource,
+            SqlInitializationProperties properties,
+            @Value("${inventory.schema.location:classpath:schema.sql}") Resource schema) {
+        return new VersionedSchemaInitializer(dataSource, properties, schema);
+    }
+
+    @Bean
+    public static LazyInitializationExcludeFilter schemaInitializerEagerFilter() {
+        return LazyInitializationExcludeFilter.forBeanTypes(VersionedSchemaInitializer.class);
+    }
+}
@@ -0,0 +1,35 @@
+package com.dotconvertecs.smart_inventory_manager.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.sql.init.DatabaseInitializationMode;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Applies {@link ItemIndexMigration} after sql init, whether the script ran or the versioned
+ * initializer skipped it. It stays eager under lazy initialization, like the schema initializer.
+ */
+@Configuration
+public class SchemaMigrationConfig {
+
+    @Bean
+    @DependsOnDatabaseInitialization
+    public ItemIndexMigration itemIndexMigration(
+            DataSource dataSource,
+            @Value("${spring.sql.init.mode:embedded}") DatabaseInitializationMode mode) {
+        ItemIndexMigration migration = new ItemIndexMigration(dataSource);
+        if (mode != DatabaseInitializationMode.NEVER) {
+            migration.apply();
+        }
+        return migration;
+    }
+
+    @Bean
+    public static LazyInitializationExcludeFilter schemaMigrationEagerFilter() {
+        return LazyInitializationExcludeFilter.forBeanTypes(ItemIndexMigration.class);
+    }
+}
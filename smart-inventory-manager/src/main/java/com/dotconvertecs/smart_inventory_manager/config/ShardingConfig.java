@@ -0,0 +1,66 @@
+package com.dotconvertecs.smart_inventory_manager.config;
+
+import com.dotconvertecs.smart_inventory_manager.repository.impl.ShardedItemRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the single-database repository with {@link ShardedItemRepository} when
+ * {@code inventory.sharding.enabled} is set. The shard pools are not registered as
+ * {@link DataSource} beans, so {@code spring.datasource} stays the application's primary
+ * database.
+ */
+@Configuration
+@ConditionalOnProperty(name = "inventory.sharding.enabled", havingValue = "true")
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    @Bean(destroyMethod = "close")
+    public ShardDataSources shardDataSources(ShardingProperties properties) {
+        List<HikariDataSource> dataSources = new ArrayList<>();
+        for (int i = 0; i < properties.getShards().size(); i++) {
+            ShardingProperties.Shard shard = properties.getShards().get(i);
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("shard-" + i);
+            dataSource.setJdbcUrl(shard.getUrl());
+            dataSource.setUsername(shard.getUsername());
+            dataSource.setPassword(shard.getPassword());
+            dataSource.setMaximumPoolSize(shard.getMaximumPoolSize());
+            dataSources.add(dataSource);
+
+            if (properties.isInitializeSchema()) {
+                new ResourceDatabasePopulator(new ClassPathResource("schema.sql"),
+                        new ClassPathResource("shard-schema.sql")).execute(dataSource);
+                new ItemIndexMigration(dataSource).apply();
+            }
+        }
+        return new ShardDataSources(dataSources);
+    }
+
+    @Bean(destroyMethod = "close")
+    @Qualifier("itemStorage")
+    public ShardedItemRepository shardedItemRepository(ShardDataSources shardDataSources,
+                                                       ShardingProperties properties,
+                                                       @Value("${inventory.export.fetch-size:-2147483648}") int streamFetchSize) {
+        return new ShardedItemRepository(new ArrayList<>(shardDataSources.dataSources()), streamFetchSize,
+                properties.getIdBlockSize());
+    }
+
+    public record ShardDataSources(List<HikariDataSource> dataSources) implements AutoCloseable {
+        @Override
+        public void close() {
+            dataSources.forEach(HikariDataSource::close);
+        }
+    }
+}
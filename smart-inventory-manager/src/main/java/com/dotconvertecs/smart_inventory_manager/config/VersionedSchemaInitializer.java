@@ -0,0 +1,85 @@
+package com.dotconvertecs.smart_inventory_manager.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.sql.init.SqlDataSourceScriptDatabaseInitializer;
+import org.springframework.boot.autoconfigure.sql.init.SqlInitializationProperties;
+import org.springframework.boot.sql.init.DatabaseInitializationMode;
+import org.springframework.core.io.Resource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Runs {@code spring.sql.init} only when the schema script has changed since it was last applied.
+ * The script's SHA-256 is stored in {@code schema_version} after a successful run, so a restart
+ * against an up-to-date database costs a single select instead of every DDL statement.
+ */
+@Slf4j
+public class VersionedSchemaInitializer extends SqlDataSourceScriptDatabaseInitializer {
+
+    private static final String VERSION_SELECT = "SELECT checksum FROM schema_version WHERE id = 1";
+    private static final String VERSION_UPDATE = "UPDATE schema_version SET checksum = ?, applied_at = ? WHERE id = 1";
+    private static final String VERSION_INSERT = "INSERT INTO schema_version (id, checksum, applied_at) VALUES (1, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseInitializationMode mode;
+    private final String checksum;
+
+    public VersionedSchemaInitializer(DataSource dataSource, SqlInitializationProperties properties, Resource schema) {
+        super(dataSource, properties);
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.mode = properties.getMode();
+        this.checksum = checksum(schema);
+    }
+
+    @Override
+    public boolean initializeDatabase() {
+        if (mode == DatabaseInitializationMode.NEVER) {
+            return false;
+        }
+        if (checksum.equals(appliedChecksum())) {
+            log.info("Schema {} already applied, skipping sql init", checksum.substring(0, 12));
+            return false;
+        }
+        boolean initialized = super.initializeDatabase();
+        if (initialized) {
+            long now = System.currentTimeMillis();
+            if (jdbcTemplate.update(VERSION_UPDATE, checksum, now) == 0) {
+                jdbcTemplate.update(VERSION_INSERT, checksum, now);
+            }
+            log.info("Applied schema {}", checksum.substring(0, 12));
+        }
+        return initialized;
+    }
+
+    String checksum() {
+        return checksum;
+    }
+
+    private String appliedChecksum() {
+        try {
+            List<String> applied = jdbcTemplate.queryForList(VERSION_SELECT, String.class);
+            return applied.isEmpty() ? null : applied.getFirst();
+        } catch (DataAccessException e) {
+            return null;
+        }
+    }
+
+    private static String checksum(Resource schema) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(schema.getContentAsByteArray());
+            return HexFormat.of().formatHex(digest);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
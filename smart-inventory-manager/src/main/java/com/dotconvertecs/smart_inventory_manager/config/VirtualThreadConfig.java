@@ -0,0 +1,39 @@
+package com.dotconvertecs.smart_inventory_manager.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig implements WebMvcConfigurer {
+
+    private final int maxConcurrent;
+    private final Duration acquireTimeout;
+
+    public VirtualThreadConfig(@Value("${spring.datasource.hikari.maximum-pool-size:10}") int maxConcurrent,
+                               @Value("${spring.datasource.hikari.connection-timeout:30000}") long acquireTimeoutMillis) {
+        this.maxConcurrent = maxConcurrent;
+        this.acquireTimeout = Duration.ofMillis(acquireTimeoutMillis);
+    }
+
+    @Bean
+    public ConcurrencyLimitInterceptor concurrencyLimitInterceptor() {
+        return new ConcurrencyLimitInterceptor(maxConcurrent, acquireTimeout);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // an SSE subscription stays open for up to its timeout without a connection, so it would
+        // only sit on a permit
+        registry.addInterceptor(concurrencyLimitInterceptor())
+                .addPathPatterns("/api/**")
+                .excludePathPatterns("/api/items/low-stock/stream");
+    }
+}
@@ -0,0 +1,28 @@
+package com.dotconvertecs.smart_inventory_manager.controller;
+
+import com.dotconvertecs.smart_inventory_manager.model.dto.request.ItemBatchRequestDto;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemBatchResponseDto;
+import com.dotconvertecs.smart_inventory_manager.service.ItemBatchService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/items")
+@CrossOrigin(origins = "*")
+public class ItemBatchController {
+    private final ItemBatchService batchService;
+
+    @Autowired
+    public ItemBatchController(ItemBatchService batchService) {
+        this.batchService = batchService;
+    }
+
+
+    @PostMapping("/batch")
+    public ResponseEntity<ItemBatchResponseDto> processBatch(@Valid @RequestBody ItemBatchRequestDto request) {
+        ItemBatchResponseDto response = batchService.process(request);
+        return ResponseEntity.ok(response);
+    }
+}
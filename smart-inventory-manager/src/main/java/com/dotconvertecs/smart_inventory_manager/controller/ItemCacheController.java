@@ -0,0 +1,27 @@
+package com.dotconvertecs.smart_inventory_manager.controller;
+
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.CacheStatsResponseDto;
+import com.dotconvertecs.smart_inventory_manager.repository.impl.CachingItemRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/items/cache")
+@CrossOrigin(origins = "*")
+@ConditionalOnProperty(name = "inventory.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class ItemCacheController {
+    private final CachingItemRepository cachingRepository;
+
+    @Autowired
+    public ItemCacheController(CachingItemRepository cachingRepository) {
+        this.cachingRepository = cachingRepository;
+    }
+
+
+    @GetMapping("/stats")
+    public ResponseEntity<CacheStatsResponseDto> getStats() {
+        return ResponseEntity.ok(cachingRepository.stats());
+    }
+}
@@ -0,0 +1,40 @@
+package com.dotconvertecs.smart_inventory_manager.controller;
+
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemChangeDto;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemChangePageDto;
+import com.dotconvertecs.smart_inventory_manager.service.ItemChangeService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/items")
+@CrossOrigin(origins = "*", exposedHeaders = {ItemController.NEXT_CURSOR_HEADER, ItemChangeController.HEAD_HEADER})
+@ConditionalOnProperty(name = "inventory.journal.enabled", havingValue = "true")
+public class ItemChangeController {
+    public static final String HEAD_HEADER = "X-Journal-Head";
+
+    private final ItemChangeService changeService;
+
+    @Autowired
+    public ItemChangeController(ItemChangeService changeService) {
+        this.changeService = changeService;
+    }
+
+
+    @GetMapping("/changes")
+    public ResponseEntity<List<ItemChangeDto>> getChanges(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "1000") int limit) {
+        ItemChangePageDto page = changeService.getChanges(since, limit);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().header(HEAD_HEADER, String.valueOf(page.getHead()));
+        if (page.getNextCursor() != null) {
+            response.header(ItemController.NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getChanges());
+    }
+}
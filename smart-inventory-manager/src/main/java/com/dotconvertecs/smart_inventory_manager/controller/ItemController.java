@@ -1,56 +1,143 @@
 package com.dotconvertecs.smart_inventory_manager.controller;
 
+import com.dotconvertecs.smart_inventory_manager.bulkhead.Bulkhead;
+import com.dotconvertecs.smart_inventory_manager.bulkhead.Priority;
+import com.dotconvertecs.smart_inventory_manager.event.InventoryChangeCounter;
+import com.dotconvertecs.smart_inventory_manager.exception.custome.PreconditionFailedException;
 import com.dotconvertecs.smart_inventory_manager.model.dto.request.ItemRequestCreateDto;
 import com.dotconvertecs.smart_inventory_manager.model.dto.request.ItemRequestUpdateDto;
+import com.dotconvertecs.smart_inventory_manager.model.dto.request.StockAdjustmentRequestDto;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemJsonPage;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemJsonStream;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemPageResponseDto;
 import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemResponseDto;
 import com.dotconvertecs.smart_inventory_manager.service.ItemService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/items")
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = {ItemController.NEXT_CURSOR_HEADER, HttpHeaders.ETAG})
 public class ItemController {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final ItemService service;
+    private final InventoryChangeCounter changeCounter;
+    private final boolean jsonFastPath;
+    private final boolean listETags;
 
     @Autowired
-    public ItemController(ItemService service) {
+    public ItemController(ItemService service,
+                          InventoryChangeCounter changeCounter,
+                          @Value("${inventory.list.json-fast-path:false}") boolean jsonFastPath,
+                          @Value("${inventory.list.etags:false}") boolean listETags) {
         this.service = service;
+        this.changeCounter = changeCounter;
+        this.jsonFastPath = jsonFastPath;
+        this.listETags = listETags;
     }
 
 
     @GetMapping
-    public ResponseEntity<List<ItemResponseDto>> getAllItems(
+    @Bulkhead(value = "list", priority = Priority.BULK)
+    public ResponseEntity<?> getAllItems(
             @RequestParam(required = false) Double minPrice,
             @RequestParam(required = false) Double maxPrice,
             @RequestParam(defaultValue = "id") String sortBy,
-            @RequestParam(defaultValue = "asc") String order) {
-        List<ItemResponseDto> items = service.getAllItems(minPrice, maxPrice, sortBy, order);
-        return ResponseEntity.ok(items);
+            @RequestParam(defaultValue = "asc") String order,
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(required = false) String after,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String eTag = listETag("list", minPrice, maxPrice, sortBy, order, limit, after);
+        if (matchesETag(ifNoneMatch, eTag)) {
+            return notModified(eTag);
+        }
+        if (jsonFastPath) {
+            ItemJsonPage page = service.getAllItemsJson(minPrice, maxPrice, sortBy, order, limit, after);
+
+            ResponseEntity.BodyBuilder response = listResponse(eTag).contentType(MediaType.APPLICATION_JSON);
+            if (page.getNextCursor() != null) {
+                response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+            }
+            return response.body(page.getBody());
+        }
+        ItemPageResponseDto page = service.getAllItems(minPrice, maxPrice, sortBy, order, limit, after);
+
+        ResponseEntity.BodyBuilder response = listResponse(eTag);
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
+    }
+
+
+    @GetMapping("/search")
+    @Bulkhead(value = "search", priority = Priority.BULK)
+    public ResponseEntity<List<ItemResponseDto>> searchItems(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) String after) {
+        ItemPageResponseDto page = service.searchItems(q, limit, after);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
     }
 
 
     @GetMapping("/low-stock")
-    public ResponseEntity<List<ItemResponseDto>> getLowStockItems(
-            @RequestParam(defaultValue = "5") int threshold) {
+    @Bulkhead(value = "low-stock", priority = Priority.BULK)
+    public ResponseEntity<?> getLowStockItems(
+            @RequestParam(defaultValue = "5") int threshold,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String eTag = listETag("low-stock", threshold);
+        if (matchesETag(ifNoneMatch, eTag)) {
+            return notModified(eTag);
+        }
+        if (jsonFastPath) {
+            ItemJsonStream body = out -> service.writeLowStockItemsJson(threshold, out);
+            return listResponse(eTag).contentType(MediaType.APPLICATION_JSON).body(body);
+        }
         List<ItemResponseDto> items = service.getLowStockItems(threshold);
-        return ResponseEntity.ok(items);
+        return listResponse(eTag).body(items);
     }
 
 
     @GetMapping("/{id}")
-    public ResponseEntity<ItemResponseDto> getItemById(@PathVariable Long id) {
-        ItemResponseDto dto = service.getItemById(id);
-        return ResponseEntity.ok(dto);
+    @Bulkhead("get")
+    public ResponseEntity<ItemResponseDto> getItemById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Long knownVersion = parseVersion(ifNoneMatch);
+        if (knownVersion == null) {
+            ItemResponseDto dto = service.getItemById(id);
+            return ResponseEntity.ok().eTag(eTag(dto.getVersion())).body(dto);
+        }
+
+        Optional<ItemResponseDto> modified = service.getItemIfModified(id, knownVersion);
+        if (modified.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag(knownVersion)).build();
+        }
+        return ResponseEntity.ok().eTag(eTag(modified.get().getVersion())).body(modified.get());
     }
 
 
     @PostMapping
+    @Bulkhead("write")
     public ResponseEntity<ItemResponseDto> createItem(@Valid @RequestBody ItemRequestCreateDto dto) {
         ItemResponseDto created = service.createItem(dto);
 
@@ -59,17 +146,111 @@ public class ItemController {
 
 
     @PutMapping("/{id}")
+    @Bulkhead("write")
     public ResponseEntity<ItemResponseDto> updateItem(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody ItemRequestUpdateDto dto) {
-        ItemResponseDto updated = service.updateItem(id, dto);
-        return ResponseEntity.ok(updated);
+        ItemResponseDto updated = service.updateItem(id, dto, parseIfMatch(id, ifMatch));
+        return ResponseEntity.ok().eTag(eTag(updated.getVersion())).body(updated);
+    }
+
+    @PatchMapping("/{id}/stock")
+    @Bulkhead("write")
+    public ResponseEntity<ItemResponseDto> adjustStock(
+            @PathVariable Long id,
+            @Valid @RequestBody StockAdjustmentRequestDto dto) {
+        ItemResponseDto adjusted = service.adjustStock(id, dto.getDelta());
+        return ResponseEntity.ok(adjusted);
     }
 
     @DeleteMapping("/{id}")
+    @Bulkhead("write")
     public ResponseEntity<Void> deleteItem(@PathVariable Long id) {
         service.deleteItem(id);
 
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Weak tag for a collection response. The change counter is read before the query runs, so
+     * a write that commits during the query yields a newer tag on the next request. The counter
+     * only sees writes made through this instance, so with {@code inventory.list.etags=false}
+     * (for deployments with more than one instance) lists are sent untagged.
+     */
+    private String listETag(String view, Object... params) {
+        if (!listETags) {
+            return null;
+        }
+        int query = Objects.hash(view, Arrays.hashCode(params));
+        return "W/\"" + changeCounter.current() + "-" + Integer.toHexString(query) + "\"";
+    }
+
+    private static ResponseEntity.BodyBuilder listResponse(String eTag) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().cacheControl(CacheControl.noCache());
+        return eTag == null ? response : response.eTag(eTag);
+    }
+
+    private static ResponseEntity<Void> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(CacheControl.noCache()).build();
+    }
+
+    private static boolean matchesETag(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || eTag == null) {
+            return false;
+        }
+        String opaque = eTag.substring(2);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String eTag(Long version) {
+        return version == null ? null : "\"" + version + "\"";
+    }
+
+    /**
+     * If-Match uses strong comparison, so a weak tag never matches. Only a missing header or
+     * {@code *} leaves the update unconditional; any other value that is not a version tag fails
+     * the precondition.
+     */
+    private static Long parseIfMatch(Long id, String header) {
+        if (header == null || header.trim().equals("*")) {
+            return null;
+        }
+        String tag = header.trim();
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            try {
+                return Long.parseLong(tag.substring(1, tag.length() - 1));
+            } catch (NumberFormatException e) {
+                // not one of our tags, so it can't match the current version
+            }
+        }
+        throw new PreconditionFailedException("Item with id " + id + " does not match If-Match " + tag);
+    }
+
+    private static Long parseVersion(String header) {
+        if (header == null || header.isBlank() || header.trim().equals("*")) {
+            return null;
+        }
+        String tag = header.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        try {
+            return Long.parseLong(tag);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
 }
@@ -0,0 +1,36 @@
+package com.dotconvertecs.smart_inventory_manager.controller;
+
+import com.dotconvertecs.smart_inventory_manager.model.enums.ExportFormat;
+import com.dotconvertecs.smart_inventory_manager.service.ItemExportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/items")
+@CrossOrigin(origins = "*")
+public class ItemExportController {
+    private final ItemExportService exportService;
+
+    @Autowired
+    public ItemExportController(ItemExportService exportService) {
+        this.exportService = exportService;
+    }
+
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportItems(
+            @RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        StreamingResponseBody body = out -> exportService.export(exportFormat, out);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"items." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+}
@@ -0,0 +1,51 @@
+package com.dotconvertecs.smart_inventory_manager.controller;
+
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemImportJobDto;
+import com.dotconvertecs.smart_inventory_manager.service.ItemImportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+
+@RestController
+@RequestMapping("/api/items/import")
+@CrossOrigin(origins = "*")
+public class ItemImportController {
+    private final ItemImportService importService;
+
+    @Autowired
+    public ItemImportController(ItemImportService importService) {
+        this.importService = importService;
+    }
+
+
+    @PostMapping(consumes = "text/csv")
+    public ResponseEntity<ItemImportJobDto> importCsv(InputStream body) throws IOException {
+        return accepted(importService.submit(body));
+    }
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ItemImportJobDto> importCsvFile(@RequestParam("file") MultipartFile file) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            return accepted(importService.submit(in));
+        }
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ItemImportJobDto> getJob(@PathVariable String jobId) {
+        return importService.getJob(jobId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    private static ResponseEntity<ItemImportJobDto> accepted(ItemImportJobDto job) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/items/import/" + job.getId()))
+                .body(job);
+    }
+}
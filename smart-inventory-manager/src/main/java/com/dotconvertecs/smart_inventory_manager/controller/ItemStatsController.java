@@ -0,0 +1,25 @@
+package com.dotconvertecs.smart_inventory_manager.controller;
+
+import com.dotconvertecs.smart_inventory_manager.index.StockAggregates;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.InventoryStatsResponseDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/items")
+@CrossOrigin(origins = "*")
+public class ItemStatsController {
+    private final StockAggregates stockAggregates;
+
+    @Autowired
+    public ItemStatsController(StockAggregates stockAggregates) {
+        this.stockAggregates = stockAggregates;
+    }
+
+
+    @GetMapping("/stats")
+    public ResponseEntity<InventoryStatsResponseDto> getStats() {
+        return ResponseEntity.ok(stockAggregates.stats());
+    }
+}
@@ -0,0 +1,25 @@
+package com.dotconvertecs.smart_inventory_manager.controller;
+
+import com.dotconvertecs.smart_inventory_manager.service.LowStockStreamService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/items")
+@CrossOrigin(origins = "*")
+public class LowStockStreamController {
+    private final LowStockStreamService streamService;
+
+    @Autowired
+    public LowStockStreamController(LowStockStreamService streamService) {
+        this.streamService = streamService;
+    }
+
+
+    @GetMapping(path = "/low-stock/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamLowStock(@RequestParam(defaultValue = "5") int threshold) {
+        return streamService.subscribe(threshold);
+    }
+}
@@ -0,0 +1,27 @@
+package com.dotconvertecs.smart_inventory_manager.event;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonic counter of committed item changes, used to version collection responses.
+ * It starts from the startup time so tags handed out before a restart are not reused. It only
+ * counts writes made through this instance, so list ETags ({@code inventory.list.etags}, off by
+ * default) are only safe when a single instance serves the API.
+ */
+@Component
+public class InventoryChangeCounter {
+
+    private final AtomicLong counter = new AtomicLong(System.currentTimeMillis());
+
+    public long current() {
+        return counter.get();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        counter.incrementAndGet();
+    }
+}
@@ -0,0 +1,27 @@
+package com.dotconvertecs.smart_inventory_manager.event;
+
+import com.dotconvertecs.smart_inventory_manager.model.entity.Item;
+import com.dotconvertecs.smart_inventory_manager.model.enums.ItemChangeType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ItemChangedEvent {
+
+    private final ItemChangeType type;
+    private final Long id;
+    private final Item item;
+
+    public static ItemChangedEvent created(Item item) {
+        return new ItemChangedEvent(ItemChangeType.CREATED, item.getId(), item);
+    }
+
+    public static ItemChangedEvent updated(Item item) {
+        return new ItemChangedEvent(ItemChangeType.UPDATED, item.getId(), item);
+    }
+
+    public static ItemChangedEvent deleted(Long id) {
+        return new ItemChangedEvent(ItemChangeType.DELETED, id, null);
+    }
+}
@@ -0,0 +1,7 @@
+package com.dotconvertecs.smart_inventory_manager.exception.custome;
+
+public class InsufficientStockException extends RuntimeException {
+    public InsufficientStockException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.dotconvertecs.smart_inventory_manager.exception.custome;
+
+public class InvalidRequestException extends RuntimeException {
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.dotconvertecs.smart_inventory_manager.exception.custome;
+
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
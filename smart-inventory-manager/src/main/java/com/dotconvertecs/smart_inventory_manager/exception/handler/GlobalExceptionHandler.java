@@ -1,9 +1,18 @@
 package com.dotconvertecs.smart_inventory_manager.exception.handler;
 
 import com.dotconvertecs.smart_inventory_manager.model.dto.error.ErrorResponse;
+import com.dotconvertecs.smart_inventory_manager.exception.custome.InsufficientStockException;
+import com.dotconvertecs.smart_inventory_manager.exception.custome.InvalidRequestException;
 import com.dotconvertecs.smart_inventory_manager.exception.custome.ItemNotFoundException;
+import com.dotconvertecs.smart_inventory_manager.exception.custome.PreconditionFailedException;
+import com.dotconvertecs.smart_inventory_manager.exception.custome.ServiceUnavailableException;
+import com.dotconvertecs.smart_inventory_manager.exception.custome.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -14,8 +23,29 @@ import java.util.stream.Collectors;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private final Counter notFoundErrors;
+    private final Counter invalidRequestErrors;
+    private final Counter insufficientStockErrors;
+    private final Counter preconditionFailedErrors;
+    private final Counter serviceUnavailableErrors;
+    private final Counter tooManyRequestsErrors;
+    private final Counter validationErrors;
+    private final Counter unexpectedErrors;
+
+    public GlobalExceptionHandler(MeterRegistry registry) {
+        this.notFoundErrors = errorCounter(registry, "not_found");
+        this.invalidRequestErrors = errorCounter(registry, "invalid_request");
+        this.insufficientStockErrors = errorCounter(registry, "insufficient_stock");
+        this.preconditionFailedErrors = errorCounter(registry, "precondition_failed");
+        this.serviceUnavailableErrors = errorCounter(registry, "service_unavailable");
+        this.tooManyRequestsErrors = errorCounter(registry, "too_many_requests");
+        this.validationErrors = errorCounter(registry, "validation");
+        this.unexpectedErrors = errorCounter(registry, "unexpected");
+    }
+
     @ExceptionHandler(ItemNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleNotFound(ItemNotFoundException ex) {
+        notFoundErrors.increment();
         ErrorResponse error = new ErrorResponse(
                 LocalDateTime.now(),
                 HttpStatus.NOT_FOUND.value(),
@@ -23,9 +53,71 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidRequest(InvalidRequestException ex) {
+        invalidRequestErrors.increment();
+        ErrorResponse error = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.BAD_REQUEST.value(),
+                ex.getMessage());
+        return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(InsufficientStockException.class)
+    public ResponseEntity<ErrorResponse> handleInsufficientStock(InsufficientStockException ex) {
+        insufficientStockErrors.increment();
+        ErrorResponse error = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.CONFLICT.value(),
+                ex.getMessage());
+        return new ResponseEntity<>(error, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailed(PreconditionFailedException ex) {
+        preconditionFailedErrors.increment();
+        ErrorResponse error = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.PRECONDITION_FAILED.value(),
+                ex.getMessage());
+        return new ResponseEntity<>(error, HttpStatus.PRECONDITION_FAILED);
+    }
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailable(ServiceUnavailableException ex) {
+        serviceUnavailableErrors.increment();
+        ErrorResponse error = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                ex.getMessage());
+        if (ex.getRetryAfterSeconds() != null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                    .body(error);
+        }
+        return new ResponseEntity<>(error, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequests(TooManyRequestsException ex) {
+        tooManyRequestsErrors.increment();
+        ErrorResponse error = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                ex.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(error);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidation(MethodArgumentNotValidException ex) {
-        String message = ex.getBindingResult().getFieldErrors().stream()
+        return validationFailed(ex.getBindingResult());
+    }
+
+    protected ResponseEntity<ErrorResponse> validationFailed(BindingResult bindingResult) {
+        validationErrors.increment();
+        String message = bindingResult.getFieldErrors().stream()
                 .map(err -> err.getField() + ": " + err.getDefaultMessage())
                 .collect(Collectors.joining("; "));
         ErrorResponse error = new ErrorResponse(
@@ -38,11 +130,17 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleAll(Exception ex) {
+        unexpectedErrors.increment();
         ErrorResponse error = new ErrorResponse(
                 LocalDateTime.now(),
                 HttpStatus.INTERNAL_SERVER_ERROR.value(),
                 "An unexpected error occurred");
         return new ResponseEntity<>(error, HttpStatus.INTERNAL_SERVER_ERROR);
     }
-}
 
+    private static Counter errorCounter(MeterRegistry registry, String type) {
+        return Counter.builder("inventory.errors")
+                .tag("type", type)
+                .register(registry);
+    }
+}
@@ -0,0 +1,156 @@
+package com.dotconvertecs.smart_inventory_manager.index;
+
+import java.util.Arrays;
+import java.util.function.LongPredicate;
+
+/**
+ * Ordered set of item ids. Small sets are a sorted array; once the array would take more memory
+ * than a bitmap covering ids up to the largest one, the set switches to a bitmap.
+ */
+final class IdSet {
+
+    private static final int MIN_BITMAP_SIZE = 1024;
+
+    private long[] ids;
+    private long[] words;
+    private int size;
+
+    IdSet() {
+        this.ids = new long[2];
+    }
+
+    private IdSet(long[] ids, int size) {
+        this.ids = ids;
+        this.size = size;
+        convertIfDense();
+    }
+
+    /**
+     * Builds a set from the first {@code size} entries of {@code ids}, sorting and removing
+     * duplicates in place when needed. The array is owned by the set afterwards.
+     */
+    static IdSet of(long[] ids, int size) {
+        boolean sorted = true;
+        for (int i = 1; i < size && sorted; i++) {
+            sorted = ids[i - 1] < ids[i];
+        }
+        if (!sorted) {
+            Arrays.sort(ids, 0, size);
+            int unique = 0;
+            for (int i = 0; i < size; i++) {
+                if (unique == 0 || ids[unique - 1] != ids[i]) {
+                    ids[unique++] = ids[i];
+                }
+            }
+            size = unique;
+        }
+        return new IdSet(size == 0 ? new long[2] : ids, size);
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    boolean contains(long id) {
+        if (words != null) {
+            int word = (int) (id >>> 6);
+            return id >= 0 && word < words.length && (words[word] & (1L << id)) != 0;
+        }
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    void add(long id) {
+        if (words != null) {
+            int word = (int) (id >>> 6);
+            if (word >= words.length) {
+                words = Arrays.copyOf(words, Math.max(word + 1, words.length + (words.length >> 1)));
+            }
+            long bit = 1L << id;
+            if ((words[word] & bit) == 0) {
+                words[word] |= bit;
+                size++;
+            }
+            return;
+        }
+
+        int position;
+        if (size == 0 || ids[size - 1] < id) {
+            position = size;
+        } else {
+            position = Arrays.binarySearch(ids, 0, size, id);
+            if (position >= 0) {
+                return;
+            }
+            position = -position - 1;
+        }
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size << 1);
+        }
+        System.arraycopy(ids, position, ids, position + 1, size - position);
+        ids[position] = id;
+        size++;
+        convertIfDense();
+    }
+
+    void remove(long id) {
+        if (words != null) {
+            int word = (int) (id >>> 6);
+            long bit = 1L << id;
+            if (id >= 0 && word < words.length && (words[word] & bit) != 0) {
+                words[word] &= ~bit;
+                size--;
+            }
+            return;
+        }
+
+        int position = Arrays.binarySearch(ids, 0, size, id);
+        if (position >= 0) {
+            System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+            size--;
+        }
+    }
+
+    /**
+     * Visits ids in ascending order until {@code action} returns {@code false}.
+     */
+    void forEach(LongPredicate action) {
+        if (words != null) {
+            for (int w = 0; w < words.length; w++) {
+                long word = words[w];
+                while (word != 0) {
+                    long id = ((long) w << 6) + Long.numberOfTrailingZeros(word);
+                    if (!action.test(id)) {
+                        return;
+                    }
+                    word &= word - 1;
+                }
+            }
+            return;
+        }
+        for (int i = 0; i < size; i++) {
+            if (!action.test(ids[i])) {
+                return;
+            }
+        }
+    }
+
+    private void convertIfDense() {
+        if (size < MIN_BITMAP_SIZE) {
+            return;
+        }
+        long max = ids[size - 1];
+        if (ids[0] < 0 || max > Integer.MAX_VALUE || (long) size << 6 <= max) {
+            return;
+        }
+        long[] bitmap = new long[(int) (max >>> 6) + 1];
+        for (int i = 0; i < size; i++) {
+            bitmap[(int) (ids[i] >>> 6)] |= 1L << ids[i];
+        }
+        words = bitmap;
+        ids = null;
+    }
+}
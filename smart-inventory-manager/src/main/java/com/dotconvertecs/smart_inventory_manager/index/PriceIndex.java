@@ -0,0 +1,291 @@
+package com.dotconvertecs.smart_inventory_manager.index;
+
+import com.dotconvertecs.smart_inventory_manager.event.ItemChangedEvent;
+import com.dotconvertecs.smart_inventory_manager.model.enums.ItemChangeType;
+import com.dotconvertecs.smart_inventory_manager.model.query.ItemCursor;
+import com.dotconvertecs.smart_inventory_manager.model.query.ItemQuery;
+import com.dotconvertecs.smart_inventory_manager.repository.ItemRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory (price, id) index used to answer price-range listings with binary searches.
+ * Entries are kept in two pairs of parallel primitive arrays: one ordered by (price, id)
+ * for range scans and one ordered by id to find the current price of an item on update/delete.
+ */
+@Slf4j
+@Component
+public class PriceIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final ItemRepository repository;
+    private final boolean enabled;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private double[] prices = new double[0];
+    private long[] ids = new long[0];
+    private long[] idKeys = new long[0];
+    private double[] idPrices = new double[0];
+    private int size;
+
+    private List<ItemChangedEvent> pendingDuringRebuild;
+    private volatile boolean ready;
+
+    public PriceIndex(ItemRepository repository,
+                      @Value("${inventory.price-index.enabled:false}") boolean enabled) {
+        this.repository = repository;
+        this.enabled = enabled;
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.price-index.check-interval:PT10M}",
+            initialDelayString = "${inventory.price-index.check-interval:PT10M}")
+    public void scheduledConsistencyCheck() {
+        if (!isReady()) {
+            return;
+        }
+        int mismatches = rebuild();
+        if (mismatches > 0) {
+            log.warn("Price index was out of sync with the database for {} items and has been rebuilt", mismatches);
+        }
+    }
+
+    public int rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Loader loader = new Loader();
+        try {
+            repository.streamPrices(loader::add);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        int loaded = loader.size;
+        long[] loadedIdKeys = Arrays.copyOf(loader.ids, loader.ids.length);
+        Arrays.sort(loadedIdKeys, 0, loaded);
+        double[] loadedIdPrices = new double[loader.ids.length];
+        for (int i = 0; i < loaded; i++) {
+            loadedIdPrices[Arrays.binarySearch(loadedIdKeys, 0, loaded, loader.ids[i])] = loader.prices[i];
+        }
+
+        lock.writeLock().lock();
+        try {
+            long[] previousIdKeys = idKeys;
+            double[] previousIdPrices = idPrices;
+            int previousSize = size;
+            boolean compare = ready;
+
+            prices = loader.prices;
+            ids = loader.ids;
+            idKeys = loadedIdKeys;
+            idPrices = loadedIdPrices;
+            size = loaded;
+            for (ItemChangedEvent event : pendingDuringRebuild) {
+                apply(event);
+            }
+            pendingDuringRebuild = null;
+            ready = true;
+
+            return compare ? countMismatches(previousIdKeys, previousIdPrices, previousSize) : 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(event);
+            }
+            apply(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public long[] range(ItemQuery query) {
+        lock.readLock().lock();
+        try {
+            long[] result = new long[Math.min(query.getLimit(), size)];
+            int count = 0;
+            ItemCursor after = query.getAfter();
+
+            int low = query.getMinPrice() == null ? 0 : position(query.getMinPrice(), Long.MIN_VALUE);
+            int high = query.getMaxPrice() == null ? size : position(query.getMaxPrice(), Long.MAX_VALUE);
+
+            if (!query.isDescending()) {
+                if (after != null) {
+                    low = Math.max(low, position(after.getPrice(), after.getId() + 1));
+                }
+                for (int i = low; i < high && count < result.length; i++) {
+                    result[count++] = ids[i];
+                }
+            } else {
+                if (after != null) {
+                    high = Math.min(high, position(after.getPrice(), after.getId()));
+                }
+                for (int i = high - 1; i >= low && count < result.length; i--) {
+                    result[count++] = ids[i];
+                }
+            }
+            return count == result.length ? result : Arrays.copyOf(result, count);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void put(long id, double price) {
+        remove(id);
+        ensureCapacity(size + 1);
+
+        int pricePosition = position(price, id);
+        System.arraycopy(prices, pricePosition, prices, pricePosition + 1, size - pricePosition);
+        System.arraycopy(ids, pricePosition, ids, pricePosition + 1, size - pricePosition);
+        prices[pricePosition] = price;
+        ids[pricePosition] = id;
+
+        int idPosition = -Arrays.binarySearch(idKeys, 0, size, id) - 1;
+        System.arraycopy(idKeys, idPosition, idKeys, idPosition + 1, size - idPosition);
+        System.arraycopy(idPrices, idPosition, idPrices, idPosition + 1, size - idPosition);
+        idKeys[idPosition] = id;
+        idPrices[idPosition] = price;
+
+        size++;
+    }
+
+    void remove(long id) {
+        int idPosition = Arrays.binarySearch(idKeys, 0, size, id);
+        if (idPosition < 0) {
+            return;
+        }
+        int pricePosition = position(idPrices[idPosition], id);
+
+        System.arraycopy(idKeys, idPosition + 1, idKeys, idPosition, size - idPosition - 1);
+        System.arraycopy(idPrices, idPosition + 1, idPrices, idPosition, size - idPosition - 1);
+        System.arraycopy(prices, pricePosition + 1, prices, pricePosition, size - pricePosition - 1);
+        System.arraycopy(ids, pricePosition + 1, ids, pricePosition, size - pricePosition - 1);
+
+        size--;
+    }
+
+    private void apply(ItemChangedEvent event) {
+        if (event.getType() == ItemChangeType.DELETED) {
+            remove(event.getId());
+        } else {
+            put(event.getId(), event.getItem().getPrice());
+        }
+    }
+
+    private int position(double price, long id) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int cmp = Double.compare(prices[mid], price);
+            if (cmp == 0) {
+                cmp = Long.compare(ids[mid], id);
+            }
+            if (cmp < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= prices.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, Math.max(INITIAL_CAPACITY, prices.length + (prices.length >> 1)));
+        prices = Arrays.copyOf(prices, newCapacity);
+        ids = Arrays.copyOf(ids, newCapacity);
+        idKeys = Arrays.copyOf(idKeys, newCapacity);
+        idPrices = Arrays.copyOf(idPrices, newCapacity);
+    }
+
+    private int countMismatches(long[] previousIdKeys, double[] previousIdPrices, int previousSize) {
+        int mismatches = 0;
+        int i = 0;
+        int j = 0;
+        while (i < previousSize || j < size) {
+            if (j >= size || (i < previousSize && previousIdKeys[i] < idKeys[j])) {
+                mismatches++;
+                i++;
+            } else if (i >= previousSize || idKeys[j] < previousIdKeys[i]) {
+                mismatches++;
+                j++;
+            } else {
+                if (Double.compare(previousIdPrices[i], idPrices[j]) != 0) {
+                    mismatches++;
+                }
+                i++;
+                j++;
+            }
+        }
+        return mismatches;
+    }
+
+    private static class Loader {
+        private long[] ids = new long[INITIAL_CAPACITY];
+        private double[] prices = new double[INITIAL_CAPACITY];
+        private int size;
+
+        void add(long id, double price) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size + (size >> 1));
+                prices = Arrays.copyOf(prices, size + (size >> 1));
+            }
+            ids[size] = id;
+            prices[size] = price;
+            size++;
+        }
+    }
+}
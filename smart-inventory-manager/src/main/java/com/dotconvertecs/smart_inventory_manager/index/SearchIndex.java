@@ -0,0 +1,536 @@
+package com.dotconvertecs.smart_inventory_manager.index;
+
+import com.dotconvertecs.smart_inventory_manager.event.ItemChangedEvent;
+import com.dotconvertecs.smart_inventory_manager.model.entity.Item;
+import com.dotconvertecs.smart_inventory_manager.model.enums.ItemChangeType;
+import com.dotconvertecs.smart_inventory_manager.repository.ItemRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+/**
+ * In-memory inverted index over item names and descriptions. Every term is indexed under each of
+ * its prefixes up to {@link #MAX_PREFIX} characters, so a typeahead query is one hash lookup per
+ * query term. Longer query terms are looked up by their first {@link #MAX_PREFIX} characters and
+ * verified against the terms stored per item.
+ * <p>
+ * A match in the name scores {@value #NAME_SCORE}, a match only in the description scores
+ * {@value #DESCRIPTION_SCORE}. Every query term must match. Results are ordered by total score,
+ * then by id.
+ */
+@Slf4j
+@Component
+public class SearchIndex {
+
+    static final int MAX_PREFIX = 10;
+    static final int NAME_SCORE = 2;
+    static final int DESCRIPTION_SCORE = 1;
+    static final int BATCH_SIZE = 4096;
+    private static final int MAX_QUERY_TERMS = 8;
+    private static final String[] NO_TERMS = new String[0];
+
+    private final ItemRepository repository;
+    private final boolean enabled;
+    private final int parallelism;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<String, Postings> postings = new HashMap<>();
+    private Map<Long, Document> documents = new HashMap<>();
+
+    private List<ItemChangedEvent> pendingDuringRebuild;
+    private volatile boolean ready;
+
+    public SearchIndex(ItemRepository repository,
+                       @Value("${inventory.search-index.enabled:false}") boolean enabled,
+                       @Value("${inventory.search-index.parallelism:0}") int parallelism) {
+        this.repository = repository;
+        this.enabled = enabled;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Built built;
+        try {
+            long started = System.nanoTime();
+            built = build();
+            log.info("Search index built over {} items in {} ms", built.documents.size(),
+                    (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings = built.postings;
+            documents = built.documents;
+            for (ItemChangedEvent event : pendingDuringRebuild) {
+                apply(event);
+            }
+            pendingDuringRebuild = null;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(event);
+            }
+            apply(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} ids of matching items, skipping the first {@code offset} results.
+     */
+    public long[] search(String query, int offset, int limit) {
+        List<String> tokens = queryTokens(query);
+        if (tokens.isEmpty() || limit <= 0) {
+            return new long[0];
+        }
+
+        lock.readLock().lock();
+        try {
+            QueryTerm[] terms = new QueryTerm[tokens.size()];
+            for (int i = 0; i < terms.length; i++) {
+                String token = tokens.get(i);
+                Postings matches = postings.get(token.length() > MAX_PREFIX ? token.substring(0, MAX_PREFIX) : token);
+                if (matches == null) {
+                    return new long[0];
+                }
+                terms[i] = new QueryTerm(token, matches, token.length() > MAX_PREFIX);
+            }
+
+            return terms.length == 1 && !terms[0].verify
+                    ? searchSingle(terms[0].postings, offset, limit)
+                    : searchAll(terms, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static String[] terms(String text) {
+        if (text == null || text.isEmpty()) {
+            return NO_TERMS;
+        }
+        Set<String> terms = new LinkedHashSet<>();
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean wordChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                terms.add(lower.substring(start, i));
+                start = -1;
+            }
+        }
+        return terms.toArray(NO_TERMS);
+    }
+
+    private static List<String> queryTokens(String query) {
+        String[] terms = terms(query);
+        return Arrays.asList(terms).subList(0, Math.min(terms.length, MAX_QUERY_TERMS));
+    }
+
+    /**
+     * Single prefix query: every name match outranks every description-only match and both
+     * tiers are already in id order, so the page is read directly from the posting lists.
+     */
+    private long[] searchSingle(Postings matches, int offset, int limit) {
+        long[] page = new long[limit];
+        int[] position = {0, 0};
+        matches.name.forEach(id -> {
+            if (position[0]++ >= offset) {
+                page[position[1]++] = id;
+            }
+            return position[1] < limit;
+        });
+        if (position[1] < limit) {
+            matches.description.forEach(id -> {
+                if (!matches.name.contains(id) && position[0]++ >= offset) {
+                    page[position[1]++] = id;
+                }
+                return position[1] < limit;
+            });
+        }
+        return position[1] == limit ? page : Arrays.copyOf(page, position[1]);
+    }
+
+    private long[] searchAll(QueryTerm[] terms, int offset, int limit) {
+        QueryTerm driver = terms[0];
+        for (QueryTerm term : terms) {
+            if (term.postings.size() < driver.postings.size()) {
+                driver = term;
+            }
+        }
+
+        TopScores top = new TopScores(offset + limit);
+        driver.postings.name.forEach(id -> {
+            score(terms, id, top);
+            return true;
+        });
+        IdSet driverNames = driver.postings.name;
+        driver.postings.description.forEach(id -> {
+            if (!driverNames.contains(id)) {
+                score(terms, id, top);
+            }
+            return true;
+        });
+        return top.page(offset);
+    }
+
+    private void score(QueryTerm[] terms, long id, TopScores top) {
+        Document document = null;
+        int total = 0;
+        for (QueryTerm term : terms) {
+            if (term.verify && document == null) {
+                document = documents.get(id);
+                if (document == null) {
+                    return;
+                }
+            }
+            if (term.postings.name.contains(id) && (!term.verify || term.matchesAny(document.nameTerms))) {
+                total += NAME_SCORE;
+            } else if (term.postings.description.contains(id) && (!term.verify || term.matchesAny(document.descriptionTerms))) {
+                total += DESCRIPTION_SCORE;
+            } else {
+                return;
+            }
+        }
+        top.offer(total, id);
+    }
+
+    private void apply(ItemChangedEvent event) {
+        unindex(event.getId());
+        if (event.getType() != ItemChangeType.DELETED) {
+            Item item = event.getItem();
+            Document document = new Document(terms(item.getName()), terms(item.getDescription()));
+            documents.put(event.getId(), document);
+            forEachPrefix(document.nameTerms, key -> postings.computeIfAbsent(key, k -> new Postings()).name.add(event.getId()));
+            forEachPrefix(document.descriptionTerms, key -> postings.computeIfAbsent(key, k -> new Postings()).description.add(event.getId()));
+        }
+    }
+
+    private void unindex(long id) {
+        Document document = documents.remove(id);
+        if (document == null) {
+            return;
+        }
+        forEachPrefix(document.nameTerms, key -> removeFrom(key, id, true));
+        forEachPrefix(document.descriptionTerms, key -> removeFrom(key, id, false));
+    }
+
+    private void removeFrom(String key, long id, boolean name) {
+        Postings matches = postings.get(key);
+        if (matches == null) {
+            return;
+        }
+        (name ? matches.name : matches.description).remove(id);
+        if (matches.name.isEmpty() && matches.description.isEmpty()) {
+            postings.remove(key);
+        }
+    }
+
+    private static void forEachPrefix(String[] terms, Consumer<String> action) {
+        for (String term : terms) {
+            int longest = Math.min(term.length(), MAX_PREFIX);
+            for (int length = 1; length <= longest; length++) {
+                action.accept(term.substring(0, length));
+            }
+        }
+    }
+
+    /**
+     * Reads items in batches of {@value #BATCH_SIZE} and tokenizes each batch on the common pool
+     * while the next one is read. Only the id, name and description of the batches in flight are
+     * held; at most {@code parallelism} batches are queued before the reader waits. The per-batch
+     * posting lists are then merged in parallel, one hash partition of the prefix keys per task.
+     */
+    private Built build() {
+        Semaphore inFlight = new Semaphore(parallelism);
+        List<CompletableFuture<Chunk>> pending = new ArrayList<>();
+        Batch[] batch = {new Batch()};
+        repository.streamAll(item -> {
+            batch[0].add(item);
+            if (batch[0].size == BATCH_SIZE) {
+                pending.add(tokenize(batch[0], inFlight));
+                batch[0] = new Batch();
+            }
+        });
+        if (batch[0].size > 0) {
+            pending.add(tokenize(batch[0], inFlight));
+        }
+
+        List<Chunk> built = pending.stream().map(CompletableFuture::join).toList();
+        int partitions = Math.max(1, Math.min(parallelism, built.size()));
+
+        List<Map<String, Postings>> merged = IntStream.range(0, partitions).parallel()
+                .mapToObj(partition -> merge(built, partition, partitions))
+                .toList();
+
+        Map<String, Postings> postings = new HashMap<>();
+        merged.forEach(postings::putAll);
+
+        int total = built.stream().mapToInt(chunk -> chunk.ids.length).sum();
+        Map<Long, Document> loaded = new HashMap<>(total * 4 / 3 + 1);
+        for (Chunk chunk : built) {
+            for (int i = 0; i < chunk.ids.length; i++) {
+                loaded.put(chunk.ids[i], chunk.documents[i]);
+            }
+        }
+        return new Built(postings, loaded);
+    }
+
+    private static CompletableFuture<Chunk> tokenize(Batch batch, Semaphore inFlight) {
+        inFlight.acquireUninterruptibly();
+        return CompletableFuture.supplyAsync(() -> new Chunk(batch))
+                .whenComplete((chunk, failure) -> inFlight.release());
+    }
+
+    private static Map<String, Postings> merge(List<Chunk> chunks, int partition, int partitions) {
+        Map<String, LongList[]> lists = new HashMap<>();
+        for (Chunk chunk : chunks) {
+            chunk.lists.forEach((key, chunkLists) -> {
+                if (Math.floorMod(key.hashCode(), partitions) == partition) {
+                    LongList[] target = lists.computeIfAbsent(key, k -> new LongList[]{new LongList(), new LongList()});
+                    target[0].addAll(chunkLists[0]);
+                    target[1].addAll(chunkLists[1]);
+                }
+            });
+        }
+
+        Map<String, Postings> result = new HashMap<>(lists.size() * 4 / 3 + 1);
+        lists.forEach((key, pair) -> result.put(key, new Postings(
+                IdSet.of(pair[0].values, pair[0].size),
+                IdSet.of(pair[1].values, pair[1].size))));
+        return result;
+    }
+
+    private record Document(String[] nameTerms, String[] descriptionTerms) {
+    }
+
+    private record Built(Map<String, Postings> postings, Map<Long, Document> documents) {
+    }
+
+    private record QueryTerm(String token, Postings postings, boolean verify) {
+
+        boolean matchesAny(String[] terms) {
+            for (String term : terms) {
+                if (term.startsWith(token)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class Postings {
+        private final IdSet name;
+        private final IdSet description;
+
+        Postings() {
+            this(new IdSet(), new IdSet());
+        }
+
+        Postings(IdSet name, IdSet description) {
+            this.name = name;
+            this.description = description;
+        }
+
+        int size() {
+            return name.size() + description.size();
+        }
+    }
+
+    private static final class Batch {
+        private final long[] ids = new long[BATCH_SIZE];
+        private final String[] names = new String[BATCH_SIZE];
+        private final String[] descriptions = new String[BATCH_SIZE];
+        private int size;
+
+        void add(Item item) {
+            ids[size] = item.getId();
+            names[size] = item.getName();
+            descriptions[size] = item.getDescription();
+            size++;
+        }
+    }
+
+    private static final class Chunk {
+        private final long[] ids;
+        private final Document[] documents;
+        private final Map<String, LongList[]> lists = new HashMap<>();
+
+        Chunk(Batch batch) {
+            this.ids = Arrays.copyOf(batch.ids, batch.size);
+            this.documents = new Document[batch.size];
+            for (int i = 0; i < batch.size; i++) {
+                Document document = new Document(terms(batch.names[i]), terms(batch.descriptions[i]));
+                documents[i] = document;
+                long id = ids[i];
+                forEachPrefix(document.nameTerms, key -> listsFor(key)[0].addDistinct(id));
+                forEachPrefix(document.descriptionTerms, key -> listsFor(key)[1].addDistinct(id));
+            }
+        }
+
+        private LongList[] listsFor(String key) {
+            return lists.computeIfAbsent(key, k -> new LongList[]{new LongList(), new LongList()});
+        }
+    }
+
+    private static final class LongList {
+        private long[] values = new long[4];
+        private int size;
+
+        void addDistinct(long value) {
+            if (size > 0 && values[size - 1] == value) {
+                return;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size << 1);
+            }
+            values[size++] = value;
+        }
+
+        void addAll(LongList other) {
+            if (size + other.size > values.length) {
+                values = Arrays.copyOf(values, Math.max(size + other.size, size << 1));
+            }
+            System.arraycopy(other.values, 0, values, size, other.size);
+            size += other.size;
+        }
+    }
+
+    /**
+     * Bounded min-heap of (score, id) pairs packed into one long so that a larger value is a
+     * better result: higher score first, then lower id.
+     */
+    private static final class TopScores {
+        private static final long ID_MASK = (1L << 48) - 1;
+
+        private final long[] heap;
+        private int size;
+
+        TopScores(int capacity) {
+            this.heap = new long[capacity];
+        }
+
+        void offer(int score, long id) {
+            long packed = ((long) score << 48) | (ID_MASK - id);
+            if (size < heap.length) {
+                heap[size] = packed;
+                siftUp(size++);
+            } else if (heap.length > 0 && packed > heap[0]) {
+                heap[0] = packed;
+                siftDown(0);
+            }
+        }
+
+        long[] page(int offset) {
+            long[] sorted = Arrays.copyOf(heap, size);
+            Arrays.sort(sorted);
+            int count = Math.max(0, size - offset);
+            long[] ids = new long[count];
+            for (int i = 0; i < count; i++) {
+                ids[i] = ID_MASK - (sorted[size - 1 - offset - i] & ID_MASK);
+            }
+            return ids;
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (heap[parent] <= heap[index]) {
+                    return;
+                }
+                swap(parent, index);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int smallest = index;
+                int left = 2 * index + 1;
+                int right = left + 1;
+                if (left < size && heap[left] < heap[smallest]) {
+                    smallest = left;
+                }
+                if (right < size && heap[right] < heap[smallest]) {
+                    smallest = right;
+                }
+                if (smallest == index) {
+                    return;
+                }
+                swap(smallest, index);
+                index = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            long tmp = heap[a];
+            heap[a] = heap[b];
+            heap[b] = tmp;
+        }
+    }
+}
@@ -0,0 +1,396 @@
+package com.dotconvertecs.smart_inventory_manager.index;
+
+import com.dotconvertecs.smart_inventory_manager.event.ItemChangedEvent;
+import com.dotconvertecs.smart_inventory_manager.exception.custome.ServiceUnavailableException;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.HistogramBucketDto;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.InventoryStatsResponseDto;
+import com.dotconvertecs.smart_inventory_manager.model.enums.ItemChangeType;
+import com.dotconvertecs.smart_inventory_manager.repository.ItemRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Running inventory totals and histograms. Each item's last known (quantity, price) is kept in
+ * striped primitive hash tables, so a change only touches its own stripe and adjusts the
+ * striped adders by the difference. Totals are seeded by one scan at startup and replaced by a
+ * fresh scan on every reconciliation.
+ */
+@Slf4j
+@Component
+public class StockAggregates {
+
+    static final double[] PRICE_BOUNDS = {10, 50, 100, 500, 1000, 5000};
+    static final int[] QUANTITY_BOUNDS = {1, 6, 21, 101, 501};
+
+    private static final int STRIPES = 64;
+
+    private final ItemRepository repository;
+    private final boolean enabled;
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+    private volatile Totals totals;
+    private volatile ConcurrentLinkedQueue<ItemChangedEvent> pendingDuringRebuild;
+
+    public StockAggregates(ItemRepository repository,
+                           @Value("${inventory.stats.enabled:true}") boolean enabled) {
+        this.repository = repository;
+        this.enabled = enabled;
+    }
+
+    public boolean isReady() {
+        return enabled && totals != null;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.stats.reconcile-interval:PT10M}",
+            initialDelayString = "${inventory.stats.reconcile-interval:PT10M}")
+    public void scheduledReconcile() {
+        if (isReady()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Replaces the totals with a fresh scan. Changes that arrive during the scan are replayed onto
+     * it before the swap, so the scan and the running totals describe the same moment there and
+     * any difference between them is real drift rather than writes the scan raced with.
+     *
+     * @return whether the running totals had drifted from the database
+     */
+    public boolean rebuild() {
+        pendingDuringRebuild = new ConcurrentLinkedQueue<>();
+        Totals loaded = new Totals();
+        try {
+            repository.streamAll(item -> loaded.put(item.getId(), item.getQuantity(), item.getPrice()));
+        } catch (RuntimeException e) {
+            pendingDuringRebuild = null;
+            throw e;
+        }
+
+        Totals previous;
+        swapLock.writeLock().lock();
+        try {
+            for (ItemChangedEvent event : pendingDuringRebuild) {
+                loaded.apply(event);
+            }
+            pendingDuringRebuild = null;
+            previous = totals;
+            totals = loaded;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+
+        boolean drifted = previous != null
+                && (previous.count.sum() != loaded.count.sum() || previous.units.sum() != loaded.units.sum());
+        if (drifted) {
+            log.warn("Inventory aggregates drifted from the database (items {} -> {}, units {} -> {}) and have been reconciled",
+                    previous.count.sum(), loaded.count.sum(), previous.units.sum(), loaded.units.sum());
+        }
+        return drifted;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        swapLock.readLock().lock();
+        try {
+            ConcurrentLinkedQueue<ItemChangedEvent> pending = pendingDuringRebuild;
+            if (pending != null) {
+                pending.add(event);
+            }
+            Totals current = totals;
+            if (current != null) {
+                current.apply(event);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    public InventoryStatsResponseDto stats() {
+        Totals current = totals;
+        if (!enabled || current == null) {
+            throw new ServiceUnavailableException("Inventory statistics are not available");
+        }
+
+        long count = current.count.sum();
+        double[] extremes = current.extremes();
+        return InventoryStatsResponseDto.builder()
+                .itemCount(count)
+                .totalUnits(current.units.sum())
+                .totalValue(current.value.sum())
+                .minPrice(count == 0 ? null : extremes[0])
+                .maxPrice(count == 0 ? null : extremes[1])
+                .avgPrice(count == 0 ? null : current.priceSum.sum() / count)
+                .priceHistogram(histogram(current.priceHistogram, PRICE_BOUNDS))
+                .quantityHistogram(histogram(current.quantityHistogram,
+                        Arrays.stream(QUANTITY_BOUNDS).asDoubleStream().toArray()))
+                .build();
+    }
+
+    private static List<HistogramBucketDto> histogram(LongAdder[] counts, double[] bounds) {
+        List<HistogramBucketDto> buckets = new ArrayList<>(counts.length);
+        for (int i = 0; i < counts.length; i++) {
+            buckets.add(new HistogramBucketDto(
+                    i == 0 ? 0.0 : bounds[i - 1],
+                    i == bounds.length ? null : bounds[i],
+                    counts[i].sum()));
+        }
+        return buckets;
+    }
+
+    static int priceBucket(double price) {
+        int bucket = 0;
+        while (bucket < PRICE_BOUNDS.length && price >= PRICE_BOUNDS[bucket]) {
+            bucket++;
+        }
+        return bucket;
+    }
+
+    static int quantityBucket(int quantity) {
+        int bucket = 0;
+        while (bucket < QUANTITY_BOUNDS.length && quantity >= QUANTITY_BOUNDS[bucket]) {
+            bucket++;
+        }
+        return bucket;
+    }
+
+    private static final class Totals {
+
+        private final Stripe[] stripes = new Stripe[STRIPES];
+        private final LongAdder count = new LongAdder();
+        private final LongAdder units = new LongAdder();
+        private final DoubleAdder value = new DoubleAdder();
+        private final DoubleAdder priceSum = new DoubleAdder();
+        private final LongAdder[] priceHistogram = adders(PRICE_BOUNDS.length + 1);
+        private final LongAdder[] quantityHistogram = adders(QUANTITY_BOUNDS.length + 1);
+
+        // min/max cannot be maintained in O(1) under removals; a change at either end marks them stale
+        private final AtomicBoolean extremesStale = new AtomicBoolean();
+        private volatile double minPrice = Double.POSITIVE_INFINITY;
+        private volatile double maxPrice = Double.NEGATIVE_INFINITY;
+
+        Totals() {
+            for (int i = 0; i < STRIPES; i++) {
+                stripes[i] = new Stripe();
+            }
+        }
+
+        void apply(ItemChangedEvent event) {
+            if (event.getType() == ItemChangeType.DELETED) {
+                remove(event.getId());
+            } else {
+                put(event.getId(), event.getItem().getQuantity(), event.getItem().getPrice());
+            }
+        }
+
+        void put(long id, int quantity, double price) {
+            Stripe stripe = stripes[stripe(id)];
+            stripe.lock.lock();
+            try {
+                int slot = stripe.find(id);
+                if (slot >= 0) {
+                    subtract(stripe.quantities[slot], stripe.prices[slot]);
+                    stripe.quantities[slot] = quantity;
+                    stripe.prices[slot] = price;
+                } else {
+                    stripe.insert(-slot - 1, id, quantity, price);
+                }
+                add(quantity, price);
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+
+        void remove(long id) {
+            Stripe stripe = stripes[stripe(id)];
+            stripe.lock.lock();
+            try {
+                int slot = stripe.find(id);
+                if (slot >= 0) {
+                    subtract(stripe.quantities[slot], stripe.prices[slot]);
+                    stripe.removeAt(slot);
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+
+        double[] extremes() {
+            if (extremesStale.getAndSet(false)) {
+                double min = Double.POSITIVE_INFINITY;
+                double max = Double.NEGATIVE_INFINITY;
+                for (Stripe stripe : stripes) {
+                    stripe.lock.lock();
+                    try {
+                        for (int i = 0; i < stripe.keys.length; i++) {
+                            if (stripe.keys[i] != Stripe.EMPTY) {
+                                min = Math.min(min, stripe.prices[i]);
+                                max = Math.max(max, stripe.prices[i]);
+                            }
+                        }
+                    } finally {
+                        stripe.lock.unlock();
+                    }
+                }
+                minPrice = min;
+                maxPrice = max;
+            }
+            return new double[]{minPrice, maxPrice};
+        }
+
+        private void add(int quantity, double price) {
+            count.increment();
+            units.add(quantity);
+            value.add(quantity * price);
+            priceSum.add(price);
+            priceHistogram[priceBucket(price)].increment();
+            quantityHistogram[quantityBucket(quantity)].increment();
+            if (price < minPrice || price > maxPrice) {
+                extremesStale.set(true);
+            }
+        }
+
+        private void subtract(int quantity, double price) {
+            count.decrement();
+            units.add(-quantity);
+            value.add(-quantity * price);
+            priceSum.add(-price);
+            priceHistogram[priceBucket(price)].decrement();
+            quantityHistogram[quantityBucket(quantity)].decrement();
+            if (price <= minPrice || price >= maxPrice) {
+                extremesStale.set(true);
+            }
+        }
+
+        private static int stripe(long id) {
+            return (int) ((id * 0x9E3779B97F4A7C15L) >>> 58);
+        }
+
+        private static LongAdder[] adders(int size) {
+            LongAdder[] adders = new LongAdder[size];
+            for (int i = 0; i < size; i++) {
+                adders[i] = new LongAdder();
+            }
+            return adders;
+        }
+    }
+
+    /**
+     * Open-addressing table from item id to its last seen quantity and price.
+     */
+    private static final class Stripe {
+
+        static final long EMPTY = Long.MIN_VALUE;
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private long[] keys;
+        private int[] quantities;
+        private double[] prices;
+        private int size;
+
+        Stripe() {
+            allocate(16);
+        }
+
+        int find(long id) {
+            int mask = keys.length - 1;
+            int slot = slot(id, mask);
+            while (keys[slot] != EMPTY) {
+                if (keys[slot] == id) {
+                    return slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return -slot - 1;
+        }
+
+        void insert(int slot, long id, int quantity, double price) {
+            if ((size + 1) * 4 > keys.length * 3) {
+                grow();
+                slot = -find(id) - 1;
+            }
+            keys[slot] = id;
+            quantities[slot] = quantity;
+            prices[slot] = price;
+            size++;
+        }
+
+        void removeAt(int slot) {
+            int mask = keys.length - 1;
+            int hole = slot;
+            int next = slot;
+            while (true) {
+                next = (next + 1) & mask;
+                if (keys[next] == EMPTY) {
+                    break;
+                }
+                int home = slot(keys[next], mask);
+                // move the entry back unless its home lies cyclically in (hole, next]
+                boolean stays = hole <= next ? hole < home && home <= next : hole < home || home <= next;
+                if (!stays) {
+                    keys[hole] = keys[next];
+                    quantities[hole] = quantities[next];
+                    prices[hole] = prices[next];
+                    hole = next;
+                }
+            }
+            keys[hole] = EMPTY;
+            size--;
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            int[] oldQuantities = quantities;
+            double[] oldPrices = prices;
+            allocate(oldKeys.length << 1);
+            int mask = keys.length - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY) {
+                    int slot = slot(oldKeys[i], mask);
+                    while (keys[slot] != EMPTY) {
+                        slot = (slot + 1) & mask;
+                    }
+                    keys[slot] = oldKeys[i];
+                    quantities[slot] = oldQuantities[i];
+                    prices[slot] = oldPrices[i];
+                }
+            }
+        }
+
+        private void allocate(int capacity) {
+            keys = new long[capacity];
+            Arrays.fill(keys, EMPTY);
+            quantities = new int[capacity];
+            prices = new double[capacity];
+        }
+
+        private static int slot(long id, int mask) {
+            long hash = id * 0xC2B2AE3D27D4EB4FL;
+            return (int) (hash ^ (hash >>> 32)) & mask;
+        }
+    }
+}
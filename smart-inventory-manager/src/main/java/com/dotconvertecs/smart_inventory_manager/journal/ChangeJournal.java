@@ -0,0 +1,277 @@
+package com.dotconvertecs.smart_inventory_manager.journal;
+
+import com.dotconvertecs.smart_inventory_manager.event.ItemChangedEvent;
+import com.dotconvertecs.smart_inventory_manager.model.entity.Item;
+import com.dotconvertecs.smart_inventory_manager.model.enums.ItemChangeType;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Append-only journal of committed item changes, stored in memory-mapped segment files named
+ * after their first sequence number. Appends are serialized; readers scan the mapped segments
+ * without locking. When the sealed segments outgrow the compaction threshold they are rewritten
+ * into one segment that keeps only the latest entry per item.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "inventory.journal.enabled", havingValue = "true")
+public class ChangeJournal {
+
+    private static final String PREFIX = "journal-";
+    private static final String SUFFIX = ".log";
+    private static final String COMPACTING_SUFFIX = ".compacting";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final long compactionThreshold;
+    private final ConcurrentSkipListMap<Long, JournalSegment> segments = new ConcurrentSkipListMap<>();
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ReentrantLock compactionLock = new ReentrantLock();
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("journal-compactor").daemon().factory());
+
+    private JournalSegment active;
+    private volatile long head;
+    private volatile long lastCompactedBytes;
+
+    public ChangeJournal(@Value("${inventory.journal.directory:data/journal}") String directory,
+                         @Value("${inventory.journal.segment-size:64MB}") DataSize segmentSize,
+                         @Value("${inventory.journal.compaction-threshold:512MB}") DataSize compactionThreshold)
+            throws IOException {
+        this.directory = Path.of(directory);
+        this.segmentSize = Math.toIntExact(segmentSize.toBytes());
+        this.compactionThreshold = compactionThreshold.toBytes();
+        open();
+    }
+
+    public long head() {
+        return head;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        try {
+            append(event.getType(), event.getId(), event.getItem());
+        } catch (RuntimeException e) {
+            log.error("Could not journal {} of item {}", event.getType(), event.getId(), e);
+        }
+    }
+
+    public long append(ItemChangeType type, long id, Item item) {
+        appendLock.lock();
+        try {
+            long sequence = head + 1;
+            ByteBuffer record = JournalSegment.encode(sequence, type, id, item);
+            if (record.remaining() > segmentSize) {
+                throw new IllegalArgumentException("Journal entry of " + record.remaining()
+                        + " bytes does not fit in a segment");
+            }
+            if (!active.hasRoom(record.remaining())) {
+                roll(sequence);
+            }
+            active.append(record, sequence);
+            head = sequence;
+            return sequence;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Passes entries with a sequence above {@code since} to {@code consumer} in order, at most
+     * {@code limit} of them, and returns how many were passed.
+     */
+    public int read(long since, int limit, Consumer<JournalEntry> consumer) {
+        Long from = segments.floorKey(since + 1);
+        Iterable<JournalSegment> candidates = from == null ? segments.values() : segments.tailMap(from).values();
+
+        long last = since;
+        int count = 0;
+        for (JournalSegment segment : candidates) {
+            if (count == limit) {
+                break;
+            }
+            if (segment.lastSequence() <= last) {
+                continue;
+            }
+            int end = segment.size();
+            for (int position = 0; position < end && count < limit; position = segment.next(position)) {
+                // a reader racing a compaction can see a compacted segment before the old ones are dropped
+                long sequence = segment.sequenceAt(position);
+                if (sequence > last) {
+                    consumer.accept(segment.entryAt(position));
+                    last = sequence;
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Rewrites all sealed segments into one that keeps only the latest entry per item, and
+     * returns the number of entries dropped.
+     */
+    public int compact() throws IOException {
+        compactionLock.lock();
+        try {
+            JournalSegment current;
+            appendLock.lock();
+            try {
+                current = active;
+            } finally {
+                appendLock.unlock();
+            }
+            List<JournalSegment> sealed = new ArrayList<>(segments.headMap(current.firstSequence()).values());
+            if (sealed.isEmpty()) {
+                return 0;
+            }
+
+            Map<Long, Long> latest = new HashMap<>();
+            int total = 0;
+            for (JournalSegment segment : sealed) {
+                for (int position = 0; position < segment.size(); position = segment.next(position)) {
+                    latest.put(segment.idAt(position), segment.sequenceAt(position));
+                    total++;
+                }
+            }
+
+            long firstSequence = sealed.getFirst().firstSequence();
+            Path target = segmentPath(firstSequence);
+            Path compacting = directory.resolve(target.getFileName() + COMPACTING_SUFFIX);
+            long written = 0;
+            try (FileChannel channel = FileChannel.open(compacting, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                for (JournalSegment segment : sealed) {
+                    for (int position = 0; position < segment.size(); position = segment.next(position)) {
+                        if (latest.get(segment.idAt(position)) == segment.sequenceAt(position)) {
+                            ByteBuffer record = segment.recordAt(position);
+                            while (record.hasRemaining()) {
+                                written += channel.write(record);
+                            }
+                        }
+                    }
+                }
+                channel.force(true);
+            }
+            Files.move(compacting, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            segments.put(firstSequence, JournalSegment.open(target, firstSequence));
+            for (JournalSegment segment : sealed.subList(1, sealed.size())) {
+                segments.remove(segment.firstSequence());
+                Files.deleteIfExists(segment.path());
+            }
+            lastCompactedBytes = written;
+            log.info("Compacted {} journal segments from {} to {} entries", sealed.size(), total, latest.size());
+            return total - latest.size();
+        } finally {
+            compactionLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        compactor.shutdownNow();
+        appendLock.lock();
+        try {
+            active.force();
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private void open() throws IOException {
+        Files.createDirectories(directory);
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.toList();
+        }
+
+        List<Long> firstSequences = new ArrayList<>();
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            if (name.endsWith(COMPACTING_SUFFIX)) {
+                Files.delete(file);
+            } else if (name.startsWith(PREFIX) && name.endsWith(SUFFIX)) {
+                firstSequences.add(Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length())));
+            }
+        }
+        firstSequences.sort(null);
+
+        long last = 0;
+        for (long firstSequence : firstSequences) {
+            Path file = segmentPath(firstSequence);
+            // left behind when a compaction replaced the segments before it but was interrupted
+            if (firstSequence <= last) {
+                Files.delete(file);
+                continue;
+            }
+            JournalSegment segment = JournalSegment.open(file, firstSequence);
+            segments.put(firstSequence, segment);
+            last = Math.max(last, segment.lastSequence());
+        }
+        head = last;
+
+        if (segments.isEmpty()) {
+            roll(head + 1);
+        } else {
+            active = segments.lastEntry().getValue();
+        }
+        log.info("Opened change journal in {} at sequence {}", directory, head);
+    }
+
+    private void roll(long firstSequence) {
+        try {
+            if (active != null) {
+                active.force();
+            }
+            JournalSegment segment = JournalSegment.create(segmentPath(firstSequence), firstSequence, segmentSize);
+            segments.put(firstSequence, segment);
+            active = segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        long sealedBytes = 0;
+        for (JournalSegment segment : segments.headMap(firstSequence).values()) {
+            sealedBytes += segment.size();
+        }
+        if (sealedBytes > Math.max(compactionThreshold, 2 * lastCompactedBytes)) {
+            compactor.execute(() -> {
+                try {
+                    compact();
+                } catch (IOException | RuntimeException e) {
+                    log.error("Journal compaction failed", e);
+                }
+            });
+        }
+    }
+
+    private Path segmentPath(long firstSequence) {
+        return directory.resolve(String.format("%s%020d%s", PREFIX, firstSequence, SUFFIX));
+    }
+}
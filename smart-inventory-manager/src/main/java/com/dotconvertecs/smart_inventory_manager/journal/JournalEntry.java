@@ -0,0 +1,17 @@
+package com.dotconvertecs.smart_inventory_manager.journal;
+
+import com.dotconvertecs.smart_inventory_manager.model.entity.Item;
+import com.dotconvertecs.smart_inventory_manager.model.enums.ItemChangeType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class JournalEntry {
+
+    private final long sequence;
+    private final ItemChangeType type;
+    private final long id;
+    private final Item item;
+
+}
@@ -0,0 +1,204 @@
+package com.dotconvertecs.smart_inventory_manager.journal;
+
+import com.dotconvertecs.smart_inventory_manager.model.entity.Item;
+import com.dotconvertecs.smart_inventory_manager.model.enums.ItemChangeType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * One memory-mapped journal file. Entries are {@code [length][crc32c][body]}; a zero length
+ * marks the end of the written part. The body holds the sequence, change type, item id and,
+ * unless the item was deleted, its post-image.
+ */
+final class JournalSegment {
+
+    static final int HEADER_BYTES = 8;
+
+    private static final ItemChangeType[] TYPES = ItemChangeType.values();
+
+    private final long firstSequence;
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private volatile int size;
+    private volatile long lastSequence;
+
+    private JournalSegment(long firstSequence, Path path, MappedByteBuffer buffer) {
+        this.firstSequence = firstSequence;
+        this.path = path;
+        this.buffer = buffer;
+    }
+
+    static JournalSegment create(Path path, long firstSequence, int capacity) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            JournalSegment segment = new JournalSegment(firstSequence, path,
+                    channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity));
+            segment.lastSequence = firstSequence - 1;
+            return segment;
+        }
+    }
+
+    /**
+     * Maps an existing file and finds the end of its valid entries. A torn or corrupt entry at the
+     * end, left by a crash mid-write, is cleared so it is overwritten by the next append.
+     */
+    static JournalSegment open(Path path, long firstSequence) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+        }
+        JournalSegment segment = new JournalSegment(firstSequence, path, buffer);
+        long last = firstSequence - 1;
+        int position = 0;
+        while (position + HEADER_BYTES <= buffer.capacity()) {
+            int length = buffer.getInt(position);
+            if (length <= 0) {
+                break;
+            }
+            if (position + HEADER_BYTES + length > buffer.capacity() || !checksumMatches(buffer, position, length)
+                    || buffer.getLong(position + HEADER_BYTES) <= last) {
+                int end = (int) Math.min(buffer.capacity(), (long) position + HEADER_BYTES + length);
+                for (int i = position; i < end; i++) {
+                    buffer.put(i, (byte) 0);
+                }
+                break;
+            }
+            last = buffer.getLong(position + HEADER_BYTES);
+            position += HEADER_BYTES + length;
+        }
+        segment.size = position;
+        segment.lastSequence = last;
+        return segment;
+    }
+
+    static ByteBuffer encode(long sequence, ItemChangeType type, long id, Item item) {
+        byte[] name = item == null ? null : bytes(item.getName());
+        byte[] description = item == null ? null : bytes(item.getDescription());
+        int bodyLength = 8 + 1 + 8 + 1;
+        if (item != null) {
+            bodyLength += 4 + 8 + 8 + stringLength(name) + stringLength(description);
+        }
+
+        ByteBuffer record = ByteBuffer.allocate(HEADER_BYTES + bodyLength);
+        record.putInt(bodyLength).putInt(0);
+        record.putLong(sequence).put((byte) type.ordinal()).putLong(id).put((byte) (item == null ? 0 : 1));
+        if (item != null) {
+            record.putInt(item.getQuantity());
+            record.putDouble(item.getPrice());
+            record.putLong(item.getVersion() == null ? -1 : item.getVersion());
+            putString(record, name);
+            putString(record, description);
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(record.array(), HEADER_BYTES, bodyLength);
+        record.putInt(4, (int) crc.getValue());
+        return record.flip();
+    }
+
+    long firstSequence() {
+        return firstSequence;
+    }
+
+    long lastSequence() {
+        return lastSequence;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean hasRoom(int bytes) {
+        return size + bytes <= buffer.capacity();
+    }
+
+    /**
+     * Only called by the single appending thread; {@code size} is published last so readers
+     * never see a partially written entry.
+     */
+    void append(ByteBuffer record, long sequence) {
+        int length = record.remaining();
+        buffer.put(size, record, record.position(), length);
+        lastSequence = sequence;
+        size += length;
+    }
+
+    int next(int position) {
+        return position + HEADER_BYTES + buffer.getInt(position);
+    }
+
+    long sequenceAt(int position) {
+        return buffer.getLong(position + HEADER_BYTES);
+    }
+
+    long idAt(int position) {
+        return buffer.getLong(position + HEADER_BYTES + 9);
+    }
+
+    ByteBuffer recordAt(int position) {
+        return buffer.slice(position, HEADER_BYTES + buffer.getInt(position));
+    }
+
+    JournalEntry entryAt(int position) {
+        ByteBuffer body = buffer.slice(position + HEADER_BYTES, buffer.getInt(position));
+        long sequence = body.getLong();
+        ItemChangeType type = TYPES[body.get()];
+        long id = body.getLong();
+        Item item = null;
+        if (body.get() != 0) {
+            int quantity = body.getInt();
+            double price = body.getDouble();
+            long version = body.getLong();
+            String name = getString(body);
+            String description = getString(body);
+            item = new Item(id, name, description, quantity, price, version < 0 ? null : version);
+        }
+        return new JournalEntry(sequence, type, id, item);
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    private static boolean checksumMatches(ByteBuffer buffer, int position, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(position + HEADER_BYTES, length));
+        return buffer.getInt(position + 4) == (int) crc.getValue();
+    }
+
+    private static byte[] bytes(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int stringLength(byte[] value) {
+        return 4 + (value == null ? 0 : value.length);
+    }
+
+    private static void putString(ByteBuffer record, byte[] value) {
+        if (value == null) {
+            record.putInt(-1);
+        } else {
+            record.putInt(value.length).put(value);
+        }
+    }
+
+    private static String getString(ByteBuffer body) {
+        int length = body.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] value = new byte[length];
+        body.get(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+}
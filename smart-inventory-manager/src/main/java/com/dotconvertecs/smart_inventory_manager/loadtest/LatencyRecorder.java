@@ -0,0 +1,78 @@
+package com.dotconvertecs.smart_inventory_manager.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Collects raw request latencies for one endpoint. Each client thread owns its recorders and
+ * they are merged once the run is over, so recording needs no synchronization.
+ * <p>
+ * Shed requests are counted apart from errors: a 429 is a throttled bulk request and a 503 a
+ * rejected critical one. Both are the server protecting itself, not failing.
+ */
+public class LatencyRecorder {
+
+    public static final int TRANSPORT_FAILURE = -1;
+
+    private long[] latencies = new long[1024];
+    private int count;
+    private int errors;
+    private int throttled;
+    private int unavailable;
+
+    /**
+     * Records one request. {@code status} is the HTTP status, or {@link #TRANSPORT_FAILURE} when
+     * no response arrived.
+     */
+    public void record(long latencyNanos, int status) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count << 1);
+        }
+        latencies[count++] = latencyNanos;
+        if (status == 429) {
+            throttled++;
+        } else if (status == 503) {
+            unavailable++;
+        } else if (status == TRANSPORT_FAILURE || status >= 500) {
+            errors++;
+        }
+    }
+
+    public void merge(LatencyRecorder other) {
+        if (count + other.count > latencies.length) {
+            latencies = Arrays.copyOf(latencies, count + other.count);
+        }
+        System.arraycopy(other.latencies, 0, latencies, count, other.count);
+        count += other.count;
+        errors += other.errors;
+        throttled += other.throttled;
+        unavailable += other.unavailable;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public int errors() {
+        return errors;
+    }
+
+    public int throttled() {
+        return throttled;
+    }
+
+    public int unavailable() {
+        return unavailable;
+    }
+
+    /**
+     * Returns the latency at the given percentile (0-100) using the nearest-rank method.
+     */
+    public long percentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        Arrays.sort(latencies, 0, count);
+        int rank = (int) Math.ceil(percentile / 100.0 * count);
+        return latencies[Math.max(0, Math.min(count, rank) - 1)];
+    }
+}
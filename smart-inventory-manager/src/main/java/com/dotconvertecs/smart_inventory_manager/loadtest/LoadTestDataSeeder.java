@@ -0,0 +1,71 @@
+package com.dotconvertecs.smart_inventory_manager.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.SplittableRandom;
+
+/**
+ * Fills an empty items table with deterministic generated rows before the application reports
+ * ready, so in-memory indexes built on startup see the full data set.
+ */
+@Slf4j
+@Component
+@Profile("loadtest")
+public class LoadTestDataSeeder implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long items;
+    private final long seed;
+
+    public LoadTestDataSeeder(JdbcTemplate jdbcTemplate,
+                              @Value("${inventory.loadtest.items:1000000}") long items,
+                              @Value("${inventory.loadtest.seed:42}") long seed) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.items = items;
+        this.seed = seed;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM items", Long.class);
+        if (existing != null && existing > 0) {
+            log.info("Skipping load-test seeding, items already holds {} rows", existing);
+            return;
+        }
+
+        String sql = "INSERT INTO items (name, description, quantity, price, version) VALUES (?, ?, ?, ?, 0)";
+        SplittableRandom random = new SplittableRandom(seed);
+        long started = System.nanoTime();
+        for (long offset = 0; offset < items; offset += BATCH_SIZE) {
+            long first = offset;
+            int size = (int) Math.min(BATCH_SIZE, items - offset);
+            jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    long n = first + i + 1;
+                    ps.setString(1, "Item " + n);
+                    ps.setString(2, "Generated item " + n + " for load testing");
+                    ps.setInt(3, random.nextInt(0, 500));
+                    ps.setDouble(4, Math.round(random.nextDouble(1, 5000) * 100) / 100.0);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return size;
+                }
+            });
+        }
+        log.info("Seeded {} items in {} ms", items, (System.nanoTime() - started) / 1_000_000);
+    }
+}
@@ -0,0 +1,183 @@
+package com.dotconvertecs.smart_inventory_manager.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Drives the running application over HTTP with a weighted mix of endpoints from many concurrent
+ * clients, then logs throughput and latency percentiles per endpoint. Each client is a virtual
+ * thread issuing one request at a time, i.e. a closed-loop workload.
+ */
+@Slf4j
+@Component
+@Profile("loadtest")
+public class LoadTestDriver {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final boolean enabled;
+    private final int clients;
+    private final Duration warmup;
+    private final Duration duration;
+    private final long items;
+    private final long seed;
+    private final boolean exitOnFinish;
+    private final String target;
+    private final LoadTestEndpoint[] endpoints;
+    private final int[] cumulativeWeights;
+
+    public LoadTestDriver(@Value("${inventory.loadtest.drive:true}") boolean enabled,
+                          @Value("${inventory.loadtest.clients:64}") int clients,
+                          @Value("${inventory.loadtest.warmup:PT10S}") Duration warmup,
+                          @Value("${inventory.loadtest.duration:PT60S}") Duration duration,
+                          @Value("${inventory.loadtest.items:1000000}") long items,
+                          @Value("${inventory.loadtest.seed:42}") long seed,
+                          @Value("${inventory.loadtest.exit-on-finish:true}") boolean exitOnFinish,
+                          @Value("${inventory.loadtest.target:}") String target,
+                          @Value("${inventory.loadtest.mix:list=40,list-by-price=15,get=30,low-stock=1,update=7,adjust-stock=7}") String mix) {
+        this.enabled = enabled;
+        this.clients = clients;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.items = items;
+        this.seed = seed;
+        this.exitOnFinish = exitOnFinish;
+        this.target = target;
+
+        String[] entries = mix.split(",");
+        this.endpoints = new LoadTestEndpoint[entries.length];
+        this.cumulativeWeights = new int[entries.length];
+        int total = 0;
+        for (int i = 0; i < entries.length; i++) {
+            String[] parts = entries[i].split("=");
+            endpoints[i] = LoadTestEndpoint.from(parts[0]);
+            total += parts.length > 1 ? Integer.parseInt(parts[1].trim()) : 1;
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start(ApplicationReadyEvent event) {
+        if (!enabled) {
+            return;
+        }
+        int port = ((WebServerApplicationContext) event.getApplicationContext()).getWebServer().getPort();
+        Thread.ofPlatform().name("load-test-driver").start(() -> {
+            run(target.isBlank() ? "http://localhost:" + port : target);
+            if (exitOnFinish) {
+                System.exit(SpringApplication.exit(event.getApplicationContext()));
+            }
+        });
+    }
+
+    void run(String baseUrl) {
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        log.info("Warming up for {} with {} clients", warmup, clients);
+        runPhase(client, baseUrl, warmup, seed);
+
+        log.info("Measuring for {} with {} clients", duration, clients);
+        long started = System.nanoTime();
+        Map<LoadTestEndpoint, LatencyRecorder> results = runPhase(client, baseUrl, duration, seed + 1);
+        report(results, (System.nanoTime() - started) / 1e9);
+    }
+
+    private Map<LoadTestEndpoint, LatencyRecorder> runPhase(HttpClient client, String baseUrl, Duration length, long phaseSeed) {
+        long deadline = System.nanoTime() + length.toNanos();
+        SplittableRandom root = new SplittableRandom(phaseSeed);
+        List<Map<LoadTestEndpoint, LatencyRecorder>> perClient = new ArrayList<>(clients);
+        List<Thread> threads = new ArrayList<>(clients);
+
+        for (int c = 0; c < clients; c++) {
+            Map<LoadTestEndpoint, LatencyRecorder> recorders = new EnumMap<>(LoadTestEndpoint.class);
+            SplittableRandom random = root.split();
+            perClient.add(recorders);
+            threads.add(Thread.ofVirtual().start(() -> {
+                while (System.nanoTime() < deadline) {
+                    LoadTestEndpoint endpoint = pick(random);
+                    long begin = System.nanoTime();
+                    int status;
+                    try {
+                        HttpResponse<Void> response = client.send(
+                                endpoint.request(baseUrl, random, items), HttpResponse.BodyHandlers.discarding());
+                        status = response.statusCode();
+                    } catch (IOException e) {
+                        status = LatencyRecorder.TRANSPORT_FAILURE;
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    recorders.computeIfAbsent(endpoint, e -> new LatencyRecorder())
+                            .record(System.nanoTime() - begin, status);
+                }
+            }));
+        }
+
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        Map<LoadTestEndpoint, LatencyRecorder> merged = new EnumMap<>(LoadTestEndpoint.class);
+        for (Map<LoadTestEndpoint, LatencyRecorder> recorders : perClient) {
+            recorders.forEach((endpoint, recorder) ->
+                    merged.computeIfAbsent(endpoint, e -> new LatencyRecorder()).merge(recorder));
+        }
+        return merged;
+    }
+
+    private LoadTestEndpoint pick(SplittableRandom random) {
+        int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return endpoints[i];
+            }
+        }
+        return endpoints[endpoints.length - 1];
+    }
+
+    private void report(Map<LoadTestEndpoint, LatencyRecorder> results, double seconds) {
+        StringBuilder report = new StringBuilder(String.format(Locale.ROOT,
+                "%n%-14s %10s %8s %8s %8s %10s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "429", "503", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        LatencyRecorder total = new LatencyRecorder();
+        results.forEach((endpoint, recorder) -> {
+            appendRow(report, endpoint.getKey(), recorder, seconds);
+            total.merge(recorder);
+        });
+        appendRow(report, "total", total, seconds);
+        log.info("Load test finished after {} s:{}", String.format(Locale.ROOT, "%.1f", seconds), report);
+    }
+
+    private static void appendRow(StringBuilder report, String name, LatencyRecorder recorder, double seconds) {
+        report.append(String.format(Locale.ROOT, "%-14s %10d %8d %8d %8d %10.1f", name, recorder.count(), recorder.errors(),
+                recorder.throttled(), recorder.unavailable(), recorder.count() / seconds));
+        for (double percentile : PERCENTILES) {
+            report.append(String.format(Locale.ROOT, " %9.2f", recorder.percentile(percentile) / 1e6));
+        }
+        report.append(String.format(Locale.ROOT, " %9.2f%n", recorder.percentile(100) / 1e6));
+    }
+}
@@ -0,0 +1,88 @@
+package com.dotconvertecs.smart_inventory_manager.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+public enum LoadTestEndpoint {
+
+    LIST("list") {
+        @Override
+        HttpRequest request(String baseUrl, SplittableRandom random, long items) {
+            return get(baseUrl + "/api/items?limit=50&after=" + random.nextLong(items));
+        }
+    },
+    LIST_BY_PRICE("list-by-price") {
+        @Override
+        HttpRequest request(String baseUrl, SplittableRandom random, long items) {
+            int minPrice = random.nextInt(1, 4900);
+            return get(baseUrl + "/api/items?sortBy=price&limit=50&minPrice=" + minPrice + "&maxPrice=" + (minPrice + 100));
+        }
+    },
+    GET("get") {
+        @Override
+        HttpRequest request(String baseUrl, SplittableRandom random, long items) {
+            return get(baseUrl + "/api/items/" + randomId(random, items));
+        }
+    },
+    LOW_STOCK("low-stock") {
+        @Override
+        HttpRequest request(String baseUrl, SplittableRandom random, long items) {
+            return get(baseUrl + "/api/items/low-stock?threshold=1");
+        }
+    },
+    UPDATE("update") {
+        @Override
+        HttpRequest request(String baseUrl, SplittableRandom random, long items) {
+            long id = randomId(random, items);
+            String body = String.format(Locale.ROOT,
+                    "{\"name\":\"Item %d\",\"description\":\"Updated by load test\",\"quantity\":%d,\"price\":%.2f}",
+                    id, random.nextInt(0, 500), random.nextDouble(1, 5000));
+            return json(baseUrl + "/api/items/" + id, "PUT", body);
+        }
+    },
+    ADJUST_STOCK("adjust-stock") {
+        @Override
+        HttpRequest request(String baseUrl, SplittableRandom random, long items) {
+            int delta = random.nextBoolean() ? 1 : -1;
+            return json(baseUrl + "/api/items/" + randomId(random, items) + "/stock", "PATCH", "{\"delta\":" + delta + "}");
+        }
+    };
+
+    private final String key;
+
+    LoadTestEndpoint(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    abstract HttpRequest request(String baseUrl, SplittableRandom random, long items);
+
+    public static LoadTestEndpoint from(String key) {
+        for (LoadTestEndpoint endpoint : values()) {
+            if (endpoint.key.equalsIgnoreCase(key.trim())) {
+                return endpoint;
+            }
+        }
+        throw new IllegalArgumentException("Unknown load-test endpoint: " + key);
+    }
+
+    private static long randomId(SplittableRandom random, long items) {
+        return random.nextLong(items) + 1;
+    }
+
+    private static HttpRequest get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).GET().build();
+    }
+
+    private static HttpRequest json(String url, String method, String body) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+}
@@ -0,0 +1,20 @@
+package com.dotconvertecs.smart_inventory_manager.model.dto.request;
+
+import com.dotconvertecs.smart_inventory_manager.model.enums.BatchOperation;
+import lombok.*;
+
+
+@Setter
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemBatchEntryDto {
+
+    private BatchOperation operation;
+
+    private Long id;
+
+    private ItemRequestCreateDto item;
+
+}
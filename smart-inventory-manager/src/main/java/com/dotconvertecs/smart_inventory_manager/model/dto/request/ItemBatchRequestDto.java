@@ -0,0 +1,21 @@
+package com.dotconvertecs.smart_inventory_manager.model.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+
+@Setter
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemBatchRequestDto {
+
+    @NotEmpty(message = "Entries are required")
+    @Size(max = 10000, message = "At most 10000 entries are allowed per batch")
+    private List<ItemBatchEntryDto> entries;
+
+}
@@ -0,0 +1,17 @@
+package com.dotconvertecs.smart_inventory_manager.model.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+
+@Setter
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockAdjustmentRequestDto {
+
+    @NotNull(message = "Delta is required")
+    private Integer delta;
+
+}
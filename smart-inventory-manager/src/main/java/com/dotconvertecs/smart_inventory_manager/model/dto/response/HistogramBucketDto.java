@@ -0,0 +1,14 @@
+package com.dotconvertecs.smart_inventory_manager.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class HistogramBucketDto {
+
+    private Double lowerBound;
+    private Double upperBound;
+    private long count;
+
+}
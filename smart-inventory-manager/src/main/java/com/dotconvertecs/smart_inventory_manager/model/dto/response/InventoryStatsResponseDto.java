@@ -0,0 +1,23 @@
+package com.dotconvertecs.smart_inventory_manager.model.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InventoryStatsResponseDto {
+
+    private long itemCount;
+    private long totalUnits;
+    private double totalValue;
+    private Double minPrice;
+    private Double maxPrice;
+    private Double avgPrice;
+    private List<HistogramBucketDto> priceHistogram;
+    private List<HistogramBucketDto> quantityHistogram;
+
+}
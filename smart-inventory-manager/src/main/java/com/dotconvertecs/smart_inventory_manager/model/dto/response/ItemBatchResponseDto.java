@@ -0,0 +1,14 @@
+package com.dotconvertecs.smart_inventory_manager.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ItemBatchResponseDto {
+
+    private List<ItemBatchResultDto> results;
+
+}
@@ -0,0 +1,20 @@
+package com.dotconvertecs.smart_inventory_manager.model.dto.response;
+
+import com.dotconvertecs.smart_inventory_manager.model.enums.BatchEntryStatus;
+import com.dotconvertecs.smart_inventory_manager.model.enums.BatchOperation;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ItemBatchResultDto {
+
+    private int index;
+    private BatchOperation operation;
+    private Long id;
+    private BatchEntryStatus status;
+    private String message;
+
+}
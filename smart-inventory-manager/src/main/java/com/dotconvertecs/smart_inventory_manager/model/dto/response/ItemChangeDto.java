@@ -0,0 +1,16 @@
+package com.dotconvertecs.smart_inventory_manager.model.dto.response;
+
+import com.dotconvertecs.smart_inventory_manager.model.enums.ItemChangeType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ItemChangeDto {
+
+    private long sequence;
+    private ItemChangeType type;
+    private long id;
+    private ItemResponseDto item;
+
+}
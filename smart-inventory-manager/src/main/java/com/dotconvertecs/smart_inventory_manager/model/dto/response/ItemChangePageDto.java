@@ -0,0 +1,16 @@
+package com.dotconvertecs.smart_inventory_manager.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ItemChangePageDto {
+
+    private List<ItemChangeDto> changes;
+    private long head;
+    private String nextCursor;
+
+}
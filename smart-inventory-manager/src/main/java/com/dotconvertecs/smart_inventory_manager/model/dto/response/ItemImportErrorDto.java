@@ -0,0 +1,17 @@
+package com.dotconvertecs.smart_inventory_manager.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemImportErrorDto {
+
+    private long row;
+    private String message;
+
+}
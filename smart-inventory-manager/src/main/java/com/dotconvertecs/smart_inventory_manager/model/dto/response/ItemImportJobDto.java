@@ -0,0 +1,32 @@
+package com.dotconvertecs.smart_inventory_manager.model.dto.response;
+
+import com.dotconvertecs.smart_inventory_manager.model.enums.ImportJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ItemImportJobDto {
+
+    private String id;
+    private ImportJobStatus status;
+    private long rowsRead;
+    private long rowsImported;
+    private long rowsRejected;
+    private List<ItemImportErrorDto> errors;
+    private boolean errorsTruncated;
+    private String message;
+    private Instant submittedAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+
+}
@@ -0,0 +1,13 @@
+package com.dotconvertecs.smart_inventory_manager.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ItemJsonPage {
+
+    private byte[] body;
+    private String nextCursor;
+
+}
@@ -0,0 +1,15 @@
+package com.dotconvertecs.smart_inventory_manager.model.dto.response;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * A JSON response body written straight to the response stream, so rows can be rendered as they
+ * are read instead of being collected first.
+ */
+@FunctionalInterface
+public interface ItemJsonStream {
+
+    void writeTo(OutputStream out) throws IOException;
+
+}
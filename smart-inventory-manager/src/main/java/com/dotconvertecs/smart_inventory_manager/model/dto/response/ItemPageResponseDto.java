@@ -0,0 +1,15 @@
+package com.dotconvertecs.smart_inventory_manager.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ItemPageResponseDto {
+
+    private List<ItemResponseDto> items;
+    private String nextCursor;
+
+}
@@ -14,6 +14,7 @@ public class ItemResponseDto {
     private String description;
     private Integer quantity;
     private Double price;
+    private Long version;
 
 
 }
@@ -0,0 +1,17 @@
+package com.dotconvertecs.smart_inventory_manager.model.dto.response;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LowStockEventDto {
+
+    private Long id;
+    private String name;
+    private Integer quantity;
+    private int threshold;
+
+}
@@ -18,5 +18,6 @@ public class Item {
     private String description;
     private Integer quantity;
     private Double price;
+    private Long version;
 
 }
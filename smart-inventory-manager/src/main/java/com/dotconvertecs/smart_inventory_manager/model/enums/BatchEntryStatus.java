@@ -0,0 +1,9 @@
+package com.dotconvertecs.smart_inventory_manager.model.enums;
+
+public enum BatchEntryStatus {
+    CREATED,
+    UPDATED,
+    DELETED,
+    NOT_FOUND,
+    INVALID
+}
@@ -0,0 +1,7 @@
+package com.dotconvertecs.smart_inventory_manager.model.enums;
+
+public enum BatchOperation {
+    CREATE,
+    UPDATE,
+    DELETE
+}
@@ -0,0 +1,8 @@
+package com.dotconvertecs.smart_inventory_manager.model.enums;
+
+public enum ImportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -20,6 +20,7 @@ public class ItemMapper {
                 .description(item.getDescription())
                 .quantity(item.getQuantity())
                 .price(item.getPrice())
+                .version(item.getVersion())
                 .build();
     }
 
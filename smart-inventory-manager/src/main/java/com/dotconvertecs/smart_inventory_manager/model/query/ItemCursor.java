@@ -0,0 +1,41 @@
+package com.dotconvertecs.smart_inventory_manager.model.query;
+
+import com.dotconvertecs.smart_inventory_manager.exception.custome.InvalidRequestException;
+import com.dotconvertecs.smart_inventory_manager.model.entity.Item;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ItemCursor {
+
+    private static final char SEPARATOR = '_';
+
+    private final Double price;
+    private final Long id;
+
+    public static ItemCursor of(Item item, boolean sortByPrice) {
+        return new ItemCursor(sortByPrice ? item.getPrice() : null, item.getId());
+    }
+
+    public static ItemCursor parse(String value, boolean sortByPrice) {
+        try {
+            if (!sortByPrice) {
+                return new ItemCursor(null, Long.parseLong(value));
+            }
+            int separator = value.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidRequestException("Invalid cursor " + value);
+            }
+            return new ItemCursor(
+                    Double.parseDouble(value.substring(0, separator)),
+                    Long.parseLong(value.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            throw new InvalidRequestException("Invalid cursor " + value);
+        }
+    }
+
+    public String encode() {
+        return price == null ? String.valueOf(id) : price + String.valueOf(SEPARATOR) + id;
+    }
+}
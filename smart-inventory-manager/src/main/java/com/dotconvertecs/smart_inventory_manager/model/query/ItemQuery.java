@@ -0,0 +1,17 @@
+package com.dotconvertecs.smart_inventory_manager.model.query;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ItemQuery {
+
+    private Double minPrice;
+    private Double maxPrice;
+    private boolean sortByPrice;
+    private boolean descending;
+    private ItemCursor after;
+    private int limit;
+
+}
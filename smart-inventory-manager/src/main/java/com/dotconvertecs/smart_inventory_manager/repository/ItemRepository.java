@@ -1,17 +1,39 @@
 package com.dotconvertecs.smart_inventory_manager.repository;
 
 import com.dotconvertecs.smart_inventory_manager.model.entity.Item;
+import com.dotconvertecs.smart_inventory_manager.model.query.ItemQuery;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface ItemRepository {
 
     List<Item> findAll();
+    List<Item> findPage(ItemQuery query);
+    void forEachInPage(ItemQuery query, RowConsumer consumer);
+    void streamAll(Consumer<Item> consumer);
+    void streamPrices(PriceConsumer consumer);
+    List<Item> findByIds(List<Long> ids);
     Optional<Item> findById(Long id);
     Item save(Item item);
+    List<Item> saveAll(List<Item> items);
     int update(Item item);
+    int adjustQuantity(Long id, int delta);
+    int[] updateAll(List<Item> items);
     int delete(Long id);
+    int[] deleteAll(List<Long> ids);
     List<Item> findLowStock(int threshold);
+    void forEachLowStock(int threshold, RowConsumer consumer);
+
+    @FunctionalInterface
+    interface PriceConsumer {
+        void accept(long id, double price);
+    }
+
+    @FunctionalInterface
+    interface RowConsumer {
+        void accept(long id, String name, String description, int quantity, double price, long version);
+    }
 
 }
@@ -0,0 +1,199 @@
+package com.dotconvertecs.smart_inventory_manager.repository.impl;
+
+import com.dotconvertecs.smart_inventory_manager.config.DataSourceRoute;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.CacheStatsResponseDto;
+import com.dotconvertecs.smart_inventory_manager.model.entity.Item;
+import com.dotconvertecs.smart_inventory_manager.model.query.ItemQuery;
+import com.dotconvertecs.smart_inventory_manager.repository.ItemRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+@Primary
+@Repository
+@ConditionalOnProperty(name = "inventory.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CachingItemRepository implements ItemRepository, MeterBinder {
+    private final ItemRepository delegate;
+    private final Cache<Long, Item> cache;
+
+    @Autowired
+    public CachingItemRepository(@Qualifier("itemStorage") ItemRepository delegate,
+                                 @Value("${inventory.cache.maximum-size:100000}") long maximumSize,
+                                 @Value("${inventory.cache.ttl:5m}") Duration ttl) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "items");
+    }
+
+    public CacheStatsResponseDto stats() {
+        CacheStats stats = cache.stats();
+        return CacheStatsResponseDto.builder()
+                .size(cache.estimatedSize())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .evictionCount(stats.evictionCount())
+                .hitRate(stats.hitRate())
+                .build();
+    }
+
+    /**
+     * Reads through the cache on the primary. A read routed to a replica may see a row older than
+     * the last write, so it still uses a cached entry but never fills one; otherwise the stale row
+     * would be served to every route until the TTL ran out.
+     */
+    @Override
+    public Optional<Item> findById(Long id) {
+        if (DataSourceRoute.current() == DataSourceRoute.REPLICA) {
+            Item cached = cache.getIfPresent(id);
+            return cached != null ? Optional.of(copy(cached)) : delegate.findById(id);
+        }
+        Item item = cache.get(id, key -> delegate.findById(key).orElse(null));
+        return Optional.ofNullable(item).map(this::copy);
+    }
+
+    @Override
+    public Item save(Item item) {
+        Item saved = delegate.save(item);
+        if (saved.getId() != null) {
+            cache.put(saved.getId(), copy(saved));
+        }
+        return saved;
+    }
+
+    @Override
+    public List<Item> saveAll(List<Item> items) {
+        return delegate.saveAll(items);
+    }
+
+    @Override
+    public int update(Item item) {
+        try {
+            return delegate.update(item);
+        } finally {
+            invalidate(item.getId());
+        }
+    }
+
+    @Override
+    public int adjustQuantity(Long id, int delta) {
+        try {
+            return delegate.adjustQuantity(id, delta);
+        } finally {
+            invalidate(id);
+        }
+    }
+
+    @Override
+    public int[] updateAll(List<Item> items) {
+        try {
+            return delegate.updateAll(items);
+        } finally {
+            items.forEach(item -> invalidate(item.getId()));
+        }
+    }
+
+    @Override
+    public int delete(Long id) {
+        try {
+            return delegate.delete(id);
+        } finally {
+            invalidate(id);
+        }
+    }
+
+    @Override
+    public int[] deleteAll(List<Long> ids) {
+        try {
+            return delegate.deleteAll(ids);
+        } finally {
+            ids.forEach(this::invalidate);
+        }
+    }
+
+    @Override
+    public List<Item> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Item> findPage(ItemQuery query) {
+        return delegate.findPage(query);
+    }
+
+    @Override
+    public void forEachInPage(ItemQuery query, RowConsumer consumer) {
+        delegate.forEachInPage(query, consumer);
+    }
+
+    @Override
+    public void streamAll(Consumer<Item> consumer) {
+        delegate.streamAll(consumer);
+    }
+
+    @Override
+    public void streamPrices(PriceConsumer consumer) {
+        delegate.streamPrices(consumer);
+    }
+
+    @Override
+    public List<Item> findByIds(List<Long> ids) {
+        return delegate.findByIds(ids);
+    }
+
+    @Override
+    public List<Item> findLowStock(int threshold) {
+        return delegate.findLowStock(threshold);
+    }
+
+    @Override
+    public void forEachLowStock(int threshold, RowConsumer consumer) {
+        delegate.forEachLowStock(threshold, consumer);
+    }
+
+    private void invalidate(Long id) {
+        cache.invalidate(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(id);
+                }
+            });
+        }
+    }
+
+    private Item copy(Item item) {
+        return Item.builder()
+                .id(item.getId())
+                .name(item.getName())
+                .description(item.getDescription())
+                .quantity(item.getQuantity())
+                .price(item.getPrice())
+                .version(item.getVersion())
+                .build();
+    }
+}
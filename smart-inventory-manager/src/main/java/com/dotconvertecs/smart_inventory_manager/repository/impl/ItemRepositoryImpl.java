@@ -2,50 +2,160 @@ package com.dotconvertecs.smart_inventory_manager.repository.impl;
 
 
 import com.dotconvertecs.smart_inventory_manager.model.entity.Item;
+import com.dotconvertecs.smart_inventory_manager.model.query.ItemCursor;
+import com.dotconvertecs.smart_inventory_manager.model.query.ItemQuery;
 import com.dotconvertecs.smart_inventory_manager.repository.ItemRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.springframework.jdbc.core.JdbcOperationsExtensionsKt.query;
 
 @Repository
+@Qualifier("itemStorage")
+@ConditionalOnProperty(name = "inventory.sharding.enabled", havingValue = "false", matchIfMissing = true)
 public class ItemRepositoryImpl implements ItemRepository {
+    private static final String INSERT_WITH_ID_SQL =
+            "INSERT INTO items (id, name, description, quantity, price) VALUES (?, ?, ?, ?, ?)";
+
     private final JdbcTemplate jdbcTemplate;
+    private final int streamFetchSize;
 
     @Autowired
-    public ItemRepositoryImpl(JdbcTemplate jdbcTemplate) {
+    public ItemRepositoryImpl(JdbcTemplate jdbcTemplate,
+                              @Value("${inventory.export.fetch-size:-2147483648}") int streamFetchSize) {
         this.jdbcTemplate = jdbcTemplate;
+        this.streamFetchSize = streamFetchSize;
     }
 
 
-    private static final RowMapper<Item> ITEM_ROW_MAPPER = (rs, rowNum) -> {
+    static final RowMapper<Item> ITEM_ROW_MAPPER = (rs, rowNum) -> {
         Item item = new Item();
         item.setId(rs.getLong("id"));
         item.setName(rs.getString("name"));
         item.setDescription(rs.getString("description"));
         item.setQuantity(rs.getInt("quantity"));
         item.setPrice(rs.getDouble("price"));
+        item.setVersion(rs.getLong("version"));
         return item;
     };
 
     public List<Item> findAll() {
-        String sql = "SELECT id, name, description, quantity, price FROM items";
+        String sql = "SELECT id, name, description, quantity, price, version FROM items";
         return jdbcTemplate.query(sql, ITEM_ROW_MAPPER);
     }
 
+    @Override
+    public List<Item> findPage(ItemQuery query) {
+        List<Object> args = new ArrayList<>();
+        String sql = pageSql(query, args);
+        return jdbcTemplate.query(sql, ITEM_ROW_MAPPER, args.toArray());
+    }
+
+    @Override
+    public void forEachInPage(ItemQuery query, RowConsumer consumer) {
+        List<Object> args = new ArrayList<>();
+        String sql = pageSql(query, args);
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> acceptRow(rs, consumer), args.toArray());
+    }
+
+    private static String pageSql(ItemQuery query, List<Object> args) {
+        StringBuilder sql = new StringBuilder("SELECT id, name, description, quantity, price, version FROM items WHERE 1 = 1");
+
+        if (query.getMinPrice() != null) {
+            sql.append(" AND price >= ?");
+            args.add(query.getMinPrice());
+        }
+        if (query.getMaxPrice() != null) {
+            sql.append(" AND price <= ?");
+            args.add(query.getMaxPrice());
+        }
+
+        String comparison = query.isDescending() ? " < ?" : " > ?";
+        ItemCursor after = query.getAfter();
+        if (after != null) {
+            if (query.isSortByPrice()) {
+                sql.append(" AND (price").append(comparison)
+                        .append(" OR (price = ? AND id").append(comparison).append("))");
+                args.add(after.getPrice());
+                args.add(after.getPrice());
+                args.add(after.getId());
+            } else {
+                sql.append(" AND id").append(comparison);
+                args.add(after.getId());
+            }
+        }
+
+        String direction = query.isDescending() ? " DESC" : " ASC";
+        sql.append(" ORDER BY ");
+        if (query.isSortByPrice()) {
+            sql.append("price").append(direction).append(", ");
+        }
+        sql.append("id").append(direction).append(" LIMIT ?");
+        args.add(query.getLimit());
+        return sql.toString();
+    }
+
+    @Override
+    public void streamAll(Consumer<Item> consumer) {
+        String sql = "SELECT id, name, description, quantity, price, version FROM items";
+        jdbcTemplate.query(connection -> streamingStatement(connection, sql),
+                (RowCallbackHandler) rs -> consumer.accept(ITEM_ROW_MAPPER.mapRow(rs, 0)));
+    }
+
+    @Override
+    public void streamPrices(PriceConsumer consumer) {
+        String sql = "SELECT id, price FROM items ORDER BY price, id";
+        jdbcTemplate.query(connection -> streamingStatement(connection, sql),
+                (RowCallbackHandler) rs -> consumer.accept(rs.getLong(1), rs.getDouble(2)));
+    }
+
+    /**
+     * Forward-only statement for full-table reads. {@code Integer.MIN_VALUE} is MySQL's hint to stream
+     * rows one at a time; other drivers reject negative fetch sizes, so they get their default.
+     */
+    private PreparedStatement streamingStatement(Connection connection, String sql) throws SQLException {
+        PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        if (streamFetchSize >= 0 || "MySQL".equals(connection.getMetaData().getDatabaseProductName())) {
+            ps.setFetchSize(streamFetchSize);
+        }
+        return ps;
+    }
+
+    @Override
+    public List<Item> findByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        String sql = "SELECT id, name, description, quantity, price, version FROM items WHERE id IN (" + placeholders + ")";
+        return jdbcTemplate.query(sql, ITEM_ROW_MAPPER, ids.toArray());
+    }
+
     public Optional<Item> findById(Long id) {
-        String sql = "SELECT id, name, description, quantity, price FROM items WHERE id = ?";
+        String sql = "SELECT id, name, description, quantity, price, version FROM items WHERE id = ?";
         try {
             Item item = jdbcTemplate.queryForObject(sql, ITEM_ROW_MAPPER, id);
             return Optional.ofNullable(item);
@@ -55,18 +165,56 @@ public class ItemRepositoryImpl implements ItemRepository {
     }
 
     public int update(Item item) {
-        String sql = "UPDATE items SET name = ?, description = ?, quantity = ?, price = ? WHERE id = ?";
+        if (item.getVersion() == null) {
+            String sql = "UPDATE items SET name = ?, description = ?, quantity = ?, price = ?, version = version + 1 WHERE id = ?";
+            return jdbcTemplate.update(sql,
+                    item.getName(),
+                    item.getDescription(),
+                    item.getQuantity(),
+                    item.getPrice(),
+                    item.getId());
+        }
+        String sql = "UPDATE items SET name = ?, description = ?, quantity = ?, price = ?, version = version + 1 WHERE id = ? AND version = ?";
         return jdbcTemplate.update(sql,
                 item.getName(),
                 item.getDescription(),
                 item.getQuantity(),
                 item.getPrice(),
-                item.getId());
+                item.getId(),
+                item.getVersion());
     }
 
+    @Override
+    public int adjustQuantity(Long id, int delta) {
+        String sql = "UPDATE items SET quantity = quantity + ?, version = version + 1 WHERE id = ? AND quantity + ? >= 0";
+        return jdbcTemplate.update(sql, delta, id, delta);
+    }
+
+    @Override
+    public int[] updateAll(List<Item> items) {
+        String sql = "UPDATE items SET name = ?, description = ?, quantity = ?, price = ?, version = version + 1 WHERE id = ?";
+        return jdbcTemplate.batchUpdate(sql, items.stream()
+                .map(item -> new Object[]{
+                        item.getName(),
+                        item.getDescription(),
+                        item.getQuantity(),
+                        item.getPrice(),
+                        item.getId()})
+                .toList());
+    }
 
     @Override
     public Item save(Item item) {
+        if (item.getId() != null) {
+            jdbcTemplate.update(INSERT_WITH_ID_SQL,
+                    item.getId(),
+                    item.getName(),
+                    item.getDescription(),
+                    item.getQuantity(),
+                    item.getPrice());
+            item.setVersion(0L);
+            return item;
+        }
         String sql = "INSERT INTO items (name, description, quantity, price) VALUES (?, ?, ?, ?)";
         KeyHolder keyHolder = new GeneratedKeyHolder();
         jdbcTemplate.update(connection -> {
@@ -82,18 +230,81 @@ public class ItemRepositoryImpl implements ItemRepository {
         if (generated != null) {
             item.setId(generated.longValue());
         }
+        item.setVersion(0L);
         return item;
     }
 
+    @Override
+    public List<Item> saveAll(List<Item> items) {
+        if (!items.isEmpty() && items.stream().allMatch(item -> item.getId() != null)) {
+            jdbcTemplate.batchUpdate(INSERT_WITH_ID_SQL, items.stream()
+                    .map(item -> new Object[]{
+                            item.getId(),
+                            item.getName(),
+                            item.getDescription(),
+                            item.getQuantity(),
+                            item.getPrice()})
+                    .toList());
+            items.forEach(item -> item.setVersion(0L));
+            return items;
+        }
+        String sql = "INSERT INTO items (name, description, quantity, price) VALUES (?, ?, ?, ?)";
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Item item = items.get(i);
+                        ps.setString(1, item.getName());
+                        ps.setString(2, item.getDescription());
+                        ps.setInt(3, item.getQuantity());
+                        ps.setDouble(4, item.getPrice());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return items.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < keys.size() && i < items.size(); i++) {
+            Number generated = (Number) keys.get(i).values().iterator().next();
+            items.get(i).setId(generated.longValue());
+            items.get(i).setVersion(0L);
+        }
+        return items;
+    }
+
     public int delete(Long id) {
         String sql = "DELETE FROM items WHERE id = ?";
         return jdbcTemplate.update(sql, id);
     }
 
+    @Override
+    public int[] deleteAll(List<Long> ids) {
+        String sql = "DELETE FROM items WHERE id = ?";
+        return jdbcTemplate.batchUpdate(sql, ids.stream()
+                .map(id -> new Object[]{id})
+                .toList());
+    }
+
 
     public List<Item> findLowStock(int threshold) {
-        String sql = "SELECT id, name, description, quantity, price FROM items WHERE quantity <= ?";
+        String sql = "SELECT id, name, description, quantity, price, version FROM items WHERE quantity <= ?";
         return jdbcTemplate.query(sql, ITEM_ROW_MAPPER, threshold);
     }
+
+    @Override
+    public void forEachLowStock(int threshold, RowConsumer consumer) {
+        String sql = "SELECT id, name, description, quantity, price, version FROM items WHERE quantity <= ?";
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> acceptRow(rs, consumer), threshold);
+    }
+
+    private static void acceptRow(ResultSet rs, RowConsumer consumer) throws SQLException {
+        consumer.accept(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getInt(4), rs.getDouble(5), rs.getLong(6));
+    }
 }
 
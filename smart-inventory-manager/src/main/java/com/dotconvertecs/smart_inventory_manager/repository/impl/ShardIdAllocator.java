@@ -0,0 +1,74 @@
+package com.dotconvertecs.smart_inventory_manager.repository.impl;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hands out ids for one shard. The shard index sits in the low {@link #SHARD_BITS} bits so any
+ * node can route an id without a lookup; the rest is a per-shard sequence reserved in blocks
+ * from the shard's {@code item_id_sequence} row, which keeps several application instances from
+ * handing out the same id.
+ */
+class ShardIdAllocator {
+
+    static final int SHARD_BITS = 8;
+    static final int MAX_SHARDS = 1 << SHARD_BITS;
+
+    private final int shard;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int blockSize;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long next;
+    private long limit;
+
+    ShardIdAllocator(int shard, JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, int blockSize) {
+        this.shard = shard;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.blockSize = blockSize;
+    }
+
+    static int shardOf(long id) {
+        return (int) (id & (MAX_SHARDS - 1));
+    }
+
+    long nextId() {
+        lock.lock();
+        try {
+            if (next == limit) {
+                next = reserveBlock();
+                limit = next + blockSize;
+            }
+            return (next++ << SHARD_BITS) | shard;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long reserveBlock() {
+        Long start = transactionTemplate.execute(status -> {
+            Long current = jdbcTemplate.query("SELECT next_value FROM item_id_sequence WHERE id = 1 FOR UPDATE",
+                    rs -> rs.next() ? rs.getLong(1) : null);
+            if (current == null) {
+                Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM items", Long.class);
+                current = maxId == null ? 1 : (maxId >>> SHARD_BITS) + 1;
+                try {
+                    jdbcTemplate.update("INSERT INTO item_id_sequence (id, next_value) VALUES (1, ?)", current + blockSize);
+                    return current;
+                } catch (DuplicateKeyException e) {
+                    // another instance seeded the row first; retry the locked read on a fresh transaction
+                    status.setRollbackOnly();
+                    return null;
+                }
+            }
+            jdbcTemplate.update("UPDATE item_id_sequence SET next_value = ? WHERE id = 1", current + blockSize);
+            return current;
+        });
+        return start != null ? start : reserveBlock();
+    }
+}
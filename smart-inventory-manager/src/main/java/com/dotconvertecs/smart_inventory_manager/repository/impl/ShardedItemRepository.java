@@ -0,0 +1,298 @@
+package com.dotconvertecs.smart_inventory_manager.repository.impl;
+
+import com.dotconvertecs.smart_inventory_manager.model.entity.Item;
+import com.dotconvertecs.smart_inventory_manager.model.query.ItemQuery;
+import com.dotconvertecs.smart_inventory_manager.repository.ItemRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * {@link ItemRepository} over several databases, each holding a slice of the items table.
+ * Single-item operations go to the shard encoded in the id; listings run on every shard in
+ * parallel and sorted pages are k-way merged. Each shard is accessed through its own
+ * {@link ItemRepositoryImpl}, so the SQL is the same as in the single-database setup.
+ */
+public class ShardedItemRepository implements ItemRepository, AutoCloseable {
+
+    private static final Comparator<Item> BY_ID = Comparator.comparing(Item::getId);
+    private static final Comparator<Item> BY_PRICE = Comparator.comparing(Item::getPrice).thenComparing(Item::getId);
+
+    private final List<ItemRepositoryImpl> shards;
+    private final List<ShardIdAllocator> allocators;
+    private final AtomicInteger nextShard = new AtomicInteger();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ShardedItemRepository(List<DataSource> dataSources, int streamFetchSize, int idBlockSize) {
+        if (dataSources.isEmpty() || dataSources.size() > ShardIdAllocator.MAX_SHARDS) {
+            throw new IllegalArgumentException("Between 1 and " + ShardIdAllocator.MAX_SHARDS + " shards are supported");
+        }
+        this.shards = new ArrayList<>(dataSources.size());
+        this.allocators = new ArrayList<>(dataSources.size());
+        for (int i = 0; i < dataSources.size(); i++) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSources.get(i));
+            TransactionTemplate transactionTemplate =
+                    new TransactionTemplate(new DataSourceTransactionManager(dataSources.get(i)));
+            shards.add(new ItemRepositoryImpl(jdbcTemplate, streamFetchSize));
+            allocators.add(new ShardIdAllocator(i, jdbcTemplate, transactionTemplate, idBlockSize));
+        }
+    }
+
+    public int shardCount() {
+        return shards.size();
+    }
+
+    @Override
+    public List<Item> findAll() {
+        List<Item> items = new ArrayList<>();
+        scatter(shard -> shards.get(shard).findAll()).forEach(items::addAll);
+        return items;
+    }
+
+    @Override
+    public List<Item> findPage(ItemQuery query) {
+        Comparator<Item> order = query.isSortByPrice() ? BY_PRICE : BY_ID;
+        if (query.isDescending()) {
+            order = order.reversed();
+        }
+        return SortedMerge.merge(scatter(shard -> shards.get(shard).findPage(query)), order, query.getLimit());
+    }
+
+    @Override
+    public void forEachInPage(ItemQuery query, RowConsumer consumer) {
+        for (Item item : findPage(query)) {
+            consumer.accept(item.getId(), item.getName(), item.getDescription(), item.getQuantity(),
+                    item.getPrice(), item.getVersion());
+        }
+    }
+
+    @Override
+    public void streamAll(Consumer<Item> consumer) {
+        for (ItemRepositoryImpl shard : shards) {
+            shard.streamAll(consumer);
+        }
+    }
+
+    /**
+     * Each shard streams its (price, id) pairs in order into primitive arrays, concurrently, and the
+     * runs are then merged so the consumer sees one global (price, id) order, as with a single
+     * database. The shard count is small, so the next pair is picked by scanning the run heads.
+     */
+    @Override
+    public void streamPrices(PriceConsumer consumer) {
+        List<PriceRun> runs = scatter(shard -> {
+            PriceRun run = new PriceRun();
+            shards.get(shard).streamPrices(run::add);
+            return run;
+        });
+        int[] next = new int[runs.size()];
+        while (true) {
+            int smallest = -1;
+            for (int shard = 0; shard < runs.size(); shard++) {
+                if (next[shard] < runs.get(shard).size
+                        && (smallest < 0 || runs.get(shard).before(next[shard], runs.get(smallest), next[smallest]))) {
+                    smallest = shard;
+                }
+            }
+            if (smallest < 0) {
+                return;
+            }
+            PriceRun run = runs.get(smallest);
+            int position = next[smallest]++;
+            consumer.accept(run.ids[position], run.prices[position]);
+        }
+    }
+
+    @Override
+    public List<Item> findByIds(List<Long> ids) {
+        List<List<Long>> byShard = partition(ids, Function.identity());
+        List<Item> items = new ArrayList<>(ids.size());
+        scatter(shard -> byShard.get(shard).isEmpty()
+                ? List.<Item>of()
+                : shards.get(shard).findByIds(byShard.get(shard))).forEach(items::addAll);
+        return items;
+    }
+
+    @Override
+    public Optional<Item> findById(Long id) {
+        ItemRepositoryImpl shard = route(id);
+        return shard == null ? Optional.empty() : shard.findById(id);
+    }
+
+    @Override
+    public Item save(Item item) {
+        int shard = Math.floorMod(nextShard.getAndIncrement(), shards.size());
+        item.setId(allocators.get(shard).nextId());
+        return shards.get(shard).save(item);
+    }
+
+    @Override
+    public List<Item> saveAll(List<Item> items) {
+        List<List<Item>> byShard = new ArrayList<>(shards.size());
+        for (int i = 0; i < shards.size(); i++) {
+            byShard.add(new ArrayList<>());
+        }
+        for (Item item : items) {
+            int shard = Math.floorMod(nextShard.getAndIncrement(), shards.size());
+            item.setId(allocators.get(shard).nextId());
+            byShard.get(shard).add(item);
+        }
+        scatter(shard -> byShard.get(shard).isEmpty()
+                ? byShard.get(shard)
+                : shards.get(shard).saveAll(byShard.get(shard)));
+        return items;
+    }
+
+    @Override
+    public int update(Item item) {
+        ItemRepositoryImpl shard = route(item.getId());
+        return shard == null ? 0 : shard.update(item);
+    }
+
+    @Override
+    public int adjustQuantity(Long id, int delta) {
+        ItemRepositoryImpl shard = route(id);
+        return shard == null ? 0 : shard.adjustQuantity(id, delta);
+    }
+
+    @Override
+    public int[] updateAll(List<Item> items) {
+        return scatterBatch(items, Item::getId, ItemRepositoryImpl::updateAll);
+    }
+
+    @Override
+    public int delete(Long id) {
+        ItemRepositoryImpl shard = route(id);
+        return shard == null ? 0 : shard.delete(id);
+    }
+
+    @Override
+    public int[] deleteAll(List<Long> ids) {
+        return scatterBatch(ids, Function.identity(), ItemRepositoryImpl::deleteAll);
+    }
+
+    @Override
+    public List<Item> findLowStock(int threshold) {
+        List<Item> items = new ArrayList<>();
+        scatter(shard -> shards.get(shard).findLowStock(threshold)).forEach(items::addAll);
+        return items;
+    }
+
+    @Override
+    public void forEachLowStock(int threshold, RowConsumer consumer) {
+        for (ItemRepositoryImpl shard : shards) {
+            shard.forEachLowStock(threshold, consumer);
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private ItemRepositoryImpl route(Long id) {
+        int shard = ShardIdAllocator.shardOf(id);
+        return shard < shards.size() ? shards.get(shard) : null;
+    }
+
+    private <T> List<List<T>> partition(List<T> values, Function<T, Long> idOf) {
+        List<List<T>> byShard = new ArrayList<>(shards.size());
+        for (int i = 0; i < shards.size(); i++) {
+            byShard.add(new ArrayList<>());
+        }
+        for (T value : values) {
+            int shard = ShardIdAllocator.shardOf(idOf.apply(value));
+            if (shard < shards.size()) {
+                byShard.get(shard).add(value);
+            }
+        }
+        return byShard;
+    }
+
+    /**
+     * Runs a batch statement per shard and maps the per-shard row counts back to the positions
+     * of the original list. Entries whose id names no configured shard count as 0 rows.
+     */
+    private <T> int[] scatterBatch(List<T> values, Function<T, Long> idOf,
+                                   BiFunction<ItemRepositoryImpl, List<T>, int[]> batch) {
+        List<List<T>> byShard = partition(values, idOf);
+        List<int[]> counts = scatter(shard -> byShard.get(shard).isEmpty()
+                ? new int[0]
+                : batch.apply(shards.get(shard), byShard.get(shard)));
+
+        int[] result = new int[values.size()];
+        int[] next = new int[shards.size()];
+        for (int i = 0; i < values.size(); i++) {
+            int shard = ShardIdAllocator.shardOf(idOf.apply(values.get(i)));
+            if (shard < shards.size()) {
+                result[i] = counts.get(shard)[next[shard]++];
+            }
+        }
+        return result;
+    }
+
+    private <T> List<T> scatter(IntFunction<T> operation) {
+        if (shards.size() == 1) {
+            return List.of(operation.apply(0));
+        }
+        List<Future<T>> futures = new ArrayList<>(shards.size());
+        for (int i = 0; i < shards.size(); i++) {
+            int shard = i;
+            futures.add(executor.submit(() -> operation.apply(shard)));
+        }
+        List<T> results = new ArrayList<>(futures.size());
+        try {
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while querying shards", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+        return results;
+    }
+
+    private static final class PriceRun {
+        private long[] ids = new long[1024];
+        private double[] prices = new double[1024];
+        private int size;
+
+        void add(long id, double price) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size << 1);
+                prices = Arrays.copyOf(prices, size << 1);
+            }
+            ids[size] = id;
+            prices[size] = price;
+            size++;
+        }
+
+        boolean before(int position, PriceRun other, int otherPosition) {
+            int byPrice = Double.compare(prices[position], other.prices[otherPosition]);
+            return byPrice != 0 ? byPrice < 0 : ids[position] < other.ids[otherPosition];
+        }
+    }
+}
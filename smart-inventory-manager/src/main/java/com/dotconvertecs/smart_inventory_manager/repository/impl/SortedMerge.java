@@ -0,0 +1,43 @@
+package com.dotconvertecs.smart_inventory_manager.repository.impl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * k-way merge of lists that are each sorted by the same comparator.
+ */
+final class SortedMerge {
+
+    private SortedMerge() {
+    }
+
+    static <T> List<T> merge(List<List<T>> sources, Comparator<? super T> comparator, int limit) {
+        PriorityQueue<Head<T>> heads = new PriorityQueue<>(Math.max(1, sources.size()),
+                (a, b) -> comparator.compare(a.value(), b.value()));
+        int total = 0;
+        for (List<T> source : sources) {
+            if (!source.isEmpty()) {
+                heads.add(new Head<>(source, 0));
+                total += source.size();
+            }
+        }
+
+        List<T> merged = new ArrayList<>(Math.min(limit, total));
+        while (merged.size() < limit && !heads.isEmpty()) {
+            Head<T> head = heads.poll();
+            merged.add(head.value());
+            if (head.position + 1 < head.source.size()) {
+                heads.add(new Head<>(head.source, head.position + 1));
+            }
+        }
+        return merged;
+    }
+
+    private record Head<T>(List<T> source, int position) {
+        T value() {
+            return source.get(position);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.dotconvertecs.smart_inventory_manager.service;
+
+import com.dotconvertecs.smart_inventory_manager.model.dto.request.ItemBatchRequestDto;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemBatchResponseDto;
+
+public interface ItemBatchService {
+
+    ItemBatchResponseDto process(ItemBatchRequestDto request);
+
+}
@@ -0,0 +1,9 @@
+package com.dotconvertecs.smart_inventory_manager.service;
+
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemChangePageDto;
+
+public interface ItemChangeService {
+
+    ItemChangePageDto getChanges(long since, int limit);
+
+}
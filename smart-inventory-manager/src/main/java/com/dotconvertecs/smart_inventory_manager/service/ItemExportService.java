@@ -0,0 +1,12 @@
+package com.dotconvertecs.smart_inventory_manager.service;
+
+import com.dotconvertecs.smart_inventory_manager.model.enums.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface ItemExportService {
+
+    void export(ExportFormat format, OutputStream out) throws IOException;
+
+}
@@ -0,0 +1,14 @@
+package com.dotconvertecs.smart_inventory_manager.service;
+
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemImportJobDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+public interface ItemImportService {
+
+    ItemImportJobDto submit(InputStream csv) throws IOException;
+    Optional<ItemImportJobDto> getJob(String id);
+
+}
@@ -2,17 +2,27 @@ package com.dotconvertecs.smart_inventory_manager.service;
 
 import com.dotconvertecs.smart_inventory_manager.model.dto.request.ItemRequestCreateDto;
 import com.dotconvertecs.smart_inventory_manager.model.dto.request.ItemRequestUpdateDto;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemJsonPage;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemPageResponseDto;
 import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemResponseDto;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.Optional;
 
 public interface ItemService {
 
-    List<ItemResponseDto> getAllItems(Double minPrice, Double maxPrice, String sortBy, String order);
+    ItemPageResponseDto getAllItems(Double minPrice, Double maxPrice, String sortBy, String order, int limit, String after);
+    ItemJsonPage getAllItemsJson(Double minPrice, Double maxPrice, String sortBy, String order, int limit, String after);
+    ItemPageResponseDto searchItems(String query, int limit, String after);
     ItemResponseDto getItemById(Long id);
+    Optional<ItemResponseDto> getItemIfModified(Long id, long knownVersion);
     ItemResponseDto createItem(ItemRequestCreateDto dto);
-    ItemResponseDto updateItem(Long id, ItemRequestUpdateDto dto);
+    ItemResponseDto updateItem(Long id, ItemRequestUpdateDto dto, Long expectedVersion);
     void deleteItem(Long id);
+    ItemResponseDto adjustStock(Long id, int delta);
     List<ItemResponseDto> getLowStockItems(int threshold);
+    void writeLowStockItemsJson(int threshold, OutputStream out) throws IOException;
 
 }
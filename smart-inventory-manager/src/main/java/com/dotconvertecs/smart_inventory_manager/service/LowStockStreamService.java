@@ -0,0 +1,9 @@
+package com.dotconvertecs.smart_inventory_manager.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface LowStockStreamService {
+
+    SseEmitter subscribe(int threshold);
+
+}
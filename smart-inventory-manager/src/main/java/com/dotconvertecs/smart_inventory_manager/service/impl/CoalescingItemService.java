@@ -0,0 +1,127 @@
+package com.dotconvertecs.smart_inventory_manager.service.impl;
+
+import com.dotconvertecs.smart_inventory_manager.event.InventoryChangeCounter;
+import com.dotconvertecs.smart_inventory_manager.model.dto.request.ItemRequestCreateDto;
+import com.dotconvertecs.smart_inventory_manager.model.dto.request.ItemRequestUpdateDto;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemJsonPage;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemPageResponseDto;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemResponseDto;
+import com.dotconvertecs.smart_inventory_manager.service.ItemService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Lets concurrent identical listing calls share one query. Keys hold the normalized parameters
+ * and the change counter read on entry, so a caller never joins or reuses a query that started
+ * before the last write this instance committed.
+ */
+@Service
+public class CoalescingItemService implements ItemService {
+
+    private final ItemService delegate;
+    private final InventoryChangeCounter changeCounter;
+    private final boolean enabled;
+    private final SingleFlight<PageKey, ItemPageResponseDto> pages;
+    private final SingleFlight<PageKey, ItemJsonPage> jsonPages;
+    private final SingleFlight<LowStockKey, List<ItemResponseDto>> lowStock;
+
+    public CoalescingItemService(@Qualifier("itemServiceImpl") ItemService delegate,
+                                 InventoryChangeCounter changeCounter,
+                                 MeterRegistry registry,
+                                 @Value("${inventory.coalesce.enabled:true}") boolean enabled,
+                                 @Value("${inventory.coalesce.reuse-window:0ms}") Duration reuseWindow) {
+        this.delegate = delegate;
+        this.changeCounter = changeCounter;
+        this.enabled = enabled;
+        this.pages = new SingleFlight<>("getAllItems", reuseWindow, registry);
+        this.jsonPages = new SingleFlight<>("getAllItemsJson", reuseWindow, registry);
+        this.lowStock = new SingleFlight<>("getLowStockItems", reuseWindow, registry);
+    }
+
+    @Override
+    public ItemPageResponseDto getAllItems(Double minPrice, Double maxPrice, String sortBy, String order, int limit, String after) {
+        if (!enabled) {
+            return delegate.getAllItems(minPrice, maxPrice, sortBy, order, limit, after);
+        }
+        return pages.execute(pageKey(minPrice, maxPrice, sortBy, order, limit, after),
+                () -> delegate.getAllItems(minPrice, maxPrice, sortBy, order, limit, after));
+    }
+
+    @Override
+    public ItemJsonPage getAllItemsJson(Double minPrice, Double maxPrice, String sortBy, String order, int limit, String after) {
+        if (!enabled) {
+            return delegate.getAllItemsJson(minPrice, maxPrice, sortBy, order, limit, after);
+        }
+        return jsonPages.execute(pageKey(minPrice, maxPrice, sortBy, order, limit, after),
+                () -> delegate.getAllItemsJson(minPrice, maxPrice, sortBy, order, limit, after));
+    }
+
+    @Override
+    public List<ItemResponseDto> getLowStockItems(int threshold) {
+        if (!enabled) {
+            return delegate.getLowStockItems(threshold);
+        }
+        return lowStock.execute(new LowStockKey(changeCounter.current(), threshold),
+                () -> delegate.getLowStockItems(threshold));
+    }
+
+    @Override
+    public ItemPageResponseDto searchItems(String query, int limit, String after) {
+        return delegate.searchItems(query, limit, after);
+    }
+
+    @Override
+    public ItemResponseDto getItemById(Long id) {
+        return delegate.getItemById(id);
+    }
+
+    @Override
+    public Optional<ItemResponseDto> getItemIfModified(Long id, long knownVersion) {
+        return delegate.getItemIfModified(id, knownVersion);
+    }
+
+    @Override
+    public ItemResponseDto createItem(ItemRequestCreateDto dto) {
+        return delegate.createItem(dto);
+    }
+
+    @Override
+    public ItemResponseDto updateItem(Long id, ItemRequestUpdateDto dto, Long expectedVersion) {
+        return delegate.updateItem(id, dto, expectedVersion);
+    }
+
+    @Override
+    public void deleteItem(Long id) {
+        delegate.deleteItem(id);
+    }
+
+    @Override
+    public ItemResponseDto adjustStock(Long id, int delta) {
+        return delegate.adjustStock(id, delta);
+    }
+
+    @Override
+    public void writeLowStockItemsJson(int threshold, OutputStream out) throws IOException {
+        delegate.writeLowStockItemsJson(threshold, out);
+    }
+
+    private PageKey pageKey(Double minPrice, Double maxPrice, String sortBy, String order, int limit, String after) {
+        return new PageKey(changeCounter.current(), minPrice, maxPrice,
+                "price".equalsIgnoreCase(sortBy), "desc".equalsIgnoreCase(order), limit, after);
+    }
+
+    private record PageKey(long version, Double minPrice, Double maxPrice, boolean sortByPrice,
+                           boolean descending, int limit, String after) {
+    }
+
+    private record LowStockKey(long version, int threshold) {
+    }
+}
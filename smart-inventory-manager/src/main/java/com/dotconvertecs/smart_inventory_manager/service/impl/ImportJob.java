@@ -0,0 +1,103 @@
+package com.dotconvertecs.smart_inventory_manager.service.impl;
+
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemImportErrorDto;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemImportJobDto;
+import com.dotconvertecs.smart_inventory_manager.model.enums.ImportJobStatus;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of one CSV import, updated concurrently by the reader, validators and writers. Only
+ * the first {@code maxErrors} row errors are kept; the rejected count covers all of them.
+ */
+final class ImportJob {
+
+    private final String id;
+    private final int maxErrors;
+    private final Instant submittedAt = Instant.now();
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong rowsImported = new AtomicLong();
+    private final AtomicLong rowsRejected = new AtomicLong();
+    private final AtomicInteger keptErrors = new AtomicInteger();
+    private final ConcurrentLinkedQueue<ItemImportErrorDto> errors = new ConcurrentLinkedQueue<>();
+
+    private volatile ImportJobStatus status = ImportJobStatus.QUEUED;
+    private volatile String message;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+
+    ImportJob(String id, int maxErrors) {
+        this.id = id;
+        this.maxErrors = maxErrors;
+    }
+
+    String id() {
+        return id;
+    }
+
+    void started() {
+        startedAt = Instant.now();
+        status = ImportJobStatus.RUNNING;
+    }
+
+    void completed() {
+        finishedAt = Instant.now();
+        status = ImportJobStatus.COMPLETED;
+    }
+
+    void failed(String reason) {
+        message = reason;
+        finishedAt = Instant.now();
+        status = ImportJobStatus.FAILED;
+    }
+
+    boolean isFailed() {
+        return status == ImportJobStatus.FAILED;
+    }
+
+    boolean isFinished() {
+        return finishedAt != null;
+    }
+
+    Instant finishedAt() {
+        return finishedAt;
+    }
+
+    void rowRead() {
+        rowsRead.incrementAndGet();
+    }
+
+    void imported(int rows) {
+        rowsImported.addAndGet(rows);
+    }
+
+    void rejected(long row, String reason) {
+        rowsRejected.incrementAndGet();
+        if (keptErrors.getAndIncrement() < maxErrors) {
+            errors.add(new ItemImportErrorDto(row, reason));
+        }
+    }
+
+    ItemImportJobDto toDto() {
+        List<ItemImportErrorDto> snapshot = new ArrayList<>(errors);
+        snapshot.sort((a, b) -> Long.compare(a.getRow(), b.getRow()));
+        return ItemImportJobDto.builder()
+                .id(id)
+                .status(status)
+                .rowsRead(rowsRead.get())
+                .rowsImported(rowsImported.get())
+                .rowsRejected(rowsRejected.get())
+                .errors(snapshot)
+                .errorsTruncated(keptErrors.get() > maxErrors)
+                .message(message)
+                .submittedAt(submittedAt)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .build();
+    }
+}
@@ -0,0 +1,192 @@
+package com.dotconvertecs.smart_inventory_manager.service.impl;
+
+import com.dotconvertecs.smart_inventory_manager.event.ItemChangedEvent;
+import com.dotconvertecs.smart_inventory_manager.model.dto.request.ItemBatchEntryDto;
+import com.dotconvertecs.smart_inventory_manager.model.dto.request.ItemBatchRequestDto;
+import com.dotconvertecs.smart_inventory_manager.model.dto.request.ItemRequestCreateDto;
+import com.dotconvertecs.smart_inventory_manager.model.dto.request.ItemRequestUpdateDto;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemBatchResponseDto;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemBatchResultDto;
+import com.dotconvertecs.smart_inventory_manager.model.entity.Item;
+import com.dotconvertecs.smart_inventory_manager.model.enums.BatchEntryStatus;
+import com.dotconvertecs.smart_inventory_manager.model.enums.BatchOperation;
+import com.dotconvertecs.smart_inventory_manager.model.mapper.ItemMapper;
+import com.dotconvertecs.smart_inventory_manager.repository.ItemRepository;
+import com.dotconvertecs.smart_inventory_manager.service.ItemBatchService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+public class ItemBatchServiceImpl implements ItemBatchService {
+
+    private final ItemRepository repository;
+    private final ItemMapper itemMapper;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+
+    public ItemBatchServiceImpl(ItemRepository repository,
+                                ItemMapper itemMapper,
+                                Validator validator,
+                                ApplicationEventPublisher eventPublisher,
+                                @Value("${inventory.batch.chunk-size:500}") int chunkSize) {
+        this.repository = repository;
+        this.itemMapper = itemMapper;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Entries run in submission order. Consecutive entries with the same operation go to the
+     * repository as one JDBC batch of up to {@code chunkSize} statements, and a change of
+     * operation flushes the pending batch first, so a delete after an update of the same id
+     * still sees the update.
+     */
+    @Override
+    @Transactional
+    public ItemBatchResponseDto process(ItemBatchRequestDto request) {
+        List<ItemBatchEntryDto> entries = request.getEntries();
+        ItemBatchResultDto[] results = new ItemBatchResultDto[entries.size()];
+
+        Run run = new Run(null);
+        for (int i = 0; i < entries.size(); i++) {
+            ItemBatchEntryDto entry = entries.get(i);
+            String error = validate(entry);
+            if (error != null) {
+                results[i] = result(i, entry, entry.getId(), BatchEntryStatus.INVALID, error);
+                continue;
+            }
+            if (entry.getOperation() != run.operation || run.indexes.size() == chunkSize) {
+                flush(run, entries, results);
+                run = new Run(entry.getOperation());
+            }
+            run.indexes.add(i);
+            switch (entry.getOperation()) {
+                case CREATE -> run.items.add(itemMapper.toEntity(entry.getItem()));
+                case UPDATE -> {
+                    Item item = new Item();
+                    item.setId(entry.getId());
+                    itemMapper.updateEntityFromDto(item, toUpdateDto(entry.getItem()));
+                    run.items.add(item);
+                }
+                case DELETE -> run.ids.add(entry.getId());
+            }
+        }
+        flush(run, entries, results);
+
+        return new ItemBatchResponseDto(Arrays.asList(results));
+    }
+
+    private void flush(Run run, List<ItemBatchEntryDto> entries, ItemBatchResultDto[] results) {
+        if (run.indexes.isEmpty()) {
+            return;
+        }
+        switch (run.operation) {
+            case CREATE -> {
+                List<Item> saved = repository.saveAll(run.items);
+                for (int j = 0; j < saved.size(); j++) {
+                    int index = run.indexes.get(j);
+                    eventPublisher.publishEvent(ItemChangedEvent.created(saved.get(j)));
+                    results[index] = result(index, entries.get(index), saved.get(j).getId(), BatchEntryStatus.CREATED, null);
+                }
+            }
+            case UPDATE -> {
+                int[] counts = repository.updateAll(run.items);
+                for (int j = 0; j < counts.length; j++) {
+                    int index = run.indexes.get(j);
+                    if (counts[j] != 0) {
+                        eventPublisher.publishEvent(ItemChangedEvent.updated(run.items.get(j)));
+                    }
+                    results[index] = affected(index, entries.get(index), counts[j], BatchEntryStatus.UPDATED);
+                }
+            }
+            case DELETE -> {
+                int[] counts = repository.deleteAll(run.ids);
+                for (int j = 0; j < counts.length; j++) {
+                    int index = run.indexes.get(j);
+                    if (counts[j] != 0) {
+                        eventPublisher.publishEvent(ItemChangedEvent.deleted(run.ids.get(j)));
+                    }
+                    results[index] = affected(index, entries.get(index), counts[j], BatchEntryStatus.DELETED);
+                }
+            }
+        }
+    }
+
+    private String validate(ItemBatchEntryDto entry) {
+        if (entry.getOperation() == null) {
+            return "operation: Operation is required";
+        }
+        if (entry.getOperation() != BatchOperation.CREATE && entry.getId() == null) {
+            return "id: Id is required";
+        }
+        if (entry.getOperation() == BatchOperation.DELETE) {
+            return null;
+        }
+        if (entry.getItem() == null) {
+            return "item: Item is required";
+        }
+
+        Set<? extends ConstraintViolation<?>> violations = entry.getOperation() == BatchOperation.CREATE
+                ? validator.validate(entry.getItem())
+                : validator.validate(toUpdateDto(entry.getItem()));
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private ItemRequestUpdateDto toUpdateDto(ItemRequestCreateDto item) {
+        return ItemRequestUpdateDto.builder()
+                .name(item.getName())
+                .description(item.getDescription())
+                .quantity(item.getQuantity())
+                .price(item.getPrice())
+                .build();
+    }
+
+    private ItemBatchResultDto affected(int index, ItemBatchEntryDto entry, int count, BatchEntryStatus success) {
+        if (count == 0) {
+            return result(index, entry, entry.getId(), BatchEntryStatus.NOT_FOUND, "Item not found with id " + entry.getId());
+        }
+        return result(index, entry, entry.getId(), success, null);
+    }
+
+    private ItemBatchResultDto result(int index, ItemBatchEntryDto entry, Long id, BatchEntryStatus status, String message) {
+        return ItemBatchResultDto.builder()
+                .index(index)
+                .operation(entry.getOperation())
+                .id(id)
+                .status(status)
+                .message(message)
+                .build();
+    }
+
+    /**
+     * Consecutive valid entries with the same operation, waiting to be sent as one batch.
+     */
+    private static final class Run {
+        private final BatchOperation operation;
+        private final List<Integer> indexes = new ArrayList<>();
+        private final List<Item> items = new ArrayList<>();
+        private final List<Long> ids = new ArrayList<>();
+
+        private Run(BatchOperation operation) {
+            this.operation = operation;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.dotconvertecs.smart_inventory_manager.service.impl;
+
+import com.dotconvertecs.smart_inventory_manager.exception.custome.InvalidRequestException;
+import com.dotconvertecs.smart_inventory_manager.journal.ChangeJournal;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemChangeDto;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemChangePageDto;
+import com.dotconvertecs.smart_inventory_manager.model.mapper.ItemMapper;
+import com.dotconvertecs.smart_inventory_manager.service.ItemChangeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "inventory.journal.enabled", havingValue = "true")
+public class ItemChangeServiceImpl implements ItemChangeService {
+
+    private static final int MAX_PAGE_SIZE = 10000;
+
+    private final ChangeJournal journal;
+    private final ItemMapper itemMapper;
+
+    @Override
+    public ItemChangePageDto getChanges(long since, int limit) {
+        if (since < 0) {
+            throw new InvalidRequestException("since must be >= 0");
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        long head = journal.head();
+        List<ItemChangeDto> changes = new ArrayList<>(Math.min(limit, 1024));
+        journal.read(since, limit + 1, entry -> changes.add(new ItemChangeDto(entry.getSequence(), entry.getType(),
+                entry.getId(), entry.getItem() == null ? null : itemMapper.toResponse(entry.getItem()))));
+
+        String nextCursor = null;
+        if (changes.size() > limit) {
+            changes.removeLast();
+            nextCursor = String.valueOf(changes.getLast().getSequence());
+        }
+        return new ItemChangePageDto(changes, head, nextCursor);
+    }
+}
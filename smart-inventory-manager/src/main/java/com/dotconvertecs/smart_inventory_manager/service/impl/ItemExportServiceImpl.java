@@ -0,0 +1,99 @@
+package com.dotconvertecs.smart_inventory_manager.service.impl;
+
+import com.dotconvertecs.smart_inventory_manager.model.entity.Item;
+import com.dotconvertecs.smart_inventory_manager.model.enums.ExportFormat;
+import com.dotconvertecs.smart_inventory_manager.model.mapper.ItemMapper;
+import com.dotconvertecs.smart_inventory_manager.repository.ItemRepository;
+import com.dotconvertecs.smart_inventory_manager.service.ItemExportService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+@Service
+@RequiredArgsConstructor
+public class ItemExportServiceImpl implements ItemExportService {
+
+    private static final String CSV_HEADER = "id,name,description,quantity,price\n";
+
+    private final ItemRepository repository;
+    private final ItemMapper itemMapper;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void export(ExportFormat format, OutputStream out) throws IOException {
+        try {
+            switch (format) {
+                case NDJSON -> exportNdjson(out);
+                case CSV -> exportCsv(out);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void exportNdjson(OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.createGenerator(out);
+        generator.setRootValueSeparator(null);
+
+        repository.streamAll(item -> {
+            try {
+                generator.writeObject(itemMapper.toResponse(item));
+                generator.writeRaw('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        generator.flush();
+    }
+
+    private void exportCsv(OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+
+        repository.streamAll(item -> {
+            try {
+                writeCsvRow(writer, item);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+    }
+
+    private void writeCsvRow(Writer writer, Item item) throws IOException {
+        writer.write(String.valueOf(item.getId()));
+        writer.write(',');
+        writeCsvField(writer, item.getName());
+        writer.write(',');
+        writeCsvField(writer, item.getDescription());
+        writer.write(',');
+        writer.write(String.valueOf(item.getQuantity()));
+        writer.write(',');
+        writer.write(String.valueOf(item.getPrice()));
+        writer.write('\n');
+    }
+
+    private void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,413 @@
+package com.dotconvertecs.smart_inventory_manager.service.impl;
+
+import com.dotconvertecs.smart_inventory_manager.event.ItemChangedEvent;
+import com.dotconvertecs.smart_inventory_manager.model.dto.request.ItemRequestCreateDto;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemImportJobDto;
+import com.dotconvertecs.smart_inventory_manager.model.entity.Item;
+import com.dotconvertecs.smart_inventory_manager.model.mapper.ItemMapper;
+import com.dotconvertecs.smart_inventory_manager.repository.ItemRepository;
+import com.dotconvertecs.smart_inventory_manager.service.ItemImportService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Runs CSV imports as background jobs, one at a time. The upload is spooled to a temporary file
+ * and read record by record. Chunks of rows are parsed and validated on a pool of workers, and
+ * valid items pass through a bounded queue to a few writers doing batched inserts. Both the
+ * chunks being validated and the queue are bounded, so a slow database stalls the reader
+ * instead of piling up rows in memory.
+ */
+@Slf4j
+@Service
+public class ItemImportServiceImpl implements ItemImportService {
+
+    private static final Chunk END = new Chunk(new long[0], List.of());
+
+    private final ItemRepository repository;
+    private final ItemMapper itemMapper;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int queueCapacity;
+    private final int validationPermits;
+    private final int writers;
+    private final int maxErrors;
+    private final Duration retention;
+    private final Counter importedRows;
+    private final Counter rejectedRows;
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+    private final ExecutorService jobRunner;
+    private final ExecutorService validators;
+    private final ExecutorService writerPool;
+
+    public ItemImportServiceImpl(ItemRepository repository,
+                                 ItemMapper itemMapper,
+                                 Validator validator,
+                                 ApplicationEventPublisher eventPublisher,
+                                 TransactionTemplate transactionTemplate,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${inventory.import.batch-size:1000}") int batchSize,
+                                 @Value("${inventory.import.queue-capacity:16}") int queueCapacity,
+                                 @Value("${inventory.import.parallelism:0}") int parallelism,
+                                 @Value("${inventory.import.writers:4}") int writers,
+                                 @Value("${inventory.import.max-errors:1000}") int maxErrors,
+                                 @Value("${inventory.import.retention:PT1H}") Duration retention) {
+        this.repository = repository;
+        this.itemMapper = itemMapper;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.queueCapacity = queueCapacity;
+        this.writers = writers;
+        this.maxErrors = maxErrors;
+        this.retention = retention;
+        this.importedRows = rowCounter(meterRegistry, "imported");
+        this.rejectedRows = rowCounter(meterRegistry, "rejected");
+
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.validationPermits = threads * 2;
+        this.jobRunner = Executors.newSingleThreadExecutor(
+                Thread.ofPlatform().name("item-import").daemon().factory());
+        this.validators = Executors.newFixedThreadPool(threads,
+                Thread.ofPlatform().name("item-import-validator-", 0).daemon().factory());
+        this.writerPool = Executors.newFixedThreadPool(writers,
+                Thread.ofPlatform().name("item-import-writer-", 0).daemon().factory());
+    }
+
+    @Override
+    public ItemImportJobDto submit(InputStream csv) throws IOException {
+        Path file = Files.createTempFile("item-import-", ".csv");
+        try {
+            Files.copy(csv, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+
+        pruneFinishedJobs();
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), maxErrors);
+        jobs.put(job.id(), job);
+        jobRunner.execute(() -> {
+            try {
+                run(job, file);
+            } finally {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    log.warn("Could not delete import file {}", file, e);
+                }
+            }
+        });
+        return job.toDto();
+    }
+
+    @Override
+    public Optional<ItemImportJobDto> getJob(String id) {
+        return Optional.ofNullable(jobs.get(id)).map(ImportJob::toDto);
+    }
+
+    @PreDestroy
+    public void close() {
+        jobRunner.shutdownNow();
+        validators.shutdownNow();
+        writerPool.shutdownNow();
+    }
+
+    void run(ImportJob job, Path file) {
+        job.started();
+        long started = System.nanoTime();
+        BlockingQueue<Chunk> validated = new ArrayBlockingQueue<>(queueCapacity);
+        Semaphore inFlight = new Semaphore(validationPermits);
+        List<Future<?>> writerTasks = new ArrayList<>(writers);
+        for (int i = 0; i < writers; i++) {
+            writerTasks.add(writerPool.submit(() -> write(job, validated)));
+        }
+
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            CsvRecordReader csv = new CsvRecordReader(reader);
+            Columns columns = Columns.of(csv.next());
+            List<List<String>> records = new ArrayList<>(batchSize);
+            long row = 0;
+            List<String> record;
+            while (!job.isFailed() && (record = csv.next()) != null) {
+                if (record.size() == 1 && record.getFirst().isBlank()) {
+                    continue;
+                }
+                row++;
+                job.rowRead();
+                records.add(record);
+                if (records.size() == batchSize) {
+                    dispatch(job, columns, records, row - records.size() + 1, validated, inFlight);
+                    records = new ArrayList<>(batchSize);
+                }
+            }
+            if (!records.isEmpty()) {
+                dispatch(job, columns, records, row - records.size() + 1, validated, inFlight);
+            }
+            inFlight.acquire(validationPermits);
+        } catch (IOException | RuntimeException e) {
+            job.failed(e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.failed("Import was interrupted");
+        } finally {
+            for (int i = 0; i < writers; i++) {
+                enqueue(validated, END, job);
+            }
+            for (Future<?> writer : writerTasks) {
+                try {
+                    writer.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    job.failed("Import was interrupted");
+                } catch (Exception e) {
+                    job.failed("Import failed: " + e.getMessage());
+                }
+            }
+        }
+
+        if (!job.isFailed()) {
+            job.completed();
+        }
+        ItemImportJobDto result = job.toDto();
+        log.info("Import {} {} in {} ms: {} rows read, {} imported, {} rejected", job.id(), result.getStatus(),
+                (System.nanoTime() - started) / 1_000_000, result.getRowsRead(), result.getRowsImported(),
+                result.getRowsRejected());
+    }
+
+    private void dispatch(ImportJob job, Columns columns, List<List<String>> records, long firstRow,
+                          BlockingQueue<Chunk> validated, Semaphore inFlight) throws InterruptedException {
+        inFlight.acquire();
+        try {
+            validators.execute(() -> {
+                try {
+                    Chunk chunk = validate(job, columns, records, firstRow);
+                    if (!chunk.items().isEmpty()) {
+                        enqueue(validated, chunk, job);
+                    }
+                } catch (RuntimeException e) {
+                    log.error("Validating import rows from {} failed", firstRow, e);
+                    job.failed("Import failed: " + e.getMessage());
+                } finally {
+                    inFlight.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.release();
+            throw e;
+        }
+    }
+
+    private Chunk validate(ImportJob job, Columns columns, List<List<String>> records, long firstRow) {
+        long[] rows = new long[records.size()];
+        List<Item> items = new ArrayList<>(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            long row = firstRow + i;
+            String error;
+            ItemRequestCreateDto dto = null;
+            try {
+                dto = columns.toDto(records.get(i));
+                error = violations(dto);
+            } catch (IllegalArgumentException e) {
+                error = e.getMessage();
+            }
+            if (error != null) {
+                reject(job, row, error);
+            } else {
+                rows[items.size()] = row;
+                items.add(itemMapper.toEntity(dto));
+            }
+        }
+        return new Chunk(Arrays.copyOf(rows, items.size()), items);
+    }
+
+    private String violations(ItemRequestCreateDto dto) {
+        Set<ConstraintViolation<ItemRequestCreateDto>> violations = validator.validate(dto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private void write(ImportJob job, BlockingQueue<Chunk> validated) {
+        try {
+            while (true) {
+                Chunk chunk = validated.poll(100, TimeUnit.MILLISECONDS);
+                if (chunk == END || job.isFailed()) {
+                    return;
+                }
+                if (chunk != null) {
+                    insert(job, chunk);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.error("Import {} failed while writing", job.id(), e);
+            job.failed("Import failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Inserts a chunk as one batch in its own transaction. If the batch fails, it was rolled back,
+     * so the rows are retried one at a time to find the ones the database rejects.
+     */
+    private void insert(ImportJob job, Chunk chunk) {
+        List<Item> saved;
+        try {
+            saved = transactionTemplate.execute(status -> repository.saveAll(chunk.items()));
+        } catch (DataAccessException e) {
+            insertOneByOne(job, chunk);
+            return;
+        }
+        if (saved != null) {
+            saved.forEach(item -> eventPublisher.publishEvent(ItemChangedEvent.created(item)));
+            job.imported(saved.size());
+            importedRows.increment(saved.size());
+        }
+    }
+
+    private void insertOneByOne(ImportJob job, Chunk chunk) {
+        int saved = 0;
+        DataAccessException failure = null;
+        for (int i = 0; i < chunk.items().size(); i++) {
+            Item item = chunk.items().get(i);
+            item.setId(null);
+            try {
+                eventPublisher.publishEvent(ItemChangedEvent.created(repository.save(item)));
+                saved++;
+            } catch (DataAccessException e) {
+                failure = e;
+                reject(job, chunk.rows()[i], e.getMostSpecificCause().getMessage());
+            }
+        }
+        job.imported(saved);
+        importedRows.increment(saved);
+        if (saved == 0 && failure != null) {
+            // not a bad row: nothing in the chunk could be written
+            throw failure;
+        }
+    }
+
+    private void reject(ImportJob job, long row, String reason) {
+        job.rejected(row, reason);
+        rejectedRows.increment();
+    }
+
+    private static void enqueue(BlockingQueue<Chunk> queue, Chunk chunk, ImportJob job) {
+        try {
+            while (!queue.offer(chunk, 100, TimeUnit.MILLISECONDS)) {
+                if (job.isFailed()) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void pruneFinishedJobs() {
+        Instant cutoff = Instant.now().minus(retention);
+        jobs.values().removeIf(job -> job.isFinished() && job.finishedAt().isBefore(cutoff));
+    }
+
+    private static Counter rowCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("inventory.import.rows")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record Chunk(long[] rows, List<Item> items) {
+    }
+
+    /**
+     * Positions of the item fields in the header. Extra columns, such as the {@code id} written by
+     * the CSV export, are ignored.
+     */
+    private record Columns(int name, int description, int quantity, int price) {
+
+        static Columns of(List<String> header) {
+            if (header == null) {
+                throw new IllegalArgumentException("CSV file is empty");
+            }
+            List<String> names = new ArrayList<>(header.size());
+            for (String column : header) {
+                names.add(column.replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT));
+            }
+            Columns columns = new Columns(names.indexOf("name"), names.indexOf("description"),
+                    names.indexOf("quantity"), names.indexOf("price"));
+            if (columns.name < 0 || columns.quantity < 0 || columns.price < 0) {
+                throw new IllegalArgumentException("CSV header must contain name, quantity and price columns");
+            }
+            return columns;
+        }
+
+        ItemRequestCreateDto toDto(List<String> record) {
+            String text = field(record, description);
+            return ItemRequestCreateDto.builder()
+                    .name(field(record, name))
+                    .description(text == null || text.isEmpty() ? null : text)
+                    .quantity(parse(field(record, quantity), "quantity", Integer::valueOf))
+                    .price(parse(field(record, price), "price", Double::valueOf))
+                    .build();
+        }
+
+        private static String field(List<String> record, int index) {
+            return index < 0 || index >= record.size() ? null : record.get(index);
+        }
+
+        private static <T> T parse(String value, String column, Function<String, T> parser) {
+            if (value == null || value.isBlank()) {
+                return null;
+            }
+            try {
+                return parser.apply(value.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(column + ": Invalid number " + value);
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.dotconvertecs.smart_inventory_manager.service.impl;
+
+import com.dotconvertecs.smart_inventory_manager.model.query.ItemCursor;
+import com.dotconvertecs.smart_inventory_manager.repository.ItemRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Writes item rows straight to a {@link JsonGenerator} in the same field order as
+ * {@code ItemResponseDto}, so the output matches what Jackson produces for the mapped DTOs.
+ * Rows past {@code limit} are not written; they only mark that another page exists.
+ */
+class ItemJsonRowWriter implements ItemRepository.RowConsumer {
+
+    private final JsonGenerator generator;
+    private final int limit;
+
+    private int written;
+    private boolean hasMore;
+    private long lastId;
+    private double lastPrice;
+
+    ItemJsonRowWriter(JsonGenerator generator, int limit) {
+        this.generator = generator;
+        this.limit = limit;
+    }
+
+    @Override
+    public void accept(long id, String name, String description, int quantity, double price, long version) {
+        if (written == limit) {
+            hasMore = true;
+            return;
+        }
+        try {
+            generator.writeStartObject();
+            generator.writeNumberField("id", id);
+            generator.writeStringField("name", name);
+            generator.writeStringField("description", description);
+            generator.writeNumberField("quantity", quantity);
+            generator.writeNumberField("price", price);
+            generator.writeNumberField("version", version);
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        written++;
+        lastId = id;
+        lastPrice = price;
+    }
+
+    int written() {
+        return written;
+    }
+
+    String nextCursor(boolean sortByPrice) {
+        return hasMore ? new ItemCursor(sortByPrice ? lastPrice : null, lastId).encode() : null;
+    }
+}
@@ -1,43 +1,122 @@
 package com.dotconvertecs.smart_inventory_manager.service.impl;
 
+import com.dotconvertecs.smart_inventory_manager.event.ItemChangedEvent;
+import com.dotconvertecs.smart_inventory_manager.exception.custome.InvalidRequestException;
 import com.dotconvertecs.smart_inventory_manager.exception.custome.ItemNotFoundException;
+import com.dotconvertecs.smart_inventory_manager.exception.custome.PreconditionFailedException;
+import com.dotconvertecs.smart_inventory_manager.exception.custome.ServiceUnavailableException;
+import com.dotconvertecs.smart_inventory_manager.index.PriceIndex;
+import com.dotconvertecs.smart_inventory_manager.index.SearchIndex;
 import com.dotconvertecs.smart_inventory_manager.model.dto.request.ItemRequestCreateDto;
 import com.dotconvertecs.smart_inventory_manager.model.dto.request.ItemRequestUpdateDto;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemJsonPage;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemPageResponseDto;
 import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemResponseDto;
 import com.dotconvertecs.smart_inventory_manager.model.entity.Item;
 import com.dotconvertecs.smart_inventory_manager.model.mapper.ItemMapper;
+import com.dotconvertecs.smart_inventory_manager.model.query.ItemCursor;
+import com.dotconvertecs.smart_inventory_manager.model.query.ItemQuery;
 import com.dotconvertecs.smart_inventory_manager.repository.ItemRepository;
 import com.dotconvertecs.smart_inventory_manager.service.ItemService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
-import java.util.Comparator;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ItemServiceImpl implements ItemService {
 
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int MAX_SEARCH_OFFSET = 10000;
 
     private final ItemRepository repository;
     private final ItemMapper itemMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PriceIndex priceIndex;
+    private final StockAdjuster stockAdjuster;
+    private final SearchIndex searchIndex;
+    private final ObjectMapper objectMapper;
 
     @Override
-    public List<ItemResponseDto> getAllItems(Double minPrice, Double maxPrice, String sortBy, String order) {
-        List<Item> items = repository.findAll();
-
-        items = filterPrice(items,minPrice,maxPrice);
-
+    public ItemPageResponseDto getAllItems(Double minPrice, Double maxPrice, String sortBy, String order, int limit, String after) {
+        ItemQuery query = pageQuery(minPrice, maxPrice, sortBy, order, limit, after);
+        List<Item> items = query.isSortByPrice() && priceIndex.isReady()
+                ? findInOrder(priceIndex.range(query))
+                : repository.findPage(query);
+
+        String nextCursor = null;
+        if (items.size() > limit) {
+            items = items.subList(0, limit);
+            nextCursor = ItemCursor.of(items.getLast(), query.isSortByPrice()).encode();
+        }
 
+        List<ItemResponseDto> content = items.stream()
+                .map(itemMapper::toResponse)
+                .collect(Collectors.toList());
+        return new ItemPageResponseDto(content, nextCursor);
+    }
 
-        items.sort(buildComparator(sortBy,order));
+    @Override
+    public ItemJsonPage getAllItemsJson(Double minPrice, Double maxPrice, String sortBy, String order, int limit, String after) {
+        ItemQuery query = pageQuery(minPrice, maxPrice, sortBy, order, limit, after);
+        try {
+            if (query.isSortByPrice() && priceIndex.isReady()) {
+                ItemPageResponseDto page = getAllItems(minPrice, maxPrice, sortBy, order, limit, after);
+                return new ItemJsonPage(objectMapper.writeValueAsBytes(page.getItems()), page.getNextCursor());
+            }
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(limit * 128);
+            JsonGenerator generator = objectMapper.createGenerator(out);
+            ItemJsonRowWriter writer = new ItemJsonRowWriter(generator, limit);
+            generator.writeStartArray();
+            repository.forEachInPage(query, writer);
+            generator.writeEndArray();
+            generator.flush();
+            return new ItemJsonPage(out.toByteArray(), writer.nextCursor(query.isSortByPrice()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    @Override
+    public ItemPageResponseDto searchItems(String query, int limit, String after) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidRequestException("q must not be blank");
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        int offset = parseOffset(after);
+        if (!searchIndex.isReady()) {
+            throw new ServiceUnavailableException("Search index is not available");
+        }
 
+        long[] ids = searchIndex.search(query, offset, limit + 1);
+        String nextCursor = null;
+        if (ids.length > limit) {
+            ids = Arrays.copyOf(ids, limit);
+            nextCursor = String.valueOf(offset + limit);
+        }
 
-        return items.stream()
+        List<ItemResponseDto> content = findInOrder(ids).stream()
                 .map(itemMapper::toResponse)
                 .collect(Collectors.toList());
+        return new ItemPageResponseDto(content, nextCursor);
     }
+
     @Override
     public ItemResponseDto getItemById(Long id) {
         Item item = repository.findById(id)
@@ -47,38 +126,73 @@ public class ItemServiceImpl implements ItemService {
         return itemMapper.toResponse(item);
     }
 
+    @Override
+    public Optional<ItemResponseDto> getItemIfModified(Long id, long knownVersion) {
+        Item item = repository.findById(id)
+                .orElseThrow(() -> new ItemNotFoundException("Item not found with id " + id));
+
+        if (item.getVersion() == knownVersion) {
+            return Optional.empty();
+        }
+        return Optional.of(itemMapper.toResponse(item));
+    }
+
     @Override
     public ItemResponseDto createItem(ItemRequestCreateDto dto) {
 
         Item itemToSave = itemMapper.toEntity(dto);
 
         Item savedItem = repository.save(itemToSave);
+        eventPublisher.publishEvent(ItemChangedEvent.created(savedItem));
 
 
         return itemMapper.toResponse(savedItem);
     }
 
     @Override
-    public ItemResponseDto updateItem(Long id, ItemRequestUpdateDto dto) {
-        Item existing = repository.findById(id)
-                .orElseThrow(() -> new ItemNotFoundException("Item not found with id " + id));
-
-
-        itemMapper.updateEntityFromDto(existing, dto);
-
-        repository.update(existing);
+    public ItemResponseDto updateItem(Long id, ItemRequestUpdateDto dto, Long expectedVersion) {
+        Item item = Item.builder()
+                .id(id)
+                .version(expectedVersion)
+                .build();
+        itemMapper.updateEntityFromDto(item, dto);
+
+        if (repository.update(item) == 0) {
+            if (expectedVersion == null || repository.findById(id).isEmpty()) {
+                throw new ItemNotFoundException("Item not found with id " + id);
+            }
+            throw new PreconditionFailedException("Item with id " + id + " has been modified by another request");
+        }
+        if (expectedVersion != null) {
+            item.setVersion(expectedVersion + 1);
+        }
+        eventPublisher.publishEvent(ItemChangedEvent.updated(item));
 
 
-        return itemMapper.toResponse(existing);
+        return itemMapper.toResponse(item);
     }
 
     @Override
     public void deleteItem(Long id) {
 
-        if (repository.findById(id).isEmpty()) {
+        if (repository.delete(id) == 0) {
             throw new ItemNotFoundException("Item not found with id " + id);
         }
-        repository.delete(id);
+        eventPublisher.publishEvent(ItemChangedEvent.deleted(id));
+    }
+
+    @Override
+    public ItemResponseDto adjustStock(Long id, int delta) {
+        if (delta == 0) {
+            throw new InvalidRequestException("delta must not be 0");
+        }
+        stockAdjuster.adjust(id, delta);
+
+        Item adjusted = repository.findById(id)
+                .orElseThrow(() -> new ItemNotFoundException("Item not found with id " + id));
+        eventPublisher.publishEvent(ItemChangedEvent.updated(adjusted));
+
+        return itemMapper.toResponse(adjusted);
     }
 
     @Override
@@ -89,35 +203,62 @@ public class ItemServiceImpl implements ItemService {
                 .map(itemMapper::toResponse)
                 .collect(Collectors.toList());
     }
-    private List<Item> filterPrice(List<Item> items, Double minPrice, Double maxPrice) {
 
-        var itemsStream = items.stream();
+    @Override
+    public void writeLowStockItemsJson(int threshold, OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.createGenerator(out);
+        generator.writeStartArray();
+        try {
+            repository.forEachLowStock(threshold, new ItemJsonRowWriter(generator, Integer.MAX_VALUE));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        generator.writeEndArray();
+        generator.flush();
+    }
 
+    private static ItemQuery pageQuery(Double minPrice, Double maxPrice, String sortBy, String order, int limit, String after) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        boolean sortByPrice = "price".equalsIgnoreCase(sortBy);
+
+        return ItemQuery.builder()
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .sortByPrice(sortByPrice)
+                .descending("desc".equalsIgnoreCase(order))
+                .after(after == null ? null : ItemCursor.parse(after, sortByPrice))
+                .limit(limit + 1)
+                .build();
+    }
 
-        if (minPrice != null) {
-            itemsStream = itemsStream.filter(i -> i.getPrice() >= minPrice);
+    private static int parseOffset(String after) {
+        if (after == null) {
+            return 0;
         }
-        if (maxPrice != null) {
-            itemsStream = itemsStream.filter(i -> i.getPrice() <= maxPrice);
+        try {
+            int offset = Integer.parseInt(after);
+            if (offset >= 0 && offset <= MAX_SEARCH_OFFSET) {
+                return offset;
+            }
+        } catch (NumberFormatException ignored) {
         }
-
-
-        return itemsStream.collect(Collectors.toList());
+        throw new InvalidRequestException("Invalid cursor " + after);
     }
 
+    private List<Item> findInOrder(long[] ids) {
+        Map<Long, Item> byId = repository.findByIds(Arrays.stream(ids).boxed().toList()).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
 
-    private Comparator<Item> buildComparator(String sortBy,String order){
-        Comparator<Item> comparator;
-        if ("price".equalsIgnoreCase(sortBy)) {
-            comparator = Comparator.comparing(Item::getPrice);
-        } else {
-            comparator = Comparator.comparing(Item::getId);
-        }
-
-        if ("desc".equalsIgnoreCase(order)) {
-            comparator = comparator.reversed();
+        List<Item> ordered = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            Item item = byId.get(id);
+            if (item != null) {
+                ordered.add(item);
+            }
         }
-        return comparator;
+        return ordered;
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,310 @@
+package com.dotconvertecs.smart_inventory_manager.service.impl;
+
+import com.dotconvertecs.smart_inventory_manager.event.ItemChangedEvent;
+import com.dotconvertecs.smart_inventory_manager.exception.custome.InvalidRequestException;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.LowStockEventDto;
+import com.dotconvertecs.smart_inventory_manager.model.entity.Item;
+import com.dotconvertecs.smart_inventory_manager.model.enums.ItemChangeType;
+import com.dotconvertecs.smart_inventory_manager.model.mapper.ItemMapper;
+import com.dotconvertecs.smart_inventory_manager.repository.ItemRepository;
+import com.dotconvertecs.smart_inventory_manager.service.LowStockStreamService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Pushes low-stock transitions to SSE subscribers. Subscribers are grouped by threshold and
+ * the quantities of items at or below the highest subscribed threshold are tracked in memory,
+ * so a write only has to look at the thresholds between the old and the new quantity.
+ */
+@Service
+public class LowStockStreamServiceImpl implements LowStockStreamService {
+
+    private static final int NOT_TRACKING = Integer.MIN_VALUE;
+
+    private final ItemRepository repository;
+    private final ItemMapper itemMapper;
+    private final Executor sender;
+    private final long timeoutMillis;
+    private final int queueCapacity;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final NavigableMap<Integer, List<Subscriber>> groups = new TreeMap<>();
+    private final Map<Long, Integer> lowQuantities = new HashMap<>();
+    private final List<Load> loads = new ArrayList<>();
+    private volatile int trackedThreshold = NOT_TRACKING;
+    private volatile int loading;
+
+    @Autowired
+    public LowStockStreamServiceImpl(ItemRepository repository,
+                                     ItemMapper itemMapper,
+                                     @Value("${inventory.low-stock-stream.timeout:30m}") Duration timeout,
+                                     @Value("${inventory.low-stock-stream.queue-capacity:256}") int queueCapacity) {
+        this(repository, itemMapper, Executors.newVirtualThreadPerTaskExecutor(), timeout, queueCapacity);
+    }
+
+    LowStockStreamServiceImpl(ItemRepository repository,
+                              ItemMapper itemMapper,
+                              Executor sender,
+                              Duration timeout,
+                              int queueCapacity) {
+        this.repository = repository;
+        this.itemMapper = itemMapper;
+        this.sender = sender;
+        this.timeoutMillis = timeout.toMillis();
+        this.queueCapacity = queueCapacity;
+    }
+
+    @Override
+    public SseEmitter subscribe(int threshold) {
+        if (threshold < 0) {
+            throw new InvalidRequestException("threshold must be >= 0");
+        }
+        Subscriber subscriber = new Subscriber(createEmitter(), threshold);
+
+        // The snapshot query runs outside the lock so writers are not held up behind it. Changes
+        // committed meanwhile are buffered and folded into the snapshot before it is published.
+        Load load = new Load();
+        lock.lock();
+        try {
+            loads.add(load);
+            loading = loads.size();
+        } finally {
+            lock.unlock();
+        }
+
+        List<Item> rows;
+        try {
+            rows = repository.findLowStock(threshold);
+        } catch (RuntimeException e) {
+            lock.lock();
+            try {
+                removeLoad(load);
+            } finally {
+                lock.unlock();
+            }
+            throw e;
+        }
+
+        lock.lock();
+        try {
+            removeLoad(load);
+            List<Item> current = merge(rows, load.events, threshold);
+            if (threshold > trackedThreshold) {
+                current.forEach(item -> lowQuantities.put(item.getId(), item.getQuantity()));
+                trackedThreshold = threshold;
+            }
+            // queued before joining the group so no live event can overtake the snapshot
+            subscriber.enqueue(new StreamEvent("snapshot", current.stream()
+                    .map(itemMapper::toResponse)
+                    .toList()));
+            groups.computeIfAbsent(threshold, t -> new ArrayList<>()).add(subscriber);
+        } finally {
+            lock.unlock();
+        }
+
+        SseEmitter emitter = subscriber.emitter;
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        if (trackedThreshold == NOT_TRACKING && loading == 0) {
+            return;
+        }
+        lock.lock();
+        try {
+            loads.forEach(load -> load.events.add(event));
+            if (trackedThreshold == NOT_TRACKING) {
+                return;
+            }
+            if (event.getType() == ItemChangeType.DELETED) {
+                Integer previous = lowQuantities.remove(event.getId());
+                if (previous != null) {
+                    notify(groups.tailMap(previous, true), "removed", event.getId(), null);
+                }
+                return;
+            }
+
+            Item item = event.getItem();
+            int quantity = item.getQuantity();
+            Integer previous = quantity <= trackedThreshold
+                    ? lowQuantities.put(event.getId(), quantity)
+                    : lowQuantities.remove(event.getId());
+
+            if (previous == null) {
+                notify(groups.tailMap(quantity, true), "low-stock", event.getId(), item);
+            } else if (quantity < previous) {
+                notify(groups.subMap(quantity, true, previous, false), "low-stock", event.getId(), item);
+            } else if (quantity > previous) {
+                notify(groups.subMap(previous, true, quantity, false), "restocked", event.getId(), item);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Scheduled(fixedRateString = "${inventory.low-stock-stream.heartbeat:PT30S}")
+    public void heartbeat() {
+        if (trackedThreshold == NOT_TRACKING) {
+            return;
+        }
+        List<Subscriber> subscribers = new ArrayList<>();
+        lock.lock();
+        try {
+            groups.values().forEach(subscribers::addAll);
+        } finally {
+            lock.unlock();
+        }
+        StreamEvent heartbeat = new StreamEvent(null, null);
+        subscribers.forEach(subscriber -> subscriber.enqueue(heartbeat));
+    }
+
+    protected SseEmitter createEmitter() {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    /**
+     * Applies the changes seen while the snapshot query ran. A change replaces the snapshot row
+     * unless the row carries a newer version, which means the query already saw a later write.
+     */
+    private static List<Item> merge(List<Item> rows, List<ItemChangedEvent> events, int threshold) {
+        if (events.isEmpty()) {
+            return rows;
+        }
+        Map<Long, Item> merged = new LinkedHashMap<>();
+        rows.forEach(row -> merged.put(row.getId(), row));
+        for (ItemChangedEvent event : events) {
+            if (event.getType() == ItemChangeType.DELETED) {
+                merged.remove(event.getId());
+                continue;
+            }
+            Item item = event.getItem();
+            Item row = merged.get(event.getId());
+            if (row != null && row.getVersion() != null && item.getVersion() != null
+                    && row.getVersion() > item.getVersion()) {
+                continue;
+            }
+            if (item.getQuantity() <= threshold) {
+                merged.put(event.getId(), item);
+            } else {
+                merged.remove(event.getId());
+            }
+        }
+        return new ArrayList<>(merged.values());
+    }
+
+    private void notify(NavigableMap<Integer, List<Subscriber>> affected, String name, Long id, Item item) {
+        for (Map.Entry<Integer, List<Subscriber>> group : affected.entrySet()) {
+            LowStockEventDto data = LowStockEventDto.builder()
+                    .id(id)
+                    .name(item == null ? null : item.getName())
+                    .quantity(item == null ? null : item.getQuantity())
+                    .threshold(group.getKey())
+                    .build();
+            StreamEvent event = new StreamEvent(name, data);
+            group.getValue().forEach(subscriber -> subscriber.enqueue(event));
+        }
+    }
+
+    private void removeLoad(Load load) {
+        loads.remove(load);
+        loading = loads.size();
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscriber.closed = true;
+        lock.lock();
+        try {
+            List<Subscriber> group = groups.get(subscriber.threshold);
+            if (group != null && group.remove(subscriber) && group.isEmpty()) {
+                groups.remove(subscriber.threshold);
+            }
+            if (groups.isEmpty()) {
+                lowQuantities.clear();
+                trackedThreshold = NOT_TRACKING;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static final class Load {
+        private final List<ItemChangedEvent> events = new ArrayList<>();
+    }
+
+    private record StreamEvent(String name, Object data) {
+
+        SseEmitter.SseEventBuilder toBuilder() {
+            return name == null
+                    ? SseEmitter.event().comment("heartbeat")
+                    : SseEmitter.event().name(name).data(data);
+        }
+    }
+
+    private class Subscriber {
+        private final SseEmitter emitter;
+        private final int threshold;
+        private final BlockingQueue<StreamEvent> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        Subscriber(SseEmitter emitter, int threshold) {
+            this.emitter = emitter;
+            this.threshold = threshold;
+        }
+
+        void enqueue(StreamEvent event) {
+            if (closed) {
+                return;
+            }
+            if (!queue.offer(event)) {
+                closed = true;
+                queue.clear();
+                emitter.complete();
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            do {
+                StreamEvent event;
+                while ((event = queue.poll()) != null) {
+                    try {
+                        emitter.send(event.toBuilder());
+                    } catch (IOException | IllegalStateException e) {
+                        closed = true;
+                        queue.clear();
+                        return;
+                    }
+                }
+                draining.set(false);
+            } while (!queue.isEmpty() && draining.compareAndSet(false, true));
+        }
+    }
+}
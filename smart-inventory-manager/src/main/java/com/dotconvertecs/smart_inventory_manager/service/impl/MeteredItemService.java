@@ -0,0 +1,150 @@
+package com.dotconvertecs.smart_inventory_manager.service.impl;
+
+import com.dotconvertecs.smart_inventory_manager.model.dto.request.ItemRequestCreateDto;
+import com.dotconvertecs.smart_inventory_manager.model.dto.request.ItemRequestUpdateDto;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemJsonPage;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemPageResponseDto;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemResponseDto;
+import com.dotconvertecs.smart_inventory_manager.service.ItemService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Records a latency timer per {@link ItemService} operation and the sizes of listing results.
+ * All meters are registered up front so the request path only touches pre-resolved instances.
+ */
+@Primary
+@Service
+public class MeteredItemService implements ItemService {
+
+    private final ItemService delegate;
+
+    private final Timer getAllItemsTimer;
+    private final Timer getAllItemsJsonTimer;
+    private final Timer searchItemsTimer;
+    private final Timer getItemByIdTimer;
+    private final Timer getItemIfModifiedTimer;
+    private final Timer createItemTimer;
+    private final Timer updateItemTimer;
+    private final Timer deleteItemTimer;
+    private final Timer adjustStockTimer;
+    private final Timer getLowStockItemsTimer;
+    private final Timer writeLowStockItemsJsonTimer;
+
+    private final DistributionSummary pageRowsFetched;
+    private final DistributionSummary pageRowsReturned;
+    private final DistributionSummary searchRowsReturned;
+    private final DistributionSummary lowStockRowsReturned;
+
+    public MeteredItemService(@Qualifier("coalescingItemService") ItemService delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.getAllItemsTimer = operationTimer(registry, "getAllItems");
+        this.getAllItemsJsonTimer = operationTimer(registry, "getAllItemsJson");
+        this.searchItemsTimer = operationTimer(registry, "searchItems");
+        this.getItemByIdTimer = operationTimer(registry, "getItemById");
+        this.getItemIfModifiedTimer = operationTimer(registry, "getItemIfModified");
+        this.createItemTimer = operationTimer(registry, "createItem");
+        this.updateItemTimer = operationTimer(registry, "updateItem");
+        this.deleteItemTimer = operationTimer(registry, "deleteItem");
+        this.adjustStockTimer = operationTimer(registry, "adjustStock");
+        this.getLowStockItemsTimer = operationTimer(registry, "getLowStockItems");
+        this.writeLowStockItemsJsonTimer = operationTimer(registry, "writeLowStockItemsJson");
+        this.pageRowsFetched = rowsSummary(registry, "getAllItems", "fetched");
+        this.pageRowsReturned = rowsSummary(registry, "getAllItems", "returned");
+        this.searchRowsReturned = rowsSummary(registry, "searchItems", "returned");
+        this.lowStockRowsReturned = rowsSummary(registry, "getLowStockItems", "returned");
+    }
+
+    @Override
+    public ItemPageResponseDto getAllItems(Double minPrice, Double maxPrice, String sortBy, String order, int limit, String after) {
+        ItemPageResponseDto page = getAllItemsTimer.record(
+                () -> delegate.getAllItems(minPrice, maxPrice, sortBy, order, limit, after));
+        int returned = page.getItems().size();
+        pageRowsReturned.record(returned);
+        pageRowsFetched.record(page.getNextCursor() == null ? returned : returned + 1);
+        return page;
+    }
+
+    @Override
+    public ItemJsonPage getAllItemsJson(Double minPrice, Double maxPrice, String sortBy, String order, int limit, String after) {
+        return getAllItemsJsonTimer.record(
+                () -> delegate.getAllItemsJson(minPrice, maxPrice, sortBy, order, limit, after));
+    }
+
+    @Override
+    public ItemPageResponseDto searchItems(String query, int limit, String after) {
+        ItemPageResponseDto page = searchItemsTimer.record(() -> delegate.searchItems(query, limit, after));
+        searchRowsReturned.record(page.getItems().size());
+        return page;
+    }
+
+    @Override
+    public ItemResponseDto getItemById(Long id) {
+        return getItemByIdTimer.record(() -> delegate.getItemById(id));
+    }
+
+    @Override
+    public Optional<ItemResponseDto> getItemIfModified(Long id, long knownVersion) {
+        return getItemIfModifiedTimer.record(() -> delegate.getItemIfModified(id, knownVersion));
+    }
+
+    @Override
+    public ItemResponseDto createItem(ItemRequestCreateDto dto) {
+        return createItemTimer.record(() -> delegate.createItem(dto));
+    }
+
+    @Override
+    public ItemResponseDto updateItem(Long id, ItemRequestUpdateDto dto, Long expectedVersion) {
+        return updateItemTimer.record(() -> delegate.updateItem(id, dto, expectedVersion));
+    }
+
+    @Override
+    public void deleteItem(Long id) {
+        deleteItemTimer.record(() -> delegate.deleteItem(id));
+    }
+
+    @Override
+    public ItemResponseDto adjustStock(Long id, int delta) {
+        return adjustStockTimer.record(() -> delegate.adjustStock(id, delta));
+    }
+
+    @Override
+    public List<ItemResponseDto> getLowStockItems(int threshold) {
+        List<ItemResponseDto> items = getLowStockItemsTimer.record(() -> delegate.getLowStockItems(threshold));
+        lowStockRowsReturned.record(items.size());
+        return items;
+    }
+
+    @Override
+    public void writeLowStockItemsJson(int threshold, OutputStream out) throws IOException {
+        Timer.Sample sample = Timer.start();
+        try {
+            delegate.writeLowStockItemsJson(threshold, out);
+        } finally {
+            sample.stop(writeLowStockItemsJsonTimer);
+        }
+    }
+
+    private static Timer operationTimer(MeterRegistry registry, String operation) {
+        return Timer.builder("inventory.service.operation")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private static DistributionSummary rowsSummary(MeterRegistry registry, String operation, String stage) {
+        return DistributionSummary.builder("inventory.service.rows")
+                .tag("operation", operation)
+                .tag("stage", stage)
+                .register(registry);
+    }
+}
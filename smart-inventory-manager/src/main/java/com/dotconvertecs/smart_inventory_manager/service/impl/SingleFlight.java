@@ -0,0 +1,110 @@
+package com.dotconvertecs.smart_inventory_manager.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Runs at most one load per key at a time. Callers that arrive while a load is in flight wait
+ * for it and share its result or exception. With a non-zero reuse window a completed result
+ * keeps being handed out for that long after it finished.
+ */
+final class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, Flight<V>> flights = new ConcurrentHashMap<>();
+    private final long reuseNanos;
+    private final Counter executed;
+    private final Counter joined;
+    private final Counter reused;
+    private volatile long lastSweep = System.nanoTime();
+
+    SingleFlight(String query, Duration reuseWindow, MeterRegistry registry) {
+        this.reuseNanos = reuseWindow.toNanos();
+        this.executed = callCounter(registry, query, "executed");
+        this.joined = callCounter(registry, query, "joined");
+        this.reused = callCounter(registry, query, "reused");
+    }
+
+    V execute(K key, Supplier<V> loader) {
+        while (true) {
+            Flight<V> flight = flights.get(key);
+            if (flight == null) {
+                Flight<V> own = new Flight<>();
+                if (flights.putIfAbsent(key, own) == null) {
+                    return lead(key, own, loader);
+                }
+            } else if (!flight.future.isDone()) {
+                joined.increment();
+                return flight.await();
+            } else if (System.nanoTime() - flight.completedAt < reuseNanos) {
+                reused.increment();
+                return flight.await();
+            } else {
+                flights.remove(key, flight);
+            }
+        }
+    }
+
+    int size() {
+        return flights.size();
+    }
+
+    private V lead(K key, Flight<V> flight, Supplier<V> loader) {
+        executed.increment();
+        V value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException | Error e) {
+            flights.remove(key, flight);
+            flight.future.completeExceptionally(e);
+            throw e;
+        }
+        flight.completedAt = System.nanoTime();
+        flight.future.complete(value);
+        if (reuseNanos == 0) {
+            flights.remove(key, flight);
+        } else {
+            sweep(flight.completedAt);
+        }
+        return value;
+    }
+
+    private void sweep(long now) {
+        if (now - lastSweep < reuseNanos) {
+            return;
+        }
+        lastSweep = now;
+        flights.values().removeIf(f -> f.future.isDone() && now - f.completedAt >= reuseNanos);
+    }
+
+    private static Counter callCounter(MeterRegistry registry, String query, String outcome) {
+        return Counter.builder("inventory.coalesce.calls")
+                .tag("query", query)
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    private static final class Flight<V> {
+        private final CompletableFuture<V> future = new CompletableFuture<>();
+        private volatile long completedAt;
+
+        private V await() {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                if (e.getCause() instanceof Error cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.dotconvertecs.smart_inventory_manager.service.impl;
+
+import com.dotconvertecs.smart_inventory_manager.exception.custome.InsufficientStockException;
+import com.dotconvertecs.smart_inventory_manager.exception.custome.ItemNotFoundException;
+import com.dotconvertecs.smart_inventory_manager.repository.ItemRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Applies stock deltas with a single conditional UPDATE. When coalescing is enabled, callers
+ * adjusting items on the same stripe queue their delta and whoever holds the stripe lock applies
+ * every queued delta for an item as one statement, falling back to one statement per delta
+ * when the combined change would make stock negative.
+ */
+@Component
+public class StockAdjuster {
+
+    private static final int STRIPES = 64;
+
+    private final ItemRepository repository;
+    private final boolean coalesce;
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    public StockAdjuster(ItemRepository repository,
+                         @Value("${inventory.stock.coalesce:false}") boolean coalesce) {
+        this.repository = repository;
+        this.coalesce = coalesce;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    public void adjust(Long id, int delta) {
+        if (!coalesce) {
+            apply(id, delta);
+            return;
+        }
+
+        Stripe stripe = stripes[Math.floorMod(Long.hashCode(id), STRIPES)];
+        Adjustment adjustment = new Adjustment(id, delta);
+        stripe.queue.add(adjustment);
+
+        stripe.lock.lock();
+        try {
+            if (!adjustment.done) {
+                List<Adjustment> drained = new ArrayList<>();
+                Adjustment next;
+                while ((next = stripe.queue.poll()) != null) {
+                    drained.add(next);
+                }
+                applyCombined(drained);
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+
+        if (adjustment.failure != null) {
+            throw adjustment.failure;
+        }
+    }
+
+    private void applyCombined(List<Adjustment> adjustments) {
+        Map<Long, List<Adjustment>> byItem = new LinkedHashMap<>();
+        for (Adjustment adjustment : adjustments) {
+            byItem.computeIfAbsent(adjustment.id, id -> new ArrayList<>()).add(adjustment);
+        }
+
+        for (List<Adjustment> group : byItem.values()) {
+            try {
+                if (group.size() > 1 && applyTotal(group)) {
+                    continue;
+                }
+                for (Adjustment adjustment : group) {
+                    try {
+                        apply(adjustment.id, adjustment.delta);
+                    } catch (RuntimeException e) {
+                        adjustment.failure = e;
+                    }
+                }
+            } catch (RuntimeException e) {
+                group.forEach(adjustment -> adjustment.failure = e);
+            } finally {
+                group.forEach(adjustment -> adjustment.done = true);
+            }
+        }
+    }
+
+    private boolean applyTotal(List<Adjustment> group) {
+        int total = 0;
+        for (Adjustment adjustment : group) {
+            total = Math.addExact(total, adjustment.delta);
+        }
+        return repository.adjustQuantity(group.getFirst().id, total) > 0;
+    }
+
+    private void apply(Long id, int delta) {
+        if (repository.adjustQuantity(id, delta) > 0) {
+            return;
+        }
+        if (repository.findById(id).isEmpty()) {
+            throw new ItemNotFoundException("Item not found with id " + id);
+        }
+        throw new InsufficientStockException("Insufficient stock for item with id " + id);
+    }
+
+    private static class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Queue<Adjustment> queue = new ConcurrentLinkedQueue<>();
+    }
+
+    private static class Adjustment {
+        private final Long id;
+        private final int delta;
+        private boolean done;
+        private RuntimeException failure;
+
+        Adjustment(Long id, int delta) {
+            this.id = id;
+            this.delta = delta;
+        }
+    }
+}
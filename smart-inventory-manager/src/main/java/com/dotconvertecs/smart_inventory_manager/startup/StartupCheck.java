@@ -0,0 +1,94 @@
+package com.dotconvertecs.smart_inventory_manager.startup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * Build-time startup check. When enabled, sends one request to the freshly started application,
+ * compares time-to-ready and first-request latency with their budgets and exits non-zero if
+ * either is over or the request fails. It is a plain flag rather than a profile, so the same
+ * AOT-processed bean graph that ships is the one measured.
+ */
+@Slf4j
+@Component
+public class StartupCheck {
+
+    private final boolean enabled;
+    private final String path;
+    private final Duration maxReady;
+    private final Duration maxFirstRequest;
+
+    public StartupCheck(@Value("${inventory.startup.check.enabled:false}") boolean enabled,
+                        @Value("${inventory.startup.check.path:/api/items?limit=20}") String path,
+                        @Value("${inventory.startup.check.max-ready:PT30S}") Duration maxReady,
+                        @Value("${inventory.startup.check.max-first-request:PT2S}") Duration maxFirstRequest) {
+        this.enabled = enabled;
+        this.path = path;
+        this.maxReady = maxReady;
+        this.maxFirstRequest = maxFirstRequest;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start(ApplicationReadyEvent event) {
+        if (!enabled) {
+            return;
+        }
+        long readyMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+        int port = ((WebServerApplicationContext) event.getApplicationContext()).getWebServer().getPort();
+        Thread.ofPlatform().name("startup-check").start(() -> {
+            int exitCode = run("http://localhost:" + port, readyMillis);
+            System.exit(SpringApplication.exit(event.getApplicationContext(), () -> exitCode));
+        });
+    }
+
+    int run(String baseUrl, long readyMillis) {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+        long started = System.nanoTime();
+        int status;
+        try {
+            status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            log.error("Startup check request to {} failed", path, e);
+            return 1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 1;
+        }
+        long firstRequestMillis = (System.nanoTime() - started) / 1_000_000;
+
+        log.info("Startup check: ready in {} ms (budget {} ms), first request {} {} in {} ms (budget {} ms)",
+                readyMillis, maxReady.toMillis(), path, status, firstRequestMillis, maxFirstRequest.toMillis());
+        return verdict(status, readyMillis, firstRequestMillis);
+    }
+
+    int verdict(int status, long readyMillis, long firstRequestMillis) {
+        if (status >= 400) {
+            log.error("Startup check failed: first request returned {}", status);
+            return 1;
+        }
+        if (readyMillis > maxReady.toMillis()) {
+            log.error("Startup check failed: ready in {} ms, over the {} ms budget", readyMillis, maxReady.toMillis());
+            return 1;
+        }
+        if (firstRequestMillis > maxFirstRequest.toMillis()) {
+            log.error("Startup check failed: first request took {} ms, over the {} ms budget",
+                    firstRequestMillis, maxFirstRequest.toMillis());
+            return 1;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,73 @@
+package com.dotconvertecs.smart_inventory_manager.startup;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Records how long after JVM start the application became ready and how long the first HTTP
+ * request took, which under lazy initialization includes creating the beans it touches.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class StartupTimer extends OncePerRequestFilter {
+
+    private final AtomicBoolean firstRequestStarted = new AtomicBoolean();
+    private volatile double readyMillis = Double.NaN;
+    private volatile double firstRequestMillis = Double.NaN;
+
+    public StartupTimer(MeterRegistry registry) {
+        TimeGauge.builder("inventory.startup.ready", this, TimeUnit.MILLISECONDS, StartupTimer::readyMillis)
+                .register(registry);
+        TimeGauge.builder("inventory.startup.first_request", this, TimeUnit.MILLISECONDS, StartupTimer::firstRequestMillis)
+                .register(registry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady(ApplicationReadyEvent event) {
+        readyMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+        log.info("Ready {} ms after JVM start, context started in {} ms",
+                (long) readyMillis, event.getTimeTaken().toMillis());
+    }
+
+    public double readyMillis() {
+        return readyMillis;
+    }
+
+    public double firstRequestMillis() {
+        return firstRequestMillis;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (firstRequestStarted.get() || !firstRequestStarted.compareAndSet(false, true)) {
+            chain.doFilter(request, response);
+            return;
+        }
+        long started = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            firstRequestMillis = (System.nanoTime() - started) / 1e6;
+            log.info("First request {} {} took {} ms", request.getMethod(), request.getRequestURI(),
+                    Math.round(firstRequestMillis));
+        }
+    }
+}
@@ -3,5 +3,19 @@ CREATE TABLE IF NOT EXISTS items (
   name VARCHAR(255) NOT NULL,
   description TEXT,
   quantity INT NOT NULL,
-  price DOUBLE NOT NULL
-);
\ No newline at end of file
+  price DOUBLE NOT NULL,
+  version BIGINT NOT NULL DEFAULT 0,
+  INDEX idx_items_price (price, id),
+  INDEX idx_items_quantity (quantity)
+);
+
+CREATE TABLE IF NOT EXISTS replication_heartbeat (
+  id INT PRIMARY KEY,
+  beat BIGINT NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS schema_version (
+  id INT PRIMARY KEY,
+  checksum VARCHAR(64) NOT NULL,
+  applied_at BIGINT NOT NULL
+);
@@ -0,0 +1,4 @@
+CREATE TABLE IF NOT EXISTS item_id_sequence (
+  id INT PRIMARY KEY,
+  next_value BIGINT NOT NULL
+);
@@ -0,0 +1,185 @@
+package com.dotconvertecs.smart_inventory_manager.reactive.controller;
+
+import com.dotconvertecs.smart_inventory_manager.model.dto.request.ItemRequestCreateDto;
+import com.dotconvertecs.smart_inventory_manager.model.dto.request.ItemRequestUpdateDto;
+import com.dotconvertecs.smart_inventory_manager.model.dto.request.StockAdjustmentRequestDto;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemResponseDto;
+import com.dotconvertecs.smart_inventory_manager.reactive.ReactiveInventoryApplication;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = ReactiveInventoryApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.r2dbc.url=r2dbc:h2:mem:///reactive-items;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "spring.r2dbc.username=sa",
+                "spring.r2dbc.password="
+        })
+@ActiveProfiles("reactive")
+public class ReactiveItemControllerTest {
+
+    @Autowired
+    private WebTestClient client;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @BeforeEach
+    public void setUp() {
+        databaseClient.sql("DELETE FROM items").then().block();
+    }
+
+    @Test
+    public void whenCreatedAndFetched_thenReturnsItemWithETag() {
+        ItemResponseDto created = create("Widget", 3, 9.5);
+
+        assertNotNull(created.getId());
+        assertEquals(0L, created.getVersion());
+        client.get().uri("/api/items/{id}", created.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"0\"")
+                .expectBody(ItemResponseDto.class)
+                .value(item -> assertEquals("Widget", item.getName()));
+
+        client.get().uri("/api/items/{id}", created.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, "\"0\"")
+                .exchange()
+                .expectStatus().isNotModified();
+    }
+
+    @Test
+    public void whenListed_thenItemsArriveInKeysetOrder() {
+        for (int i = 0; i < 5; i++) {
+            create("Item " + i, i, 10.0 - i);
+        }
+
+        List<ItemResponseDto> byPrice = client.get().uri("/api/items?sortBy=price&limit=3")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(ItemResponseDto.class)
+                .returnResult()
+                .getResponseBody();
+        assertEquals(List.of(6.0, 7.0, 8.0), byPrice.stream().map(ItemResponseDto::getPrice).toList());
+
+        ItemResponseDto last = byPrice.getLast();
+        Flux<ItemResponseDto> rest = client.get()
+                .uri("/api/items?sortBy=price&limit=10&after={after}", last.getPrice() + "_" + last.getId())
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(ItemResponseDto.class)
+                .getResponseBody();
+        StepVerifier.create(rest, 1)
+                .assertNext(item -> assertEquals(9.0, item.getPrice()))
+                .thenRequest(1)
+                .assertNext(item -> assertEquals(10.0, item.getPrice()))
+                .verifyComplete();
+    }
+
+    @Test
+    public void whenCreateIsInvalid_thenReturnsBadRequestLikeServletApi() {
+        client.post().uri("/api/items")
+                .bodyValue(ItemRequestCreateDto.builder().quantity(1).price(1.0).build())
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(400)
+                .jsonPath("$.message").isEqualTo("name: Name is required");
+    }
+
+    @Test
+    public void whenLimitOutOfRange_thenReturnsBadRequest() {
+        client.get().uri("/api/items?limit=0")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("limit must be between 1 and 1000");
+    }
+
+    @Test
+    public void whenItemMissing_thenReturnsNotFound() {
+        client.get().uri("/api/items/{id}", 424242)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Item not found with id 424242");
+
+        client.delete().uri("/api/items/{id}", 424242)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    public void whenVersionIsStale_thenReturnsPreconditionFailed() {
+        ItemResponseDto created = create("Widget", 3, 9.5);
+        ItemRequestUpdateDto update = new ItemRequestUpdateDto("Widget", null, 4, 9.5);
+
+        client.put().uri("/api/items/{id}", created.getId())
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .bodyValue(update)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"1\"");
+
+        client.put().uri("/api/items/{id}", created.getId())
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .bodyValue(update)
+                .exchange()
+                .expectStatus().isEqualTo(412);
+    }
+
+    @Test
+    public void whenIfMatchIsWeakOrUnparseable_thenReturnsPreconditionFailed() {
+        ItemResponseDto created = create("Widget", 3, 9.5);
+        ItemRequestUpdateDto update = new ItemRequestUpdateDto("Widget", null, 4, 9.5);
+
+        for (String ifMatch : List.of("W/\"0\"", "0", "\"abc\"")) {
+            client.put().uri("/api/items/{id}", created.getId())
+                    .header(HttpHeaders.IF_MATCH, ifMatch)
+                    .bodyValue(update)
+                    .exchange()
+                    .expectStatus().isEqualTo(412);
+        }
+    }
+
+    @Test
+    public void whenStockWouldGoNegative_thenReturnsConflict() {
+        ItemResponseDto created = create("Widget", 3, 9.5);
+
+        client.patch().uri("/api/items/{id}/stock", created.getId())
+                .bodyValue(new StockAdjustmentRequestDto(-2))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(ItemResponseDto.class)
+                .value(item -> assertEquals(1, item.getQuantity()));
+
+        client.patch().uri("/api/items/{id}/stock", created.getId())
+                .bodyValue(new StockAdjustmentRequestDto(-2))
+                .exchange()
+                .expectStatus().isEqualTo(409);
+    }
+
+    private ItemResponseDto create(String name, int quantity, double price) {
+        return client.post().uri("/api/items")
+                .bodyValue(new ItemRequestCreateDto(name, null, quantity, price))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(ItemResponseDto.class)
+                .returnResult()
+                .getResponseBody();
+    }
+}
@@ -0,0 +1,21 @@
+package com.dotconvertecs.smart_inventory_manager.reactive;
+
+import com.dotconvertecs.smart_inventory_manager.model.mapper.ItemMapper;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Entry point of the non-blocking item API (WebFlux over R2DBC), built with {@code -Preactive}.
+ * It scans only this package and activates the {@code reactive} Spring profile.
+ */
+@SpringBootApplication
+@Import(ItemMapper.class)
+public class ReactiveInventoryApplication {
+
+    public static void main(String[] args) {
+        SpringApplication application = new SpringApplication(ReactiveInventoryApplication.class);
+        application.setAdditionalProfiles("reactive");
+        application.run(args);
+    }
+}
@@ -0,0 +1,127 @@
+package com.dotconvertecs.smart_inventory_manager.reactive.controller;
+
+import com.dotconvertecs.smart_inventory_manager.exception.custome.PreconditionFailedException;
+import com.dotconvertecs.smart_inventory_manager.model.dto.request.ItemRequestCreateDto;
+import com.dotconvertecs.smart_inventory_manager.model.dto.request.ItemRequestUpdateDto;
+import com.dotconvertecs.smart_inventory_manager.model.dto.request.StockAdjustmentRequestDto;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemResponseDto;
+import com.dotconvertecs.smart_inventory_manager.reactive.service.ReactiveItemService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/items")
+@RequiredArgsConstructor
+public class ReactiveItemController {
+
+    private final ReactiveItemService service;
+
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<ItemResponseDto> getAllItems(
+            @RequestParam(required = false) Double minPrice,
+            @RequestParam(required = false) Double maxPrice,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "asc") String order,
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(required = false) String after) {
+        return service.getAllItems(minPrice, maxPrice, sortBy, order, limit, after);
+    }
+
+
+    @GetMapping(value = "/low-stock", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<ItemResponseDto> getLowStockItems(@RequestParam(defaultValue = "5") int threshold) {
+        return service.getLowStockItems(threshold);
+    }
+
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<ItemResponseDto>> getItemById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Long knownVersion = parseVersion(ifNoneMatch);
+        return service.getItemById(id)
+                .map(dto -> dto.getVersion() != null && dto.getVersion().equals(knownVersion)
+                        ? ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag(knownVersion)).<ItemResponseDto>build()
+                        : ResponseEntity.ok().eTag(eTag(dto.getVersion())).body(dto));
+    }
+
+
+    @PostMapping
+    public Mono<ResponseEntity<ItemResponseDto>> createItem(@Valid @RequestBody ItemRequestCreateDto dto) {
+        return service.createItem(dto)
+                .map(created -> new ResponseEntity<>(created, HttpStatus.CREATED));
+    }
+
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<ItemResponseDto>> updateItem(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody ItemRequestUpdateDto dto) {
+        return service.updateItem(id, dto, parseIfMatch(id, ifMatch))
+                .map(updated -> ResponseEntity.ok().eTag(eTag(updated.getVersion())).body(updated));
+    }
+
+    @PatchMapping("/{id}/stock")
+    public Mono<ResponseEntity<ItemResponseDto>> adjustStock(
+            @PathVariable Long id,
+            @Valid @RequestBody StockAdjustmentRequestDto dto) {
+        return service.adjustStock(id, dto.getDelta())
+                .map(ResponseEntity::ok);
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteItem(@PathVariable Long id) {
+        return service.deleteItem(id)
+                .then(Mono.just(ResponseEntity.noContent().<Void>build()));
+    }
+
+    private static String eTag(Long version) {
+        return version == null ? null : "\"" + version + "\"";
+    }
+
+    /**
+     * If-Match uses strong comparison, so a weak tag never matches. Only a missing header or
+     * {@code *} leaves the update unconditional; any other value that is not a version tag fails
+     * the precondition.
+     */
+    private static Long parseIfMatch(Long id, String header) {
+        if (header == null || header.trim().equals("*")) {
+            return null;
+        }
+        String tag = header.trim();
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            try {
+                return Long.parseLong(tag.substring(1, tag.length() - 1));
+            } catch (NumberFormatException e) {
+                // not one of our tags, so it can't match the current version
+            }
+        }
+        throw new PreconditionFailedException("Item with id " + id + " does not match If-Match " + tag);
+    }
+
+    private static Long parseVersion(String header) {
+        if (header == null || header.isBlank() || header.trim().equals("*")) {
+            return null;
+        }
+        String tag = header.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        try {
+            return Long.parseLong(tag);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.dotconvertecs.smart_inventory_manager.reactive.exception.handler;
+
+import com.dotconvertecs.smart_inventory_manager.exception.handler.GlobalExceptionHandler;
+import com.dotconvertecs.smart_inventory_manager.model.dto.error.ErrorResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+
+@RestControllerAdvice
+public class ReactiveExceptionHandler extends GlobalExceptionHandler {
+
+    public ReactiveExceptionHandler(MeterRegistry registry) {
+        super(registry);
+    }
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleBindException(WebExchangeBindException ex) {
+        return validationFailed(ex.getBindingResult());
+    }
+}
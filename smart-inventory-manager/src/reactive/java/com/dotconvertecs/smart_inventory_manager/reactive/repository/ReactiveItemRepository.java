@@ -0,0 +1,18 @@
+package com.dotconvertecs.smart_inventory_manager.reactive.repository;
+
+import com.dotconvertecs.smart_inventory_manager.model.entity.Item;
+import com.dotconvertecs.smart_inventory_manager.model.query.ItemQuery;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveItemRepository {
+
+    Flux<Item> findPage(ItemQuery query);
+    Mono<Item> findById(Long id);
+    Mono<Item> save(Item item);
+    Mono<Long> update(Item item);
+    Mono<Long> adjustQuantity(Long id, int delta);
+    Mono<Long> delete(Long id);
+    Flux<Item> findLowStock(int threshold);
+
+}
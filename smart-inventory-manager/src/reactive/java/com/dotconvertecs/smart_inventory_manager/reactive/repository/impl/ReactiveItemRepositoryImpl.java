@@ -0,0 +1,153 @@
+package com.dotconvertecs.smart_inventory_manager.reactive.repository.impl;
+
+import com.dotconvertecs.smart_inventory_manager.model.entity.Item;
+import com.dotconvertecs.smart_inventory_manager.model.query.ItemCursor;
+import com.dotconvertecs.smart_inventory_manager.model.query.ItemQuery;
+import com.dotconvertecs.smart_inventory_manager.reactive.repository.ReactiveItemRepository;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Same statements as {@code ItemRepositoryImpl}, with named parameters so the driver can use
+ * its own bind markers. Rows are emitted as the driver decodes them, so a slow subscriber
+ * slows down the read instead of buffering the result.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactiveItemRepositoryImpl implements ReactiveItemRepository {
+
+    private static final String COLUMNS = "SELECT id, name, description, quantity, price, version FROM items";
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Flux<Item> findPage(ItemQuery query) {
+        Map<String, Object> args = new LinkedHashMap<>();
+        StringBuilder sql = new StringBuilder(COLUMNS).append(" WHERE 1 = 1");
+
+        if (query.getMinPrice() != null) {
+            sql.append(" AND price >= :minPrice");
+            args.put("minPrice", query.getMinPrice());
+        }
+        if (query.getMaxPrice() != null) {
+            sql.append(" AND price <= :maxPrice");
+            args.put("maxPrice", query.getMaxPrice());
+        }
+
+        String comparison = query.isDescending() ? " < " : " > ";
+        ItemCursor after = query.getAfter();
+        if (after != null) {
+            if (query.isSortByPrice()) {
+                sql.append(" AND (price").append(comparison).append(":afterPrice")
+                        .append(" OR (price = :afterPrice AND id").append(comparison).append(":afterId))");
+                args.put("afterPrice", after.getPrice());
+            } else {
+                sql.append(" AND id").append(comparison).append(":afterId");
+            }
+            args.put("afterId", after.getId());
+        }
+
+        String direction = query.isDescending() ? " DESC" : " ASC";
+        sql.append(" ORDER BY ");
+        if (query.isSortByPrice()) {
+            sql.append("price").append(direction).append(", ");
+        }
+        sql.append("id").append(direction).append(" LIMIT :limit");
+        args.put("limit", query.getLimit());
+
+        return databaseClient.sql(sql.toString())
+                .bindValues(args)
+                .map(ReactiveItemRepositoryImpl::toItem)
+                .all();
+    }
+
+    @Override
+    public Mono<Item> findById(Long id) {
+        return databaseClient.sql(COLUMNS + " WHERE id = :id")
+                .bind("id", id)
+                .map(ReactiveItemRepositoryImpl::toItem)
+                .one();
+    }
+
+    @Override
+    public Mono<Item> save(Item item) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient
+                .sql("INSERT INTO items (name, description, quantity, price) VALUES (:name, :description, :quantity, :price)")
+                .bind("name", item.getName())
+                .bind("quantity", item.getQuantity())
+                .bind("price", item.getPrice());
+        spec = item.getDescription() == null
+                ? spec.bindNull("description", String.class)
+                : spec.bind("description", item.getDescription());
+
+        return spec.filter(statement -> statement.returnGeneratedValues("id"))
+                .map(row -> row.get("id", Long.class))
+                .one()
+                .map(id -> {
+                    item.setId(id);
+                    item.setVersion(0L);
+                    return item;
+                });
+    }
+
+    @Override
+    public Mono<Long> update(Item item) {
+        String sql = "UPDATE items SET name = :name, description = :description, quantity = :quantity, price = :price, "
+                + "version = version + 1 WHERE id = :id" + (item.getVersion() == null ? "" : " AND version = :version");
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql)
+                .bind("name", item.getName())
+                .bind("quantity", item.getQuantity())
+                .bind("price", item.getPrice())
+                .bind("id", item.getId());
+        spec = item.getDescription() == null
+                ? spec.bindNull("description", String.class)
+                : spec.bind("description", item.getDescription());
+        if (item.getVersion() != null) {
+            spec = spec.bind("version", item.getVersion());
+        }
+        return spec.fetch().rowsUpdated();
+    }
+
+    @Override
+    public Mono<Long> adjustQuantity(Long id, int delta) {
+        return databaseClient.sql("UPDATE items SET quantity = quantity + :delta, version = version + 1 "
+                        + "WHERE id = :id AND quantity + :delta >= 0")
+                .bind("delta", delta)
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    @Override
+    public Mono<Long> delete(Long id) {
+        return databaseClient.sql("DELETE FROM items WHERE id = :id")
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    @Override
+    public Flux<Item> findLowStock(int threshold) {
+        return databaseClient.sql(COLUMNS + " WHERE quantity <= :threshold")
+                .bind("threshold", threshold)
+                .map(ReactiveItemRepositoryImpl::toItem)
+                .all();
+    }
+
+    private static Item toItem(Readable row) {
+        return new Item(
+                row.get("id", Long.class),
+                row.get("name", String.class),
+                row.get("description", String.class),
+                row.get("quantity", Integer.class),
+                row.get("price", Double.class),
+                row.get("version", Long.class));
+    }
+}
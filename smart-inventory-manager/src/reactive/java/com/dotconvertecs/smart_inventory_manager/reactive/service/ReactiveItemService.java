@@ -0,0 +1,19 @@
+package com.dotconvertecs.smart_inventory_manager.reactive.service;
+
+import com.dotconvertecs.smart_inventory_manager.model.dto.request.ItemRequestCreateDto;
+import com.dotconvertecs.smart_inventory_manager.model.dto.request.ItemRequestUpdateDto;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemResponseDto;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveItemService {
+
+    Flux<ItemResponseDto> getAllItems(Double minPrice, Double maxPrice, String sortBy, String order, int limit, String after);
+    Mono<ItemResponseDto> getItemById(Long id);
+    Mono<ItemResponseDto> createItem(ItemRequestCreateDto dto);
+    Mono<ItemResponseDto> updateItem(Long id, ItemRequestUpdateDto dto, Long expectedVersion);
+    Mono<Void> deleteItem(Long id);
+    Mono<ItemResponseDto> adjustStock(Long id, int delta);
+    Flux<ItemResponseDto> getLowStockItems(int threshold);
+
+}
@@ -0,0 +1,124 @@
+package com.dotconvertecs.smart_inventory_manager.reactive.service.impl;
+
+import com.dotconvertecs.smart_inventory_manager.exception.custome.InsufficientStockException;
+import com.dotconvertecs.smart_inventory_manager.exception.custome.InvalidRequestException;
+import com.dotconvertecs.smart_inventory_manager.exception.custome.ItemNotFoundException;
+import com.dotconvertecs.smart_inventory_manager.exception.custome.PreconditionFailedException;
+import com.dotconvertecs.smart_inventory_manager.model.dto.request.ItemRequestCreateDto;
+import com.dotconvertecs.smart_inventory_manager.model.dto.request.ItemRequestUpdateDto;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemResponseDto;
+import com.dotconvertecs.smart_inventory_manager.model.entity.Item;
+import com.dotconvertecs.smart_inventory_manager.model.mapper.ItemMapper;
+import com.dotconvertecs.smart_inventory_manager.model.query.ItemCursor;
+import com.dotconvertecs.smart_inventory_manager.model.query.ItemQuery;
+import com.dotconvertecs.smart_inventory_manager.reactive.repository.ReactiveItemRepository;
+import com.dotconvertecs.smart_inventory_manager.reactive.service.ReactiveItemService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+public class ReactiveItemServiceImpl implements ReactiveItemService {
+
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private final ReactiveItemRepository repository;
+    private final ItemMapper itemMapper;
+
+    @Override
+    public Flux<ItemResponseDto> getAllItems(Double minPrice, Double maxPrice, String sortBy, String order, int limit, String after) {
+        return Flux.defer(() -> repository.findPage(pageQuery(minPrice, maxPrice, sortBy, order, limit, after)))
+                .map(itemMapper::toResponse);
+    }
+
+    @Override
+    public Mono<ItemResponseDto> getItemById(Long id) {
+        return repository.findById(id)
+                .switchIfEmpty(Mono.error(() -> notFound(id)))
+                .map(itemMapper::toResponse);
+    }
+
+    @Override
+    public Mono<ItemResponseDto> createItem(ItemRequestCreateDto dto) {
+        return repository.save(itemMapper.toEntity(dto))
+                .map(itemMapper::toResponse);
+    }
+
+    @Override
+    public Mono<ItemResponseDto> updateItem(Long id, ItemRequestUpdateDto dto, Long expectedVersion) {
+        Item item = Item.builder()
+                .id(id)
+                .version(expectedVersion)
+                .build();
+        itemMapper.updateEntityFromDto(item, dto);
+
+        return repository.update(item)
+                .<ItemResponseDto>flatMap(updated -> {
+                    if (updated > 0) {
+                        if (expectedVersion != null) {
+                            item.setVersion(expectedVersion + 1);
+                        }
+                        return Mono.just(itemMapper.toResponse(item));
+                    }
+                    if (expectedVersion == null) {
+                        return Mono.error(notFound(id));
+                    }
+                    return repository.findById(id)
+                            .switchIfEmpty(Mono.error(() -> notFound(id)))
+                            .flatMap(current -> Mono.<ItemResponseDto>error(new PreconditionFailedException(
+                                    "Item with id " + id + " has been modified by another request")));
+                });
+    }
+
+    @Override
+    public Mono<Void> deleteItem(Long id) {
+        return repository.delete(id)
+                .<Void>flatMap(deleted -> deleted == 0 ? Mono.error(notFound(id)) : Mono.empty());
+    }
+
+    @Override
+    public Mono<ItemResponseDto> adjustStock(Long id, int delta) {
+        if (delta == 0) {
+            return Mono.error(new InvalidRequestException("delta must not be 0"));
+        }
+        return repository.adjustQuantity(id, delta)
+                .<ItemResponseDto>flatMap(updated -> repository.findById(id)
+                        .switchIfEmpty(Mono.error(() -> notFound(id)))
+                        .flatMap(item -> updated > 0
+                                ? Mono.just(itemMapper.toResponse(item))
+                                : Mono.<ItemResponseDto>error(new InsufficientStockException(
+                                        "Insufficient stock for item with id " + id))));
+    }
+
+    @Override
+    public Flux<ItemResponseDto> getLowStockItems(int threshold) {
+        return repository.findLowStock(threshold)
+                .map(itemMapper::toResponse);
+    }
+
+    /**
+     * Unlike the servlet API no extra row is fetched for a next-cursor header, since headers are
+     * sent before the first item. Clients continue after the last item they received.
+     */
+    private static ItemQuery pageQuery(Double minPrice, Double maxPrice, String sortBy, String order, int limit, String after) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        boolean sortByPrice = "price".equalsIgnoreCase(sortBy);
+
+        return ItemQuery.builder()
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .sortByPrice(sortByPrice)
+                .descending("desc".equalsIgnoreCase(order))
+                .after(after == null ? null : ItemCursor.parse(after, sortByPrice))
+                .limit(limit)
+                .build();
+    }
+
+    private static ItemNotFoundException notFound(Long id) {
+        return new ItemNotFoundException("Item not found with id " + id);
+    }
+}
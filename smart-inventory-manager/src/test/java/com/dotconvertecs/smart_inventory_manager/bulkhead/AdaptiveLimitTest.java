@@ -0,0 +1,72 @@
+package com.dotconvertecs.smart_inventory_manager.bulkhead;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AdaptiveLimitTest {
+
+    private static final long MILLI = 1_000_000L;
+
+    @Test
+    public void whenLatencyStaysNearBaselineUnderLoad_thenLimitGrows() {
+        AdaptiveLimit limit = new AdaptiveLimit(4, 1, 16, 2.0, 100);
+
+        for (int i = 0; i < 40; i++) {
+            limit.onSample(MILLI, limit.current());
+        }
+
+        assertTrue(limit.current() > 4);
+        assertFalse(limit.isCongested());
+    }
+
+    @Test
+    public void whenMostlyIdle_thenLimitStaysPut() {
+        AdaptiveLimit limit = new AdaptiveLimit(4, 1, 16, 2.0, 100);
+
+        for (int i = 0; i < 40; i++) {
+            limit.onSample(MILLI, 1);
+        }
+
+        assertEquals(4, limit.current());
+    }
+
+    @Test
+    public void whenSingleSlowSample_thenLimitUnchanged() {
+        AdaptiveLimit limit = new AdaptiveLimit(10, 2, 16, 2.0, 100);
+        for (int i = 0; i < 10; i++) {
+            limit.onSample(MILLI, 1);
+        }
+
+        limit.onSample(5 * MILLI, 10);
+
+        assertEquals(10, limit.current());
+        assertFalse(limit.isCongested());
+    }
+
+    @Test
+    public void whenLatencyStaysOverTolerance_thenLimitShrinksOncePerWindow() {
+        AdaptiveLimit limit = new AdaptiveLimit(10, 2, 16, 2.0, 100);
+        for (int i = 0; i < 10; i++) {
+            limit.onSample(MILLI, 1);
+        }
+
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(5 * MILLI, 10);
+        }
+
+        assertEquals(9, limit.current());
+        assertTrue(limit.isCongested());
+    }
+
+    @Test
+    public void whenLatencyKeepsDegrading_thenLimitNeverDropsBelowMinimum() {
+        AdaptiveLimit limit = new AdaptiveLimit(4, 2, 16, 2.0, 10);
+
+        for (int i = 0; i < 100; i++) {
+            limit.onSample((long) (MILLI * Math.pow(1.1, i)), 4);
+        }
+
+        assertEquals(2, limit.current());
+    }
+}
@@ -0,0 +1,152 @@
+package com.dotconvertecs.smart_inventory_manager.bulkhead;
+
+import com.dotconvertecs.smart_inventory_manager.config.BulkheadProperties;
+import com.dotconvertecs.smart_inventory_manager.exception.custome.ServiceUnavailableException;
+import com.dotconvertecs.smart_inventory_manager.exception.custome.TooManyRequestsException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BulkheadInterceptorTest {
+
+    private MeterRegistry meterRegistry;
+    private BulkheadInterceptor interceptor;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    public void setUp() {
+        BulkheadProperties properties = new BulkheadProperties();
+        properties.setMaxWait(Duration.ofMillis(10));
+        properties.setRetryAfter(Duration.ofSeconds(3));
+        properties.setCritical(new BulkheadProperties.Limits(2, 1, 4, 0));
+        properties.setBulk(new BulkheadProperties.Limits(2, 1, 4, 0));
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new BulkheadInterceptor(properties, meterRegistry);
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    public void whenBulkBulkheadFull_thenRejectsWithTooManyRequests() throws Exception {
+        HandlerMethod list = handler("list");
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), response, list));
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), response, list));
+
+        TooManyRequestsException ex = assertThrows(TooManyRequestsException.class,
+                () -> interceptor.preHandle(new MockHttpServletRequest(), response, list));
+        assertEquals(3, ex.getRetryAfterSeconds());
+        assertEquals(1.0, meterRegistry.get("inventory.bulkhead.rejected").tag("name", "list").counter().count());
+    }
+
+    @Test
+    public void whenBulkBulkheadFull_thenCriticalRequestsStillAdmitted() throws Exception {
+        HandlerMethod list = handler("list");
+        interceptor.preHandle(new MockHttpServletRequest(), response, list);
+        interceptor.preHandle(new MockHttpServletRequest(), response, list);
+
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), response, handler("get")));
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), response, handler("adjustStock")));
+    }
+
+    @Test
+    public void whenCriticalBulkheadFull_thenRejectsWithServiceUnavailable() throws Exception {
+        HandlerMethod get = handler("get");
+        interceptor.preHandle(new MockHttpServletRequest(), response, get);
+        interceptor.preHandle(new MockHttpServletRequest(), response, get);
+
+        ServiceUnavailableException ex = assertThrows(ServiceUnavailableException.class,
+                () -> interceptor.preHandle(new MockHttpServletRequest(), response, get));
+        assertEquals(3L, ex.getRetryAfterSeconds());
+    }
+
+    @Test
+    public void whenRequestCompletes_thenReleasesSlotOnce() throws Exception {
+        HandlerMethod list = handler("list");
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        interceptor.preHandle(request, response, list);
+        interceptor.preHandle(new MockHttpServletRequest(), response, list);
+
+        interceptor.afterCompletion(request, response, list, null);
+        interceptor.afterCompletion(request, response, list, null);
+
+        EndpointBulkhead bulkhead = interceptor.bulkheads().iterator().next();
+        assertEquals(1, bulkhead.inFlight());
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), response, list));
+    }
+
+    @Test
+    public void whenAsyncHandlingStarts_thenHoldsSlotUntilAsyncCompletes() throws Exception {
+        HandlerMethod list = handler("list");
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAsyncSupported(true);
+        interceptor.preHandle(request, response, list);
+        request.startAsync();
+
+        interceptor.afterConcurrentHandlingStarted(request, response, list);
+        EndpointBulkhead bulkhead = interceptor.bulkheads().iterator().next();
+        assertEquals(1, bulkhead.inFlight());
+
+        request.getAsyncContext().complete();
+        request.setDispatcherType(DispatcherType.ASYNC);
+        interceptor.afterCompletion(request, response, list, null);
+
+        assertEquals(0, bulkhead.inFlight());
+    }
+
+    @Test
+    public void whenHandlerNotAnnotated_thenPassesThrough() throws Exception {
+        HandlerMethod plain = handler("plain");
+        for (int i = 0; i < 5; i++) {
+            assertTrue(interceptor.preHandle(new MockHttpServletRequest(), response, plain));
+        }
+        assertTrue(interceptor.bulkheads().isEmpty());
+    }
+
+    @Test
+    public void whenCriticalLatencyDegrades_thenBulkShedsToMinimum() throws Exception {
+        HandlerMethod get = handler("get");
+        for (int i = 0; i < 5; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            interceptor.preHandle(request, response, get);
+            interceptor.afterCompletion(request, response, get, null);
+        }
+        MockHttpServletRequest slow = new MockHttpServletRequest();
+        interceptor.preHandle(slow, response, get);
+        Thread.sleep(20);
+        interceptor.afterCompletion(slow, response, get, null);
+
+        HandlerMethod list = handler("list");
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), response, list));
+        assertThrows(TooManyRequestsException.class,
+                () -> interceptor.preHandle(new MockHttpServletRequest(), response, list));
+    }
+
+    private static HandlerMethod handler(String name) throws NoSuchMethodException {
+        return new HandlerMethod(new Endpoints(), Endpoints.class.getMethod(name));
+    }
+
+    public static class Endpoints {
+        @Bulkhead(value = "list", priority = Priority.BULK)
+        public void list() {
+        }
+
+        @Bulkhead("get")
+        public void get() {
+        }
+
+        @Bulkhead("write")
+        public void adjustStock() {
+        }
+
+        public void plain() {
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.dotconvertecs.smart_inventory_manager.config;
+
+import com.dotconvertecs.smart_inventory_manager.exception.custome.ServiceUnavailableException;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrencyLimitInterceptorTest {
+
+    private ConcurrencyLimitInterceptor interceptor;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    public void setUp() {
+        interceptor = new ConcurrencyLimitInterceptor(2, Duration.ofMillis(10));
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    public void whenLimitReached_thenRejectsWithServiceUnavailable() {
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), response, null));
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), response, null));
+
+        assertThrows(ServiceUnavailableException.class,
+                () -> interceptor.preHandle(new MockHttpServletRequest(), response, null));
+        assertEquals(0, interceptor.availablePermits());
+    }
+
+    @Test
+    public void whenRequestCompletes_thenReleasesPermitOnce() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        interceptor.preHandle(request, response, null);
+        assertEquals(1, interceptor.availablePermits());
+
+        interceptor.afterCompletion(request, response, null, null);
+        interceptor.afterCompletion(request, response, null, null);
+
+        assertEquals(2, interceptor.availablePermits());
+    }
+
+    @Test
+    public void whenAsyncHandlingStarts_thenHoldsPermitUntilAsyncCompletes() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAsyncSupported(true);
+        interceptor.preHandle(request, response, null);
+        request.startAsync();
+
+        interceptor.afterConcurrentHandlingStarted(request, response, null);
+        assertEquals(1, interceptor.availablePermits());
+
+        request.setDispatcherType(DispatcherType.ASYNC);
+        interceptor.preHandle(request, response, null);
+        assertEquals(1, interceptor.availablePermits());
+
+        interceptor.afterCompletion(request, response, null, null);
+        request.getAsyncContext().complete();
+
+        assertEquals(2, interceptor.availablePermits());
+    }
+}
@@ -0,0 +1,43 @@
+package com.dotconvertecs.smart_inventory_manager.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DataSourceRouteTaskDecoratorTest {
+
+    @AfterEach
+    public void tearDown() {
+        DataSourceRoute.clear();
+    }
+
+    @Test
+    public void whenTaskSubmittedDuringRequest_thenItRunsOnTheRequestRoute() throws Exception {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor();
+        executor.setTaskDecorator(new DataSourceRouteTaskDecorator());
+        CompletableFuture<DataSourceRoute> seen = new CompletableFuture<>();
+
+        DataSourceRoute.set(DataSourceRoute.REPLICA);
+        executor.execute(() -> seen.complete(DataSourceRoute.current()));
+        DataSourceRoute.clear();
+
+        assertEquals(DataSourceRoute.REPLICA, seen.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void whenTaskFinishes_thenRouteCleared() {
+        DataSourceRoute.set(DataSourceRoute.STICKY_PRIMARY);
+        Runnable task = new DataSourceRouteTaskDecorator().decorate(
+                () -> assertEquals(DataSourceRoute.STICKY_PRIMARY, DataSourceRoute.current()));
+        DataSourceRoute.clear();
+
+        task.run();
+
+        assertEquals(DataSourceRoute.PRIMARY, DataSourceRoute.current());
+    }
+}
@@ -0,0 +1,71 @@
+package com.dotconvertecs.smart_inventory_manager.config;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ItemIndexMigrationTest {
+
+    private JdbcDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:indexes-" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    @Test
+    public void whenTableHasNoIndexes_thenCreatesBoth() {
+        jdbcTemplate.execute("CREATE TABLE items (id BIGINT AUTO_INCREMENT PRIMARY KEY, name VARCHAR(255) NOT NULL, "
+                + "description TEXT, quantity INT NOT NULL, price DOUBLE NOT NULL, version BIGINT NOT NULL DEFAULT 0)");
+
+        assertEquals(2, new ItemIndexMigration(dataSource).apply());
+
+        assertEquals(List.of("idx_items_price", "idx_items_quantity"), indexNames());
+    }
+
+    @Test
+    public void whenAppliedTwice_thenSecondRunCreatesNothing() {
+        jdbcTemplate.execute("CREATE TABLE items (id BIGINT AUTO_INCREMENT PRIMARY KEY, quantity INT NOT NULL, "
+                + "price DOUBLE NOT NULL, INDEX idx_items_quantity (quantity))");
+
+        assertEquals(1, new ItemIndexMigration(dataSource).apply());
+        assertEquals(0, new ItemIndexMigration(dataSource).apply());
+
+        assertEquals(List.of("idx_items_price", "idx_items_quantity"), indexNames());
+    }
+
+    @Test
+    public void whenSchemaScriptCreatedTable_thenNothingIsMissing() {
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+
+        assertEquals(0, new ItemIndexMigration(dataSource).apply());
+    }
+
+    @Test
+    public void whenTableDoesNotExist_thenDoesNothing() {
+        assertEquals(0, new ItemIndexMigration(dataSource).apply());
+    }
+
+    private List<String> indexNames() {
+        return jdbcTemplate.queryForList("SELECT DISTINCT index_name FROM information_schema.indexes "
+                + "WHERE table_name = 'items' AND index_name LIKE 'idx_items_%' ORDER BY index_name", String.class);
+    }
+}
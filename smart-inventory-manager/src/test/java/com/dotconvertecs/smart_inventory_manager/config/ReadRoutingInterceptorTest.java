@@ -0,0 +1,72 @@
+package com.dotconvertecs.smart_inventory_manager.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReadRoutingInterceptorTest {
+
+    private final ReadRoutingInterceptor interceptor = new ReadRoutingInterceptor(Duration.ofMinutes(1));
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @AfterEach
+    public void tearDown() {
+        DataSourceRoute.clear();
+    }
+
+    @Test
+    public void whenGet_thenRoutedToReplica() {
+        interceptor.preHandle(request("GET", "10.0.0.1"), response, null);
+
+        assertEquals(DataSourceRoute.REPLICA, DataSourceRoute.current());
+    }
+
+    @Test
+    public void whenWrite_thenRoutedToPrimaryAndSameClientStaysOnPrimary() {
+        MockHttpServletRequest write = request("POST", "10.0.0.1");
+        interceptor.preHandle(write, response, null);
+        assertEquals(DataSourceRoute.PRIMARY, DataSourceRoute.current());
+        interceptor.afterCompletion(write, response, null, null);
+
+        interceptor.preHandle(request("GET", "10.0.0.1"), response, null);
+        assertEquals(DataSourceRoute.STICKY_PRIMARY, DataSourceRoute.current());
+
+        interceptor.preHandle(request("GET", "10.0.0.2"), response, null);
+        assertEquals(DataSourceRoute.REPLICA, DataSourceRoute.current());
+    }
+
+    @Test
+    public void whenReadMatchesPrimaryReadPattern_thenRoutedToPrimary() {
+        ReadRoutingInterceptor pinned = new ReadRoutingInterceptor(Duration.ofMinutes(1), List.of("/api/items"));
+
+        pinned.preHandle(request("GET", "10.0.0.1"), response, null);
+        assertEquals(DataSourceRoute.STICKY_PRIMARY, DataSourceRoute.current());
+
+        MockHttpServletRequest byId = new MockHttpServletRequest("GET", "/api/items/7");
+        byId.setRemoteAddr("10.0.0.1");
+        pinned.preHandle(byId, response, null);
+        assertEquals(DataSourceRoute.REPLICA, DataSourceRoute.current());
+    }
+
+    @Test
+    public void whenRequestCompletes_thenRouteCleared() {
+        MockHttpServletRequest request = request("GET", "10.0.0.1");
+        interceptor.preHandle(request, response, null);
+
+        interceptor.afterCompletion(request, response, null, null);
+
+        assertEquals(DataSourceRoute.PRIMARY, DataSourceRoute.current());
+    }
+
+    private static MockHttpServletRequest request(String method, String remoteAddress) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/items");
+        request.setRemoteAddr(remoteAddress);
+        return request;
+    }
+}
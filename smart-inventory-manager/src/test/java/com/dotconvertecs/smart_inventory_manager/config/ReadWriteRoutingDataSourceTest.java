@@ -0,0 +1,142 @@
+package com.dotconvertecs.smart_inventory_manager.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReadWriteRoutingDataSourceTest {
+
+    private JdbcDataSource primary;
+    private JdbcDataSource replica;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    public void setUp() {
+        String run = UUID.randomUUID().toString();
+        primary = database("primary-" + run);
+        replica = database("replica-" + run);
+        new JdbcTemplate(primary).update("INSERT INTO items (name, quantity, price) VALUES ('on-primary', 1, 1)");
+        new JdbcTemplate(replica).update("INSERT INTO items (name, quantity, price) VALUES ('on-replica', 1, 1)");
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        DataSourceRoute.clear();
+        new JdbcTemplate(primary).execute("SHUTDOWN");
+        new JdbcTemplate(replica).execute("SHUTDOWN");
+    }
+
+    @Test
+    public void whenReplicaHealthy_thenReadsGoToReplicaAndWritesToPrimary() {
+        ReadWriteRoutingDataSource dataSource = routing(Duration.ZERO);
+        dataSource.checkReplicas();
+
+        DataSourceRoute.set(DataSourceRoute.REPLICA);
+        assertEquals("on-replica", itemName(dataSource));
+        DataSourceRoute.set(DataSourceRoute.PRIMARY);
+        assertEquals("on-primary", itemName(dataSource));
+        DataSourceRoute.clear();
+        assertEquals("on-primary", itemName(dataSource));
+
+        assertEquals(1.0, routed("replica-0", "read"));
+        assertEquals(2.0, routed("primary", "write"));
+    }
+
+    @Test
+    public void whenStickyPrimary_thenReadGoesToPrimary() {
+        ReadWriteRoutingDataSource dataSource = routing(Duration.ZERO);
+        dataSource.checkReplicas();
+
+        DataSourceRoute.set(DataSourceRoute.STICKY_PRIMARY);
+
+        assertEquals("on-primary", itemName(dataSource));
+        assertEquals(1.0, routed("primary", "sticky"));
+    }
+
+    @Test
+    public void whenReplicaNotYetChecked_thenReadsFallBackToPrimary() {
+        ReadWriteRoutingDataSource dataSource = routing(Duration.ZERO);
+
+        DataSourceRoute.set(DataSourceRoute.REPLICA);
+
+        assertEquals("on-primary", itemName(dataSource));
+        assertEquals(1.0, routed("primary", "fallback"));
+    }
+
+    @Test
+    public void whenReplicaDown_thenTakenOutOfRotation() {
+        ReadWriteRoutingDataSource dataSource = routing(Duration.ZERO);
+        dataSource.checkReplicas();
+        assertTrue(dataSource.isAvailable(0));
+
+        String url = replica.getURL();
+        replica.setURL("jdbc:h2:mem:missing-" + UUID.randomUUID() + ";IFEXISTS=TRUE");
+        dataSource.checkReplicas();
+
+        assertFalse(dataSource.isAvailable(0));
+        DataSourceRoute.set(DataSourceRoute.REPLICA);
+        assertEquals("on-primary", itemName(dataSource));
+
+        replica.setURL(url);
+        dataSource.checkReplicas();
+        assertTrue(dataSource.isAvailable(0));
+    }
+
+    @Test
+    public void whenReplicaHeartbeatLags_thenTakenOutOfRotationUntilCaughtUp() {
+        ReadWriteRoutingDataSource dataSource = routing(Duration.ofSeconds(5));
+        JdbcTemplate replicaJdbc = new JdbcTemplate(replica);
+
+        replicaJdbc.update("INSERT INTO replication_heartbeat (id, beat) VALUES (1, ?)",
+                System.currentTimeMillis() - 60_000);
+        dataSource.checkReplicas();
+        assertFalse(dataSource.isAvailable(0));
+        assertTrue(meterRegistry.get("inventory.datasource.replica.lag").gauge().value() >= 60);
+
+        // stands in for replication copying the primary's heartbeat row
+        dataSource.heartbeat();
+        Long beat = new JdbcTemplate(primary)
+                .queryForObject("SELECT beat FROM replication_heartbeat WHERE id = 1", Long.class);
+        replicaJdbc.update("UPDATE replication_heartbeat SET beat = ? WHERE id = 1", beat);
+        dataSource.checkReplicas();
+
+        assertTrue(dataSource.isAvailable(0));
+        assertEquals(1.0, meterRegistry.get("inventory.datasource.replica.available").gauge().value());
+    }
+
+    private ReadWriteRoutingDataSource routing(Duration maxLag) {
+        return new ReadWriteRoutingDataSource(primary, List.of(replica), maxLag, meterRegistry);
+    }
+
+    private String itemName(ReadWriteRoutingDataSource dataSource) {
+        return new JdbcTemplate(dataSource).queryForObject("SELECT name FROM items", String.class);
+    }
+
+    private double routed(String target, String reason) {
+        return meterRegistry.get("inventory.datasource.routed")
+                .tag("target", target)
+                .tag("reason", reason)
+                .counter()
+                .count();
+    }
+
+    private static JdbcDataSource database(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        return dataSource;
+    }
+}
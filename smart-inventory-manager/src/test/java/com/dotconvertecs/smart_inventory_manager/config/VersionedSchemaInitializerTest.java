@@ -0,0 +1,93 @@
+package com.dotconvertecs.smart_inventory_manager.config;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.sql.init.SqlInitializationProperties;
+import org.springframework.boot.sql.init.DatabaseInitializationMode;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class VersionedSchemaInitializerTest {
+
+    private JdbcDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:schema-" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    @Test
+    public void whenDatabaseIsEmpty_thenAppliesSchemaAndRecordsChecksum() {
+        VersionedSchemaInitializer initializer = initializer(DatabaseInitializationMode.ALWAYS, new ClassPathResource("schema.sql"));
+
+        assertTrue(initializer.initializeDatabase());
+
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM items", Integer.class));
+        assertEquals(initializer.checksum(),
+                jdbcTemplate.queryForObject("SELECT checksum FROM schema_version WHERE id = 1", String.class));
+    }
+
+    @Test
+    public void whenChecksumMatches_thenSkipsSchema() {
+        initializer(DatabaseInitializationMode.ALWAYS, new ClassPathResource("schema.sql")).initializeDatabase();
+        jdbcTemplate.execute("DROP TABLE items");
+
+        assertFalse(initializer(DatabaseInitializationMode.ALWAYS, new ClassPathResource("schema.sql")).initializeDatabase());
+
+        List<String> tables = jdbcTemplate.queryForList(
+                "SELECT table_name FROM information_schema.tables WHERE table_name = 'items'", String.class);
+        assertTrue(tables.isEmpty());
+    }
+
+    @Test
+    public void whenSchemaChanged_thenReappliesAndUpdatesChecksum() {
+        initializer(DatabaseInitializationMode.ALWAYS, new ClassPathResource("schema.sql")).initializeDatabase();
+        jdbcTemplate.execute("DROP TABLE items");
+
+        VersionedSchemaInitializer changed = initializer(DatabaseInitializationMode.ALWAYS,
+                new ByteArrayResource("-- changed".getBytes()));
+        assertTrue(changed.initializeDatabase());
+
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM items", Integer.class));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM schema_version", Integer.class));
+        assertEquals(changed.checksum(),
+                jdbcTemplate.queryForObject("SELECT checksum FROM schema_version WHERE id = 1", String.class));
+    }
+
+    @Test
+    public void whenModeNever_thenDoesNotTouchDatabase() {
+        assertFalse(initializer(DatabaseInitializationMode.NEVER, new ClassPathResource("schema.sql")).initializeDatabase());
+
+        List<String> tables = jdbcTemplate.queryForList(
+                "SELECT table_name FROM information_schema.tables WHERE table_name = 'schema_version'", String.class);
+        assertTrue(tables.isEmpty());
+    }
+
+    private VersionedSchemaInitializer initializer(DatabaseInitializationMode mode, Resource checksumSource) {
+        SqlInitializationProperties properties = new SqlInitializationProperties();
+        properties.setMode(mode);
+        properties.setSchemaLocations(List.of("classpath:schema.sql"));
+        VersionedSchemaInitializer initializer = new VersionedSchemaInitializer(dataSource, properties, checksumSource);
+        initializer.setResourceLoader(new DefaultResourceLoader());
+        return initializer;
+    }
+}
@@ -1,27 +1,39 @@
 package com.dotconvertecs.smart_inventory_manager.controller;
 
 
+import com.dotconvertecs.smart_inventory_manager.config.ItemJsonStreamHttpMessageConverter;
+import com.dotconvertecs.smart_inventory_manager.event.InventoryChangeCounter;
+import com.dotconvertecs.smart_inventory_manager.event.ItemChangedEvent;
 import com.dotconvertecs.smart_inventory_manager.exception.handler.GlobalExceptionHandler;
 import com.dotconvertecs.smart_inventory_manager.exception.custome.ItemNotFoundException;
 import com.dotconvertecs.smart_inventory_manager.model.dto.request.ItemRequestCreateDto;
+import com.dotconvertecs.smart_inventory_manager.exception.custome.InsufficientStockException;
+import com.dotconvertecs.smart_inventory_manager.exception.custome.PreconditionFailedException;
 import com.dotconvertecs.smart_inventory_manager.model.dto.request.ItemRequestUpdateDto;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemJsonPage;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemPageResponseDto;
 import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemResponseDto;
 import com.dotconvertecs.smart_inventory_manager.service.ItemService;
 import com.dotconvertecs.smart_inventory_manager.service.impl.ItemServiceImpl;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.web.servlet.MockMvc;
 
 
+import java.io.OutputStream;
 import java.util.List;
+import java.util.Optional;
 
 
+import static org.hamcrest.Matchers.not;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
@@ -37,6 +49,7 @@ import static org.mockito.Mockito.*;
 public class ItemControllerTest {
 
     private ItemService service;
+    private InventoryChangeCounter changeCounter;
     private ItemController controller;
     private MockMvc mockMvc;
     private ObjectMapper objectMapper;
@@ -44,12 +57,13 @@ public class ItemControllerTest {
     @BeforeEach
     public void setUp() {
         service = Mockito.mock(ItemService.class);
-        controller = new ItemController(service);
+        changeCounter = new InventoryChangeCounter();
+        controller = new ItemController(service, changeCounter, false, true);
         objectMapper = new ObjectMapper();
 
         Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
         mockMvc = MockMvcBuilders.standaloneSetup(controller)
-                .setControllerAdvice(new GlobalExceptionHandler())
+                .setControllerAdvice(new GlobalExceptionHandler(new SimpleMeterRegistry()))
                 .setValidator(new org.springframework.validation.beanvalidation.LocalValidatorFactoryBean() {{
                     afterPropertiesSet();
                 }})
@@ -58,19 +72,37 @@ public class ItemControllerTest {
 
     @Test
     public void testGetAllItems_returnsList() throws Exception {
-        ItemResponseDto dto = new ItemResponseDto(1L, "Item1", "Desc", 10, 5.0);
-        when(service.getAllItems(null, null, "id", "asc")).thenReturn(List.of(dto));
+        ItemResponseDto dto = new ItemResponseDto(1L, "Item1", "Desc", 10, 5.0, 0L);
+        when(service.getAllItems(null, null, "id", "asc", 100, null))
+                .thenReturn(new ItemPageResponseDto(List.of(dto), null));
 
         mockMvc.perform(get("/api/items"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].name").value("Item1"));
+                .andExpect(jsonPath("$[0].name").value("Item1"))
+                .andExpect(header().doesNotExist(ItemController.NEXT_CURSOR_HEADER));
 
-        verify(service).getAllItems(null, null, "id", "asc");
+        verify(service).getAllItems(null, null, "id", "asc", 100, null);
+    }
+
+    @Test
+    public void testGetAllItems_withNextPage_returnsCursorHeader() throws Exception {
+        ItemResponseDto dto = new ItemResponseDto(7L, "Item7", "Desc", 10, 5.0, 0L);
+        when(service.getAllItems(null, null, "id", "asc", 1, "6"))
+                .thenReturn(new ItemPageResponseDto(List.of(dto), "7"));
+
+        mockMvc.perform(get("/api/items")
+                        .param("limit", "1")
+                        .param("after", "6"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(7))
+                .andExpect(header().string(ItemController.NEXT_CURSOR_HEADER, "7"));
+
+        verify(service).getAllItems(null, null, "id", "asc", 1, "6");
     }
 
     @Test
     public void testGetLowStock_returnsList() throws Exception {
-        ItemResponseDto dto = new ItemResponseDto(1L, "Low", "Desc", 2, 3.0);
+        ItemResponseDto dto = new ItemResponseDto(1L, "Low", "Desc", 2, 3.0, 0L);
         when(service.getLowStockItems(5)).thenReturn(List.of(dto));
 
         mockMvc.perform(get("/api/items/low-stock").param("threshold", "5"))
@@ -80,6 +112,104 @@ public class ItemControllerTest {
         verify(service).getLowStockItems(5);
     }
 
+    @Test
+    public void testGetAllItems_matchingListETag_returns304WithoutQuerying() throws Exception {
+        when(service.getAllItems(null, null, "id", "asc", 100, null))
+                .thenReturn(new ItemPageResponseDto(List.of(), null));
+        String eTag = mockMvc.perform(get("/api/items"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-cache"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/items").header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", eTag));
+
+        verify(service, times(1)).getAllItems(null, null, "id", "asc", 100, null);
+    }
+
+    @Test
+    public void testGetAllItems_afterItemChange_listETagNoLongerMatches() throws Exception {
+        when(service.getAllItems(null, null, "id", "asc", 100, null))
+                .thenReturn(new ItemPageResponseDto(List.of(), null));
+        String eTag = mockMvc.perform(get("/api/items"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        changeCounter.onItemChanged(ItemChangedEvent.deleted(1L));
+
+        mockMvc.perform(get("/api/items").header("If-None-Match", eTag))
+                .andExpect(status().isOk());
+        verify(service, times(2)).getAllItems(null, null, "id", "asc", 100, null);
+    }
+
+    @Test
+    public void testGetAllItems_listETagsDisabled_sendsNoTagAndIgnoresIfNoneMatch() throws Exception {
+        when(service.getAllItems(null, null, "id", "asc", 100, null))
+                .thenReturn(new ItemPageResponseDto(List.of(), null));
+        MockMvc untagged = MockMvcBuilders.standaloneSetup(new ItemController(service, changeCounter, false, false)).build();
+
+        untagged.perform(get("/api/items").header("If-None-Match", "W/\"1-0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("ETag"));
+    }
+
+    @Test
+    public void testGetAllItems_differentQuery_listETagDiffers() throws Exception {
+        when(service.getAllItems(any(), any(), any(), any(), anyInt(), any()))
+                .thenReturn(new ItemPageResponseDto(List.of(), null));
+        String byId = mockMvc.perform(get("/api/items"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/items").param("sortBy", "price").header("If-None-Match", byId))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(byId)));
+    }
+
+    @Test
+    public void testGetLowStockItems_matchingListETag_returns304() throws Exception {
+        when(service.getLowStockItems(5)).thenReturn(List.of());
+        String eTag = mockMvc.perform(get("/api/items/low-stock"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/items/low-stock").header("If-None-Match", "\"other\", " + eTag))
+                .andExpect(status().isNotModified());
+
+        verify(service, times(1)).getLowStockItems(5);
+    }
+
+    @Test
+    public void testGetAllItems_jsonFastPath_returnsPreRenderedBodyAndCursor() throws Exception {
+        byte[] body = "[{\"id\":7,\"name\":\"Item7\"}]".getBytes();
+        when(service.getAllItemsJson(null, null, "id", "asc", 1, null)).thenReturn(new ItemJsonPage(body, "7"));
+        MockMvc fastPath = MockMvcBuilders.standaloneSetup(new ItemController(service, changeCounter, true, true)).build();
+
+        fastPath.perform(get("/api/items").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().bytes(body))
+                .andExpect(header().string(ItemController.NEXT_CURSOR_HEADER, "7"));
+
+        verify(service, never()).getAllItems(any(), any(), any(), any(), anyInt(), any());
+    }
+
+    @Test
+    public void testGetLowStockItems_jsonFastPath_streamsFromService() throws Exception {
+        doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(1).write("[]".getBytes());
+            return null;
+        }).when(service).writeLowStockItemsJson(eq(5), any());
+        MockMvc fastPath = MockMvcBuilders.standaloneSetup(new ItemController(service, changeCounter, true, true))
+                .setMessageConverters(new ItemJsonStreamHttpMessageConverter(), new MappingJackson2HttpMessageConverter())
+                .build();
+
+        fastPath.perform(get("/api/items/low-stock"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().string("[]"));
+
+        verify(service, never()).getLowStockItems(anyInt());
+    }
+
     @Test
     public void testCreateItem_returns201() throws Exception {
         ItemRequestCreateDto create = new ItemRequestCreateDto();
@@ -88,7 +218,7 @@ public class ItemControllerTest {
         create.setQuantity(4);
         create.setPrice(9.99);
 
-        ItemResponseDto response = new ItemResponseDto(10L, "Created", "Desc", 4, 9.99);
+        ItemResponseDto response = new ItemResponseDto(10L, "Created", "Desc", 4, 9.99, 0L);
         when(service.createItem(any(ItemRequestCreateDto.class))).thenReturn(response);
 
         mockMvc.perform(post("/api/items")
@@ -129,8 +259,8 @@ public class ItemControllerTest {
         update.setQuantity(7);
         update.setPrice(15.0);
 
-        ItemResponseDto response = new ItemResponseDto(2L, "Updated", "Updated desc", 7, 15.0);
-        when(service.updateItem(eq(2L), any(ItemRequestUpdateDto.class))).thenReturn(response);
+        ItemResponseDto response = new ItemResponseDto(2L, "Updated", "Updated desc", 7, 15.0, 0L);
+        when(service.updateItem(eq(2L), any(ItemRequestUpdateDto.class), isNull())).thenReturn(response);
 
         mockMvc.perform(put("/api/items/2")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -138,7 +268,138 @@ public class ItemControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.name").value("Updated"));
 
-        verify(service).updateItem(eq(2L), any(ItemRequestUpdateDto.class));
+        verify(service).updateItem(eq(2L), any(ItemRequestUpdateDto.class), isNull());
+    }
+
+    @Test
+    public void testUpdateItem_withIfMatch_passesVersionAndReturnsNewETag() throws Exception {
+        ItemRequestUpdateDto update = new ItemRequestUpdateDto("Updated", "Updated desc", 7, 15.0);
+        ItemResponseDto response = new ItemResponseDto(2L, "Updated", "Updated desc", 7, 15.0, 4L);
+        when(service.updateItem(eq(2L), any(ItemRequestUpdateDto.class), eq(3L))).thenReturn(response);
+
+        mockMvc.perform(put("/api/items/2")
+                        .header("If-Match", "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""));
+    }
+
+    @Test
+    public void testUpdateItem_withoutIfMatch_returnsBodyWithoutETag() throws Exception {
+        ItemRequestUpdateDto update = new ItemRequestUpdateDto("Updated", "Updated desc", 7, 15.0);
+        ItemResponseDto response = new ItemResponseDto(2L, "Updated", "Updated desc", 7, 15.0, null);
+        when(service.updateItem(eq(2L), any(ItemRequestUpdateDto.class), isNull())).thenReturn(response);
+
+        mockMvc.perform(put("/api/items/2")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("ETag"))
+                .andExpect(jsonPath("$.name").value("Updated"));
+    }
+
+    @Test
+    public void testUpdateItem_staleIfMatch_returns412() throws Exception {
+        ItemRequestUpdateDto update = new ItemRequestUpdateDto("Updated", "Updated desc", 7, 15.0);
+        when(service.updateItem(eq(2L), any(ItemRequestUpdateDto.class), eq(1L)))
+                .thenThrow(new PreconditionFailedException("modified"));
+
+        mockMvc.perform(put("/api/items/2")
+                        .header("If-Match", "\"1\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    public void testUpdateItem_weakIfMatch_returns412WithoutUpdating() throws Exception {
+        ItemRequestUpdateDto update = new ItemRequestUpdateDto("Updated", "Updated desc", 7, 15.0);
+
+        mockMvc.perform(put("/api/items/2")
+                        .header("If-Match", "W/\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isPreconditionFailed());
+
+        verify(service, never()).updateItem(anyLong(), any(), any());
+    }
+
+    @Test
+    public void testUpdateItem_unparseableIfMatch_returns412WithoutUpdating() throws Exception {
+        ItemRequestUpdateDto update = new ItemRequestUpdateDto("Updated", "Updated desc", 7, 15.0);
+
+        for (String ifMatch : List.of("3", "\"abc\"", "\"\"", "\"3\", \"4\"")) {
+            mockMvc.perform(put("/api/items/2")
+                            .header("If-Match", ifMatch)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(update)))
+                    .andExpect(status().isPreconditionFailed());
+        }
+
+        verify(service, never()).updateItem(anyLong(), any(), any());
+    }
+
+    @Test
+    public void testUpdateItem_wildcardIfMatch_updatesUnconditionally() throws Exception {
+        ItemRequestUpdateDto update = new ItemRequestUpdateDto("Updated", "Updated desc", 7, 15.0);
+        ItemResponseDto response = new ItemResponseDto(2L, "Updated", "Updated desc", 7, 15.0, 4L);
+        when(service.updateItem(eq(2L), any(ItemRequestUpdateDto.class), isNull())).thenReturn(response);
+
+        mockMvc.perform(put("/api/items/2")
+                        .header("If-Match", "*")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk());
+
+        verify(service).updateItem(eq(2L), any(ItemRequestUpdateDto.class), isNull());
+    }
+
+    @Test
+    public void testSearchItems_returnsRankedItemsWithNextCursor() throws Exception {
+        ItemResponseDto match = new ItemResponseDto(3L, "Laptop", "High-end", 4, 999.0, 0L);
+        when(service.searchItems("lap", 1, null)).thenReturn(new ItemPageResponseDto(List.of(match), "1"));
+
+        mockMvc.perform(get("/api/items/search").param("q", "lap").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(ItemController.NEXT_CURSOR_HEADER, "1"))
+                .andExpect(jsonPath("$[0].id").value(3));
+    }
+
+    @Test
+    public void testGetById_ifNoneMatchCurrent_returns304() throws Exception {
+        when(service.getItemIfModified(5L, 2L)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/items/5").header("If-None-Match", "\"2\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"2\""));
+
+        verify(service, never()).getItemById(anyLong());
+    }
+
+    @Test
+    public void testAdjustStock_returns200() throws Exception {
+        ItemResponseDto response = new ItemResponseDto(2L, "Item", "Desc", 6, 15.0, 0L);
+        when(service.adjustStock(2L, -1)).thenReturn(response);
+
+        mockMvc.perform(patch("/api/items/2/stock")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"delta\": -1}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.quantity").value(6));
+
+        verify(service).adjustStock(2L, -1);
+    }
+
+    @Test
+    public void testAdjustStock_insufficientStock_returns409() throws Exception {
+        when(service.adjustStock(2L, -10)).thenThrow(new InsufficientStockException("Insufficient stock"));
+
+        mockMvc.perform(patch("/api/items/2/stock")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"delta\": -10}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("Insufficient stock"));
     }
 
     @Test
@@ -164,7 +425,8 @@ public class ItemControllerTest {
 
     @Test
     public void testFilteringAndSorting_paramsPassedToService() throws Exception {
-        when(service.getAllItems(10.0, 100.0, "price", "desc")).thenReturn(List.of());
+        when(service.getAllItems(10.0, 100.0, "price", "desc", 100, null))
+                .thenReturn(new ItemPageResponseDto(List.of(), null));
 
         mockMvc.perform(get("/api/items")
                         .param("minPrice", "10")
@@ -173,6 +435,6 @@ public class ItemControllerTest {
                         .param("order", "desc"))
                 .andExpect(status().isOk());
 
-        verify(service).getAllItems(10.0, 100.0, "price", "desc");
+        verify(service).getAllItems(10.0, 100.0, "price", "desc", 100, null);
     }
 }
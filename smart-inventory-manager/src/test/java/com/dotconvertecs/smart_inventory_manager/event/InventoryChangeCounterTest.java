@@ -0,0 +1,28 @@
+package com.dotconvertecs.smart_inventory_manager.event;
+
+import com.dotconvertecs.smart_inventory_manager.model.entity.Item;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InventoryChangeCounterTest {
+
+    @Test
+    public void whenItemChanged_thenCounterAdvances() {
+        InventoryChangeCounter counter = new InventoryChangeCounter();
+        long start = counter.current();
+
+        counter.onItemChanged(ItemChangedEvent.created(new Item(1L, "A", "a", 1, 1.0, 0L)));
+        counter.onItemChanged(ItemChangedEvent.deleted(1L));
+
+        assertEquals(start + 2, counter.current());
+    }
+
+    @Test
+    public void whenNewCounterCreated_thenItStartsAheadOfEarlierCounter() throws Exception {
+        InventoryChangeCounter before = new InventoryChangeCounter();
+        Thread.sleep(2);
+
+        assertTrue(new InventoryChangeCounter().current() > before.current());
+    }
+}
@@ -1,12 +1,20 @@
 package com.dotconvertecs.smart_inventory_manager.exception.handler;
 
+import com.dotconvertecs.smart_inventory_manager.exception.custome.InsufficientStockException;
+import com.dotconvertecs.smart_inventory_manager.exception.custome.InvalidRequestException;
 import com.dotconvertecs.smart_inventory_manager.exception.custome.ItemNotFoundException;
+import com.dotconvertecs.smart_inventory_manager.exception.custome.PreconditionFailedException;
+import com.dotconvertecs.smart_inventory_manager.exception.custome.TooManyRequestsException;
 import com.dotconvertecs.smart_inventory_manager.model.dto.error.ErrorResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -22,6 +30,9 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 class GlobalExceptionHandlerTest {
 
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private GlobalExceptionHandler globalExceptionHandler;
 
@@ -45,6 +56,67 @@ class GlobalExceptionHandlerTest {
         assertEquals("Item with ID 5 was not found.", responseEntity.getBody().getMessage());
     }
 
+    @Test
+    void whenInvalidRequestException_thenReturns400Response() {
+        InvalidRequestException ex = new InvalidRequestException("Invalid cursor abc");
+
+        ResponseEntity<ErrorResponse> responseEntity = globalExceptionHandler.handleInvalidRequest(ex);
+
+        assertNotNull(responseEntity);
+        assertEquals(HttpStatus.BAD_REQUEST, responseEntity.getStatusCode());
+        assertNotNull(responseEntity.getBody());
+        assertEquals(400, responseEntity.getBody().getStatus());
+        assertEquals("Invalid cursor abc", responseEntity.getBody().getMessage());
+    }
+
+    @Test
+    void whenInsufficientStockException_thenReturns409Response() {
+        InsufficientStockException ex = new InsufficientStockException("Insufficient stock for item with id 5");
+
+        ResponseEntity<ErrorResponse> responseEntity = globalExceptionHandler.handleInsufficientStock(ex);
+
+        assertNotNull(responseEntity);
+        assertEquals(HttpStatus.CONFLICT, responseEntity.getStatusCode());
+        assertNotNull(responseEntity.getBody());
+        assertEquals(409, responseEntity.getBody().getStatus());
+        assertEquals("Insufficient stock for item with id 5", responseEntity.getBody().getMessage());
+    }
+
+    @Test
+    void whenHandlingErrors_thenCountsThemByType() {
+        globalExceptionHandler.handleNotFound(new ItemNotFoundException("missing"));
+        globalExceptionHandler.handleNotFound(new ItemNotFoundException("missing"));
+        globalExceptionHandler.handleInsufficientStock(new InsufficientStockException("empty"));
+
+        assertEquals(2.0, meterRegistry.get("inventory.errors").tag("type", "not_found").counter().count());
+        assertEquals(1.0, meterRegistry.get("inventory.errors").tag("type", "insufficient_stock").counter().count());
+        assertEquals(0.0, meterRegistry.get("inventory.errors").tag("type", "unexpected").counter().count());
+    }
+
+    @Test
+    void whenPreconditionFailedException_thenReturns412Response() {
+        PreconditionFailedException ex = new PreconditionFailedException("Item with id 5 has been modified by another request");
+
+        ResponseEntity<ErrorResponse> responseEntity = globalExceptionHandler.handlePreconditionFailed(ex);
+
+        assertNotNull(responseEntity);
+        assertEquals(HttpStatus.PRECONDITION_FAILED, responseEntity.getStatusCode());
+        assertNotNull(responseEntity.getBody());
+        assertEquals(412, responseEntity.getBody().getStatus());
+    }
+    @Test
+    void whenTooManyRequestsException_thenReturns429WithRetryAfter() {
+        TooManyRequestsException ex = new TooManyRequestsException("Too many concurrent 'list' requests", 2);
+
+        ResponseEntity<ErrorResponse> responseEntity = globalExceptionHandler.handleTooManyRequests(ex);
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, responseEntity.getStatusCode());
+        assertEquals("2", responseEntity.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertNotNull(responseEntity.getBody());
+        assertEquals(429, responseEntity.getBody().getStatus());
+    }
+
+
     @Test
     void whenMethodArgumentNotValidException_thenReturns400Response() {
         when(notValidException.getBindingResult()).thenReturn(bindingResult);
@@ -0,0 +1,72 @@
+package com.dotconvertecs.smart_inventory_manager.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IdSetTest {
+
+    @Test
+    public void whenAddingAndRemoving_thenKeepsSortedUniqueIds() {
+        IdSet set = new IdSet();
+        set.add(5);
+        set.add(1);
+        set.add(3);
+        set.add(3);
+        set.remove(1);
+        set.remove(42);
+
+        assertEquals(2, set.size());
+        assertFalse(set.contains(1));
+        assertEquals(List.of(3L, 5L), collect(set));
+    }
+
+    @Test
+    public void whenDense_thenSwitchesToBitmapAndBehavesTheSame() {
+        long[] ids = new long[5000];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = ids.length - i;
+        }
+        IdSet set = IdSet.of(ids, ids.length);
+
+        assertEquals(5000, set.size());
+        assertTrue(set.contains(1));
+        assertTrue(set.contains(5000));
+        assertFalse(set.contains(5001));
+
+        set.add(10_000);
+        set.remove(2);
+        assertEquals(5000, set.size());
+        assertFalse(set.contains(2));
+
+        List<Long> visited = collect(set);
+        assertEquals(1L, visited.getFirst());
+        assertEquals(3L, visited.get(1));
+        assertEquals(10_000L, visited.getLast());
+    }
+
+    @Test
+    public void whenVisitorReturnsFalse_thenStopsEarly() {
+        IdSet set = IdSet.of(new long[]{4, 2, 2, 9}, 4);
+        List<Long> visited = new ArrayList<>();
+        set.forEach(id -> {
+            visited.add(id);
+            return visited.size() < 2;
+        });
+
+        assertEquals(3, set.size());
+        assertEquals(List.of(2L, 4L), visited);
+    }
+
+    private static List<Long> collect(IdSet set) {
+        List<Long> ids = new ArrayList<>();
+        set.forEach(id -> {
+            ids.add(id);
+            return true;
+        });
+        return ids;
+    }
+}
@@ -0,0 +1,98 @@
+package com.dotconvertecs.smart_inventory_manager.index;
+
+import com.dotconvertecs.smart_inventory_manager.event.ItemChangedEvent;
+import com.dotconvertecs.smart_inventory_manager.model.entity.Item;
+import com.dotconvertecs.smart_inventory_manager.model.query.ItemCursor;
+import com.dotconvertecs.smart_inventory_manager.model.query.ItemQuery;
+import com.dotconvertecs.smart_inventory_manager.repository.ItemRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+public class PriceIndexTest {
+
+    @Mock
+    private ItemRepository repository;
+
+    private PriceIndex index;
+
+    private final Map<Long, Double> database = new TreeMap<>();
+
+    @BeforeEach
+    public void setUp() {
+        database.put(1L, 1500.0);
+        database.put(2L, 25.0);
+        database.put(3L, 75.0);
+        database.put(4L, 25.0);
+        database.put(5L, 300.0);
+
+        doAnswer(invocation -> {
+            ItemRepository.PriceConsumer consumer = invocation.getArgument(0);
+            database.entrySet().stream()
+                    .sorted(Map.Entry.<Long, Double>comparingByValue().thenComparing(Map.Entry.comparingByKey()))
+                    .forEach(e -> consumer.accept(e.getKey(), e.getValue()));
+            return null;
+        }).when(repository).streamPrices(any());
+
+        index = new PriceIndex(repository, true);
+        index.load();
+    }
+
+    @Test
+    public void whenRangeAscending_thenReturnsIdsInPriceOrder() {
+        assertTrue(index.isReady());
+        assertArrayEquals(new long[]{2L, 4L, 3L, 5L, 1L}, index.range(query(null, null, false, null, 10)));
+        assertArrayEquals(new long[]{3L, 5L}, index.range(query(50.0, 300.0, false, null, 10)));
+        assertArrayEquals(new long[]{2L, 4L}, index.range(query(null, null, false, null, 2)));
+    }
+
+    @Test
+    public void whenRangeWithCursor_thenContinuesAfterCursor() {
+        assertArrayEquals(new long[]{4L, 3L}, index.range(query(null, null, false, new ItemCursor(25.0, 2L), 2)));
+        assertArrayEquals(new long[]{5L, 3L, 4L, 2L}, index.range(query(null, 1000.0, true, null, 10)));
+        assertArrayEquals(new long[]{4L, 2L}, index.range(query(null, null, true, new ItemCursor(75.0, 3L), 10)));
+    }
+
+    @Test
+    public void whenItemsChange_thenIndexIsUpdated() {
+        index.onItemChanged(ItemChangedEvent.updated(new Item(1L, "Laptop", null, 10, 10.0, 0L)));
+        index.onItemChanged(ItemChangedEvent.deleted(3L));
+        index.onItemChanged(ItemChangedEvent.created(new Item(6L, "Cable", null, 10, 25.0, 0L)));
+
+        assertEquals(5, index.size());
+        assertArrayEquals(new long[]{1L, 2L, 4L, 6L, 5L}, index.range(query(null, null, false, null, 10)));
+    }
+
+    @Test
+    public void whenDatabaseChangedBehindIndex_thenRebuildReportsMismatches() {
+        assertEquals(0, index.rebuild());
+
+        database.put(2L, 30.0);
+        database.remove(5L);
+        database.put(7L, 1.0);
+
+        assertEquals(3, index.rebuild());
+        assertArrayEquals(new long[]{7L, 4L, 2L, 3L, 1L}, index.range(query(null, null, false, null, 10)));
+    }
+
+    private ItemQuery query(Double minPrice, Double maxPrice, boolean descending, ItemCursor after, int limit) {
+        return ItemQuery.builder()
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .sortByPrice(true)
+                .descending(descending)
+                .after(after)
+                .limit(limit)
+                .build();
+    }
+}
@@ -0,0 +1,138 @@
+package com.dotconvertecs.smart_inventory_manager.index;
+
+import com.dotconvertecs.smart_inventory_manager.event.ItemChangedEvent;
+import com.dotconvertecs.smart_inventory_manager.model.entity.Item;
+import com.dotconvertecs.smart_inventory_manager.repository.ItemRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+public class SearchIndexTest {
+
+    @Mock
+    private ItemRepository repository;
+
+    private SearchIndex index;
+
+    private final List<Item> database = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        database.add(item(5L, "Wireless Mouse", "Ergonomic mouse with USB receiver"));
+        database.add(item(1L, "Laptop", "High-end laptop, wireless charging"));
+        database.add(item(3L, "USB-C Cable", "Braided cable for laptops"));
+        database.add(item(2L, "Mousepad", "Extended desk pad"));
+        database.add(item(4L, "Monitor", "27 inch display"));
+
+        doAnswer(invocation -> {
+            Consumer<Item> consumer = invocation.getArgument(0);
+            database.forEach(consumer);
+            return null;
+        }).when(repository).streamAll(any());
+
+        index = new SearchIndex(repository, true, 2);
+        index.load();
+    }
+
+    @Test
+    public void whenSingleTermPrefix_thenNameMatchesRankBeforeDescriptionMatches() {
+        assertTrue(index.isReady());
+        assertEquals(5, index.size());
+        assertArrayEquals(new long[]{2L, 5L}, index.search("mous", 0, 10));
+        assertArrayEquals(new long[]{1L, 3L}, index.search("Lapt", 0, 10));
+        assertArrayEquals(new long[]{5L, 1L}, index.search("wire", 0, 10));
+    }
+
+    @Test
+    public void whenPaging_thenSkipsOffsetAcrossTiers() {
+        assertArrayEquals(new long[]{5L}, index.search("wire", 0, 1));
+        assertArrayEquals(new long[]{1L}, index.search("wire", 1, 1));
+        assertArrayEquals(new long[0], index.search("wire", 2, 1));
+    }
+
+    @Test
+    public void whenMultipleTerms_thenAllMustMatchAndScoresAreSummed() {
+        assertArrayEquals(new long[]{3L}, index.search("usb cable", 0, 10));
+        assertArrayEquals(new long[]{3L}, index.search("usb c", 0, 10));
+        assertArrayEquals(new long[]{5L}, index.search("wireless mo", 0, 10));
+        assertArrayEquals(new long[]{5L, 1L}, index.search("wireless", 0, 10));
+        assertArrayEquals(new long[0], index.search("monitor laptop", 0, 10));
+    }
+
+    @Test
+    public void whenMultipleTermsRankedBySummedScore_thenHigherScoresComeFirst() {
+        index.onItemChanged(ItemChangedEvent.created(item(8L, "Cable organizer", "Keeps usb leads tidy")));
+
+        assertArrayEquals(new long[]{3L, 8L}, index.search("usb cable", 0, 10));
+        assertArrayEquals(new long[]{8L}, index.search("usb cable", 1, 10));
+    }
+
+    @Test
+    public void whenTermLongerThanIndexedPrefix_thenVerifiesFullTerm() {
+        index.onItemChanged(ItemChangedEvent.created(item(6L, "Keyboard", "Programmable mechanical keyboard")));
+        index.onItemChanged(ItemChangedEvent.created(item(7L, "Programmer", "Chip programmer")));
+
+        assertArrayEquals(new long[]{7L, 6L}, index.search("programm", 0, 10));
+        assertArrayEquals(new long[]{6L}, index.search("programmable", 0, 10));
+        assertArrayEquals(new long[]{7L}, index.search("programmer", 0, 10));
+    }
+
+    @Test
+    public void whenItemUpdatedOrDeleted_thenIndexFollows() {
+        index.onItemChanged(ItemChangedEvent.updated(item(4L, "Curved Monitor", "Wireless display")));
+        assertArrayEquals(new long[]{4L}, index.search("curved", 0, 10));
+        assertArrayEquals(new long[]{5L, 1L, 4L}, index.search("wireless", 0, 10));
+        assertArrayEquals(new long[0], index.search("inch", 0, 10));
+
+        index.onItemChanged(ItemChangedEvent.deleted(5L));
+        assertArrayEquals(new long[]{2L}, index.search("mouse", 0, 10));
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    public void whenItemsSpanSeveralBatches_thenEveryBatchIsIndexed() {
+        int count = 2 * SearchIndex.BATCH_SIZE + 7;
+        database.clear();
+        for (long id = count; id >= 1; id--) {
+            database.add(item(id, id % 2 == 0 ? "Even widget" : "Odd gadget", "Item " + id));
+        }
+
+        index.rebuild();
+
+        assertEquals(count, index.size());
+        assertEquals(SearchIndex.BATCH_SIZE + 4, index.search("odd", 0, count).length);
+        assertArrayEquals(new long[]{2L, 4L, 6L}, index.search("even", 0, 3));
+        assertArrayEquals(new long[]{(long) count}, index.search(String.valueOf(count), 0, 10));
+    }
+
+    @Test
+    public void whenDisabled_thenDoesNotLoad() {
+        SearchIndex disabled = new SearchIndex(repository, false, 2);
+
+        disabled.load();
+
+        assertFalse(disabled.isReady());
+        assertEquals(0, disabled.size());
+    }
+
+    @Test
+    public void whenQueryHasNoTerms_thenReturnsNothing() {
+        assertArrayEquals(new long[0], index.search("  -- ", 0, 10));
+        assertArrayEquals(new long[0], index.search("zzz", 0, 10));
+    }
+
+    private static Item item(Long id, String name, String description) {
+        return new Item(id, name, description, 1, 1.0, 0L);
+    }
+}
@@ -0,0 +1,158 @@
+package com.dotconvertecs.smart_inventory_manager.index;
+
+import com.dotconvertecs.smart_inventory_manager.event.ItemChangedEvent;
+import com.dotconvertecs.smart_inventory_manager.exception.custome.ServiceUnavailableException;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.InventoryStatsResponseDto;
+import com.dotconvertecs.smart_inventory_manager.model.entity.Item;
+import com.dotconvertecs.smart_inventory_manager.repository.ItemRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+public class StockAggregatesTest {
+
+    @Mock
+    private ItemRepository repository;
+
+    private StockAggregates aggregates;
+
+    private final Map<Long, Item> database = new HashMap<>();
+
+    @BeforeEach
+    public void setUp() {
+        database.put(1L, new Item(1L, "Laptop", null, 10, 1500.0, 0L));
+        database.put(2L, new Item(2L, "Mouse", null, 0, 25.0, 0L));
+        database.put(3L, new Item(3L, "Cable", null, 200, 5.0, 0L));
+
+        doAnswer(invocation -> {
+            Consumer<Item> consumer = invocation.getArgument(0);
+            database.values().forEach(consumer);
+            return null;
+        }).when(repository).streamAll(any());
+
+        aggregates = new StockAggregates(repository, true);
+        aggregates.load();
+    }
+
+    @Test
+    public void whenLoaded_thenStatsMatchDatabase() {
+        InventoryStatsResponseDto stats = aggregates.stats();
+
+        assertEquals(3, stats.getItemCount());
+        assertEquals(210, stats.getTotalUnits());
+        assertEquals(10 * 1500.0 + 200 * 5.0, stats.getTotalValue(), 1e-9);
+        assertEquals(5.0, stats.getMinPrice());
+        assertEquals(1500.0, stats.getMaxPrice());
+        assertEquals((1500.0 + 25.0 + 5.0) / 3, stats.getAvgPrice(), 1e-9);
+
+        assertEquals(1, stats.getPriceHistogram().get(0).getCount());
+        assertEquals(1, stats.getPriceHistogram().get(1).getCount());
+        assertEquals(1, stats.getPriceHistogram().get(5).getCount());
+        assertNull(stats.getPriceHistogram().getLast().getUpperBound());
+        assertEquals(1, stats.getQuantityHistogram().get(0).getCount());
+        assertEquals(1, stats.getQuantityHistogram().get(2).getCount());
+        assertEquals(1, stats.getQuantityHistogram().get(4).getCount());
+    }
+
+    @Test
+    public void whenItemsChange_thenStatsFollowWithoutRescan() {
+        aggregates.onItemChanged(ItemChangedEvent.updated(new Item(1L, "Laptop", null, 4, 1200.0, 1L)));
+        aggregates.onItemChanged(ItemChangedEvent.deleted(3L));
+        aggregates.onItemChanged(ItemChangedEvent.created(new Item(4L, "Desk", null, 2, 300.0, 0L)));
+
+        InventoryStatsResponseDto stats = aggregates.stats();
+
+        assertEquals(3, stats.getItemCount());
+        assertEquals(6, stats.getTotalUnits());
+        assertEquals(4 * 1200.0 + 2 * 300.0, stats.getTotalValue(), 1e-9);
+        assertEquals(25.0, stats.getMinPrice());
+        assertEquals(1200.0, stats.getMaxPrice());
+        assertEquals(0, stats.getPriceHistogram().get(0).getCount());
+    }
+
+    @Test
+    public void whenDeletingUnknownItem_thenStatsUnchanged() {
+        aggregates.onItemChanged(ItemChangedEvent.deleted(99L));
+
+        assertEquals(3, aggregates.stats().getItemCount());
+    }
+
+    @Test
+    public void whenManyRandomChanges_thenStatsMatchReconciledState() {
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < 20000; i++) {
+            long id = random.nextLong(1, 2000);
+            if (random.nextInt(4) == 0) {
+                database.remove(id);
+                aggregates.onItemChanged(ItemChangedEvent.deleted(id));
+            } else {
+                Item item = new Item(id, "Item", null, random.nextInt(0, 1000), random.nextInt(1, 10000) / 10.0, 0L);
+                database.put(id, item);
+                aggregates.onItemChanged(ItemChangedEvent.updated(item));
+            }
+        }
+        InventoryStatsResponseDto incremental = aggregates.stats();
+
+        aggregates.rebuild();
+        InventoryStatsResponseDto reconciled = aggregates.stats();
+
+        assertEquals(reconciled.getItemCount(), incremental.getItemCount());
+        assertEquals(reconciled.getTotalUnits(), incremental.getTotalUnits());
+        assertEquals(reconciled.getTotalValue(), incremental.getTotalValue(), 1e-3);
+        assertEquals(reconciled.getMinPrice(), incremental.getMinPrice());
+        assertEquals(reconciled.getMaxPrice(), incremental.getMaxPrice());
+        for (int i = 0; i < reconciled.getPriceHistogram().size(); i++) {
+            assertEquals(reconciled.getPriceHistogram().get(i).getCount(), incremental.getPriceHistogram().get(i).getCount());
+        }
+        for (int i = 0; i < reconciled.getQuantityHistogram().size(); i++) {
+            assertEquals(reconciled.getQuantityHistogram().get(i).getCount(), incremental.getQuantityHistogram().get(i).getCount());
+        }
+    }
+
+    @Test
+    public void whenChangesCommitDuringRebuild_thenNoDriftIsReported() {
+        doAnswer(invocation -> {
+            Consumer<Item> consumer = invocation.getArgument(0);
+            database.values().forEach(consumer);
+            Item restocked = new Item(2L, "Mouse", null, 40, 25.0, 1L);
+            database.put(2L, restocked);
+            aggregates.onItemChanged(ItemChangedEvent.updated(restocked));
+            database.remove(3L);
+            aggregates.onItemChanged(ItemChangedEvent.deleted(3L));
+            return null;
+        }).when(repository).streamAll(any());
+
+        assertFalse(aggregates.rebuild());
+        assertEquals(2, aggregates.stats().getItemCount());
+        assertEquals(50, aggregates.stats().getTotalUnits());
+    }
+
+    @Test
+    public void whenChangeWasMissed_thenRebuildReportsDrift() {
+        database.put(4L, new Item(4L, "Monitor", null, 3, 300.0, 0L));
+
+        assertTrue(aggregates.rebuild());
+        assertEquals(4, aggregates.stats().getItemCount());
+    }
+
+    @Test
+    public void whenDisabled_thenStatsUnavailable() {
+        StockAggregates disabled = new StockAggregates(repository, false);
+        disabled.load();
+
+        assertFalse(disabled.isReady());
+        assertThrows(ServiceUnavailableException.class, disabled::stats);
+    }
+}
@@ -0,0 +1,159 @@
+package com.dotconvertecs.smart_inventory_manager.journal;
+
+import com.dotconvertecs.smart_inventory_manager.event.ItemChangedEvent;
+import com.dotconvertecs.smart_inventory_manager.model.entity.Item;
+import com.dotconvertecs.smart_inventory_manager.model.enums.ItemChangeType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChangeJournalTest {
+
+    @TempDir
+    Path directory;
+
+    private ChangeJournal journal;
+
+    @AfterEach
+    public void tearDown() {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    @Test
+    public void whenEntriesAppended_thenReadReturnsThemAfterSince() throws IOException {
+        journal = open(DataSize.ofKilobytes(64));
+        journal.onItemChanged(ItemChangedEvent.created(new Item(1L, "Laptop", "High-end laptop", 10, 1500.0, 0L)));
+        journal.onItemChanged(ItemChangedEvent.updated(new Item(1L, "Laptop", null, 9, 1400.0, null)));
+        journal.onItemChanged(ItemChangedEvent.deleted(1L));
+
+        List<JournalEntry> all = read(0, 10);
+        assertEquals(3, all.size());
+        assertEquals(3, journal.head());
+        assertEquals(ItemChangeType.CREATED, all.get(0).getType());
+        assertEquals("High-end laptop", all.get(0).getItem().getDescription());
+        assertEquals(0L, all.get(0).getItem().getVersion());
+        assertNull(all.get(1).getItem().getDescription());
+        assertNull(all.get(1).getItem().getVersion());
+        assertEquals(1400.0, all.get(1).getItem().getPrice());
+        assertEquals(ItemChangeType.DELETED, all.get(2).getType());
+        assertNull(all.get(2).getItem());
+
+        List<JournalEntry> tail = read(1, 1);
+        assertEquals(1, tail.size());
+        assertEquals(2, tail.getFirst().getSequence());
+        assertTrue(read(3, 10).isEmpty());
+    }
+
+    @Test
+    public void whenSegmentFull_thenRollsAndReadsAcrossSegments() throws IOException {
+        journal = open(DataSize.ofBytes(256));
+        for (long id = 1; id <= 20; id++) {
+            journal.append(ItemChangeType.CREATED, id, item(id, 1));
+        }
+
+        assertTrue(segmentFiles().size() > 1);
+        List<JournalEntry> entries = read(5, 100);
+        assertEquals(15, entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            assertEquals(6 + i, entries.get(i).getSequence());
+        }
+    }
+
+    @Test
+    public void whenReopened_thenContinuesAfterLastSequence() throws IOException {
+        journal = open(DataSize.ofBytes(256));
+        for (long id = 1; id <= 10; id++) {
+            journal.append(ItemChangeType.CREATED, id, item(id, 1));
+        }
+        journal.close();
+
+        journal = open(DataSize.ofBytes(256));
+        assertEquals(10, journal.head());
+        assertEquals(11, journal.append(ItemChangeType.DELETED, 3, null));
+        assertEquals(11, read(0, 100).size());
+    }
+
+    @Test
+    public void whenTailEntryTorn_thenReopenDropsIt() throws IOException {
+        journal = open(DataSize.ofKilobytes(4));
+        journal.append(ItemChangeType.CREATED, 1, item(1, 1));
+        journal.append(ItemChangeType.CREATED, 2, item(2, 1));
+        journal.close();
+
+        Path file = segmentFiles().getFirst();
+        int secondEntry = JournalSegment.encode(1, ItemChangeType.CREATED, 1, item(1, 1)).remaining();
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.seek(secondEntry + JournalSegment.HEADER_BYTES + 20);
+            raf.write(0x7f);
+        }
+
+        journal = open(DataSize.ofKilobytes(4));
+        assertEquals(1, journal.head());
+        assertEquals(2, journal.append(ItemChangeType.CREATED, 3, item(3, 1)));
+        List<JournalEntry> entries = read(0, 10);
+        assertEquals(2, entries.size());
+        assertEquals(3, entries.get(1).getId());
+    }
+
+    @Test
+    public void whenCompacted_thenKeepsLatestEntryPerItemAndSequences() throws IOException {
+        journal = open(DataSize.ofBytes(256));
+        for (int round = 1; round <= 5; round++) {
+            for (long id = 1; id <= 3; id++) {
+                journal.append(ItemChangeType.UPDATED, id, item(id, round));
+            }
+        }
+        journal.append(ItemChangeType.DELETED, 2, null);
+        long head = journal.head();
+        int before = read(0, 100).size();
+
+        int dropped = journal.compact();
+
+        List<JournalEntry> after = read(0, 100);
+        assertEquals(before - dropped, after.size());
+        assertEquals(head, after.getLast().getSequence());
+        for (int i = 1; i < after.size(); i++) {
+            assertTrue(after.get(i).getSequence() > after.get(i - 1).getSequence());
+        }
+        long latestForItem1 = after.stream().filter(entry -> entry.getId() == 1).count();
+        assertTrue(latestForItem1 <= 2);
+
+        journal.close();
+        journal = open(DataSize.ofBytes(256));
+        assertEquals(head, journal.head());
+        assertEquals(after.size(), read(0, 100).size());
+    }
+
+    private ChangeJournal open(DataSize segmentSize) throws IOException {
+        return new ChangeJournal(directory.toString(), segmentSize, DataSize.ofMegabytes(512));
+    }
+
+    private List<JournalEntry> read(long since, int limit) {
+        List<JournalEntry> entries = new ArrayList<>();
+        journal.read(since, limit, entries::add);
+        return entries;
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+
+    private static Item item(long id, int quantity) {
+        return new Item(id, "Item " + id, "Description " + id, quantity, 10.0 * id, (long) quantity);
+    }
+}
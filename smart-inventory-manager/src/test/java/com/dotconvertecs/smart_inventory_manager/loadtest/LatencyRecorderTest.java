@@ -0,0 +1,61 @@
+package com.dotconvertecs.smart_inventory_manager.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LatencyRecorderTest {
+
+    @Test
+    public void whenRecorded_thenPercentilesUseNearestRank() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        for (int i = 100; i >= 1; i--) {
+            recorder.record(i, 200);
+        }
+
+        assertEquals(50, recorder.percentile(50));
+        assertEquals(99, recorder.percentile(99));
+        assertEquals(100, recorder.percentile(99.9));
+        assertEquals(100, recorder.percentile(100));
+    }
+
+    @Test
+    public void whenMerged_thenCountsAndErrorsAreCombined() {
+        LatencyRecorder first = new LatencyRecorder();
+        LatencyRecorder second = new LatencyRecorder();
+        for (int i = 0; i < 2000; i++) {
+            first.record(1, i % 100 == 0 ? 500 : 200);
+            second.record(3, 200);
+        }
+
+        first.merge(second);
+
+        assertEquals(4000, first.count());
+        assertEquals(20, first.errors());
+        assertEquals(3, first.percentile(75));
+    }
+
+    @Test
+    public void whenShed_thenCountedApartFromErrors() {
+        LatencyRecorder first = new LatencyRecorder();
+        LatencyRecorder second = new LatencyRecorder();
+        first.record(1, 429);
+        first.record(1, 503);
+        first.record(1, LatencyRecorder.TRANSPORT_FAILURE);
+        second.record(1, 429);
+        second.record(1, 500);
+        second.record(1, 404);
+
+        first.merge(second);
+
+        assertEquals(6, first.count());
+        assertEquals(2, first.errors());
+        assertEquals(2, first.throttled());
+        assertEquals(1, first.unavailable());
+    }
+
+    @Test
+    public void whenEmpty_thenPercentileIsZero() {
+        assertEquals(0, new LatencyRecorder().percentile(99));
+    }
+}
@@ -0,0 +1,122 @@
+package com.dotconvertecs.smart_inventory_manager.repository.impl;
+
+import com.dotconvertecs.smart_inventory_manager.config.DataSourceRoute;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.CacheStatsResponseDto;
+import com.dotconvertecs.smart_inventory_manager.model.entity.Item;
+import com.dotconvertecs.smart_inventory_manager.repository.ItemRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CachingItemRepositoryTest {
+
+    @Mock
+    private ItemRepository delegate;
+
+    private CachingItemRepository repository;
+
+    private Item item1;
+
+    @BeforeEach
+    public void setUp() {
+        repository = new CachingItemRepository(delegate, 100, Duration.ofMinutes(5));
+        item1 = new Item(1L, "Laptop", "High-end laptop", 10, 1500.0, 0L);
+    }
+
+    @Test
+    public void whenFindByIdTwice_thenDelegateCalledOnce() {
+        when(delegate.findById(1L)).thenReturn(Optional.of(item1));
+
+        Optional<Item> first = repository.findById(1L);
+        Optional<Item> second = repository.findById(1L);
+
+        assertEquals("Laptop", first.orElseThrow().getName());
+        assertEquals("Laptop", second.orElseThrow().getName());
+        assertNotSame(first.get(), second.get());
+        verify(delegate, times(1)).findById(1L);
+
+        CacheStatsResponseDto stats = repository.stats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+    }
+
+    @Test
+    public void whenCallerMutatesReturnedItem_thenCachedCopyIsUnchanged() {
+        when(delegate.findById(1L)).thenReturn(Optional.of(item1));
+
+        repository.findById(1L).orElseThrow().setName("Mutated");
+
+        assertEquals("Laptop", repository.findById(1L).orElseThrow().getName());
+    }
+
+    @Test
+    public void whenUpdateOrDelete_thenEntryIsInvalidated() {
+        when(delegate.findById(1L)).thenReturn(Optional.of(item1));
+        when(delegate.update(any(Item.class))).thenReturn(1);
+        when(delegate.deleteAll(List.of(1L))).thenReturn(new int[]{1});
+
+        repository.findById(1L);
+        repository.update(new Item(1L, "Laptop", "Updated", 9, 1400.0, 0L));
+        repository.findById(1L);
+        repository.deleteAll(List.of(1L));
+        repository.findById(1L);
+
+        verify(delegate, times(3)).findById(1L);
+    }
+
+    @Test
+    public void whenMissingItem_thenNotCached() {
+        when(delegate.findById(999L)).thenReturn(Optional.empty());
+
+        assertTrue(repository.findById(999L).isEmpty());
+        assertTrue(repository.findById(999L).isEmpty());
+
+        verify(delegate, times(2)).findById(999L);
+    }
+
+    @Test
+    public void whenSave_thenSavedItemIsServedFromCache() {
+        Item toSave = new Item(null, "Keyboard", "Mechanical", 30, 75.0, null);
+        when(delegate.save(toSave)).thenAnswer(invocation -> {
+            toSave.setId(3L);
+            return toSave;
+        });
+
+        repository.save(toSave);
+
+        assertEquals("Keyboard", repository.findById(3L).orElseThrow().getName());
+        verify(delegate, never()).findById(3L);
+    }
+
+    @Test
+    public void whenReadRoutedToReplica_thenCacheIsNotFilled() {
+        when(delegate.findById(1L)).thenReturn(Optional.of(item1));
+
+        DataSourceRoute.set(DataSourceRoute.REPLICA);
+        try {
+            repository.findById(1L);
+            repository.findById(1L);
+        } finally {
+            DataSourceRoute.clear();
+        }
+        repository.findById(1L);
+        DataSourceRoute.set(DataSourceRoute.REPLICA);
+        try {
+            assertEquals("Laptop", repository.findById(1L).orElseThrow().getName());
+        } finally {
+            DataSourceRoute.clear();
+        }
+
+        verify(delegate, times(3)).findById(1L);
+    }
+}
@@ -0,0 +1,210 @@
+package com.dotconvertecs.smart_inventory_manager.repository.impl;
+
+import com.dotconvertecs.smart_inventory_manager.index.PriceIndex;
+import com.dotconvertecs.smart_inventory_manager.model.entity.Item;
+import com.dotconvertecs.smart_inventory_manager.model.query.ItemCursor;
+import com.dotconvertecs.smart_inventory_manager.model.query.ItemQuery;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ShardedItemRepositoryTest {
+
+    private static final int SHARDS = 3;
+
+    private List<DataSource> dataSources;
+    private ShardedItemRepository repository;
+
+    @BeforeEach
+    public void setUp() {
+        String run = UUID.randomUUID().toString();
+        dataSources = new ArrayList<>();
+        for (int i = 0; i < SHARDS; i++) {
+            JdbcDataSource dataSource = new JdbcDataSource();
+            dataSource.setURL("jdbc:h2:mem:shard" + i + "-" + run + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+            dataSource.setUser("sa");
+            new ResourceDatabasePopulator(new ClassPathResource("schema.sql"),
+                    new ClassPathResource("shard-schema.sql")).execute(dataSource);
+            dataSources.add(dataSource);
+        }
+        repository = new ShardedItemRepository(dataSources, 100, 10);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        repository.close();
+        dataSources.forEach(dataSource -> new JdbcTemplate(dataSource).execute("SHUTDOWN"));
+    }
+
+    @Test
+    public void whenSaved_thenIdsEncodeShardAndItemsSpreadAcrossShards() {
+        List<Item> saved = saveItems(30);
+
+        Set<Long> ids = new HashSet<>();
+        for (Item item : saved) {
+            assertTrue(ids.add(item.getId()));
+            assertEquals(0L, item.getVersion());
+            assertEquals(item.getName(), repository.findById(item.getId()).orElseThrow().getName());
+        }
+        for (int shard = 0; shard < SHARDS; shard++) {
+            Long rows = new JdbcTemplate(dataSources.get(shard)).queryForObject("SELECT COUNT(*) FROM items", Long.class);
+            assertEquals(10L, rows);
+        }
+    }
+
+    @Test
+    public void whenFindPage_thenMergesShardsInOrderAndPagesWithCursor() {
+        List<Item> saved = saveItems(25);
+        List<Item> expected = saved.stream()
+                .sorted(Comparator.comparing(Item::getPrice).thenComparing(Item::getId).reversed())
+                .toList();
+
+        List<Long> paged = new ArrayList<>();
+        ItemCursor after = null;
+        do {
+            List<Item> page = repository.findPage(ItemQuery.builder()
+                    .sortByPrice(true)
+                    .descending(true)
+                    .after(after)
+                    .limit(7)
+                    .build());
+            page.forEach(item -> paged.add(item.getId()));
+            after = page.size() < 7 ? null : ItemCursor.of(page.getLast(), true);
+        } while (after != null);
+
+        assertEquals(expected.stream().map(Item::getId).toList(), paged);
+    }
+
+    @Test
+    public void whenFindPageWithPriceFilter_thenOnlyMatchingItemsInIdOrder() {
+        List<Item> saved = saveItems(20);
+
+        List<Item> page = repository.findPage(ItemQuery.builder().minPrice(50.0).maxPrice(150.0).limit(100).build());
+
+        List<Long> expected = saved.stream()
+                .filter(item -> item.getPrice() >= 50.0 && item.getPrice() <= 150.0)
+                .map(Item::getId)
+                .sorted()
+                .toList();
+        assertEquals(expected, page.stream().map(Item::getId).toList());
+    }
+
+    @Test
+    public void whenUpdatingAndDeleting_thenRoutedToOwningShard() {
+        List<Item> saved = saveItems(6);
+        Item first = saved.get(0);
+        first.setQuantity(99);
+        first.setVersion(0L);
+
+        assertEquals(1, repository.update(first));
+        assertEquals(99, repository.findById(first.getId()).orElseThrow().getQuantity());
+        assertEquals(1, repository.adjustQuantity(first.getId(), -9));
+        assertEquals(1, repository.delete(saved.get(1).getId()));
+        assertTrue(repository.findById(saved.get(1).getId()).isEmpty());
+        assertEquals(0, repository.delete((long) (1 << ShardIdAllocator.SHARD_BITS) + 200));
+
+        int[] deleted = repository.deleteAll(List.of(saved.get(2).getId(), saved.get(1).getId(), saved.get(3).getId()));
+        assertArrayEquals(new int[]{1, 0, 1}, deleted);
+        assertEquals(3, repository.findAll().size());
+    }
+
+    @Test
+    public void whenFindLowStockAndByIds_thenGathersFromAllShards() {
+        List<Item> saved = saveItems(12);
+
+        long expectedLow = saved.stream().filter(item -> item.getQuantity() <= 3).count();
+        assertEquals(expectedLow, repository.findLowStock(3).size());
+
+        List<Long> ids = List.of(saved.get(0).getId(), saved.get(4).getId(), saved.get(8).getId());
+        assertEquals(Set.copyOf(ids), repository.findByIds(ids).stream().map(Item::getId).collect(Collectors.toSet()));
+    }
+
+    @Test
+    public void whenTwoRepositoriesShareShards_thenIdBlocksDoNotOverlap() {
+        ShardedItemRepository other = new ShardedItemRepository(dataSources, 100, 10);
+        try {
+            Set<Long> ids = new HashSet<>();
+            for (int i = 0; i < 50; i++) {
+                assertTrue(ids.add(repository.save(item(i)).getId()));
+                assertTrue(ids.add(other.save(item(i)).getId()));
+            }
+        } finally {
+            other.close();
+        }
+    }
+
+    @Test
+    public void whenStreamFetchSizeIsMySqlHint_thenStreamingStillWorksOnOtherDrivers() {
+        saveItems(9);
+        ShardedItemRepository streaming = new ShardedItemRepository(dataSources, Integer.MIN_VALUE, 10);
+        try {
+            List<Item> streamed = new ArrayList<>();
+            streaming.streamAll(streamed::add);
+            assertEquals(9, streamed.size());
+        } finally {
+            streaming.close();
+        }
+    }
+
+    @Test
+    public void whenStreamPrices_thenPairsArriveInGlobalPriceOrder() {
+        List<Item> saved = saveItems(40);
+        List<Long> expected = saved.stream()
+                .sorted(Comparator.comparing(Item::getPrice).thenComparing(Item::getId))
+                .map(Item::getId)
+                .toList();
+
+        List<Long> streamed = new ArrayList<>();
+        repository.streamPrices((id, price) -> streamed.add(id));
+
+        assertEquals(expected, streamed);
+    }
+
+    @Test
+    public void whenPriceIndexBuiltOverShards_thenRangesMatchShardedQueries() {
+        saveItems(60);
+        PriceIndex index = new PriceIndex(repository, true);
+        index.rebuild();
+
+        assertEquals(60, index.size());
+        for (boolean descending : new boolean[]{false, true}) {
+            ItemQuery query = ItemQuery.builder()
+                    .sortByPrice(true)
+                    .descending(descending)
+                    .minPrice(40.0)
+                    .maxPrice(160.0)
+                    .limit(100)
+                    .build();
+            List<Long> expected = repository.findPage(query).stream().map(Item::getId).toList();
+            assertEquals(expected, Arrays.stream(index.range(query)).boxed().toList());
+        }
+    }
+
+    private List<Item> saveItems(int count) {
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            items.add(item(i));
+        }
+        return repository.saveAll(items);
+    }
+
+    private static Item item(int n) {
+        return new Item(null, "Item " + n, null, n % 7, (n * 37 % 200) + 0.5, null);
+    }
+}
@@ -0,0 +1,20 @@
+package com.dotconvertecs.smart_inventory_manager.repository.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SortedMergeTest {
+
+    @Test
+    public void whenMerging_thenInterleavesSourcesInOrderUpToLimit() {
+        List<List<Integer>> sources = List.of(List.of(1, 4, 9), List.of(), List.of(2, 3, 10), List.of(5));
+
+        assertEquals(List.of(1, 2, 3, 4, 5, 9, 10), SortedMerge.merge(sources, Comparator.naturalOrder(), 100));
+        assertEquals(List.of(1, 2, 3), SortedMerge.merge(sources, Comparator.naturalOrder(), 3));
+        assertEquals(List.of(), SortedMerge.merge(List.<List<Integer>>of(), Comparator.<Integer>naturalOrder(), 3));
+    }
+}
@@ -0,0 +1,137 @@
+package com.dotconvertecs.smart_inventory_manager.service.impl;
+
+import com.dotconvertecs.smart_inventory_manager.event.InventoryChangeCounter;
+import com.dotconvertecs.smart_inventory_manager.event.ItemChangedEvent;
+import com.dotconvertecs.smart_inventory_manager.exception.custome.InvalidRequestException;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemPageResponseDto;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemResponseDto;
+import com.dotconvertecs.smart_inventory_manager.service.ItemService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class CoalescingItemServiceTest {
+
+    private static final List<ItemResponseDto> LOW_STOCK = List.of(new ItemResponseDto(1L, "A", "a", 1, 1.0, 0L));
+
+    private ItemService delegate;
+    private InventoryChangeCounter changeCounter;
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    public void setUp() {
+        delegate = mock(ItemService.class);
+        changeCounter = new InventoryChangeCounter();
+        registry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    public void whenIdenticalCallsOverlap_thenOneQueryIsShared() throws Exception {
+        CoalescingItemService service = service(Duration.ZERO);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.getLowStockItems(5)).thenAnswer(invocation -> {
+            release.await();
+            return LOW_STOCK;
+        });
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<List<ItemResponseDto>>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> service.getLowStockItems(5)));
+            }
+            while (count("getLowStockItems", "joined") < 7) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+            for (Future<List<ItemResponseDto>> result : results) {
+                assertSame(LOW_STOCK, result.get());
+            }
+        }
+
+        verify(delegate, times(1)).getLowStockItems(5);
+        assertEquals(1.0, count("getLowStockItems", "executed"));
+    }
+
+    @Test
+    public void whenCallsDoNotOverlapAndNoReuseWindow_thenEachRunsItsOwnQuery() {
+        CoalescingItemService service = service(Duration.ZERO);
+        when(delegate.getLowStockItems(5)).thenReturn(LOW_STOCK);
+
+        service.getLowStockItems(5);
+        service.getLowStockItems(5);
+
+        verify(delegate, times(2)).getLowStockItems(5);
+    }
+
+    @Test
+    public void whenWithinReuseWindow_thenReusesResultUntilNextWrite() {
+        CoalescingItemService service = service(Duration.ofMinutes(1));
+        ItemPageResponseDto page = new ItemPageResponseDto(LOW_STOCK, null);
+        when(delegate.getAllItems(null, null, "PRICE", "desc", 10, null)).thenReturn(page);
+        when(delegate.getAllItems(null, null, "price", "DESC", 10, null)).thenReturn(page);
+
+        service.getAllItems(null, null, "PRICE", "desc", 10, null);
+        assertSame(page, service.getAllItems(null, null, "price", "DESC", 10, null));
+        verify(delegate, never()).getAllItems(null, null, "price", "DESC", 10, null);
+        assertEquals(1.0, count("getAllItems", "reused"));
+
+        changeCounter.onItemChanged(ItemChangedEvent.deleted(1L));
+        service.getAllItems(null, null, "price", "DESC", 10, null);
+
+        verify(delegate).getAllItems(null, null, "price", "DESC", 10, null);
+    }
+
+    @Test
+    public void whenParametersDiffer_thenQueriesAreNotShared() {
+        CoalescingItemService service = service(Duration.ofMinutes(1));
+        when(delegate.getLowStockItems(anyInt())).thenReturn(LOW_STOCK);
+
+        service.getLowStockItems(5);
+        service.getLowStockItems(6);
+
+        verify(delegate).getLowStockItems(5);
+        verify(delegate).getLowStockItems(6);
+    }
+
+    @Test
+    public void whenQueryFails_thenErrorIsNotReused() {
+        CoalescingItemService service = service(Duration.ofMinutes(1));
+        when(delegate.getAllItems(null, null, "id", "asc", 0, null))
+                .thenThrow(new InvalidRequestException("limit must be between 1 and 1000"));
+
+        assertThrows(InvalidRequestException.class, () -> service.getAllItems(null, null, "id", "asc", 0, null));
+        assertThrows(InvalidRequestException.class, () -> service.getAllItems(null, null, "id", "asc", 0, null));
+
+        verify(delegate, times(2)).getAllItems(null, null, "id", "asc", 0, null);
+    }
+
+    @Test
+    public void whenDisabled_thenDelegatesEveryCall() {
+        CoalescingItemService service = new CoalescingItemService(delegate, changeCounter, registry, false, Duration.ofMinutes(1));
+        when(delegate.getLowStockItems(5)).thenReturn(LOW_STOCK);
+
+        service.getLowStockItems(5);
+        service.getLowStockItems(5);
+
+        verify(delegate, times(2)).getLowStockItems(5);
+    }
+
+    private CoalescingItemService service(Duration reuseWindow) {
+        return new CoalescingItemService(delegate, changeCounter, registry, true, reuseWindow);
+    }
+
+    private double count(String query, String outcome) {
+        return registry.get("inventory.coalesce.calls").tag("query", query).tag("outcome", outcome).counter().count();
+    }
+}
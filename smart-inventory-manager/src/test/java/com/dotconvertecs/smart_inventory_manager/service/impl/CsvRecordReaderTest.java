@@ -0,0 +1,39 @@
+package com.dotconvertecs.smart_inventory_manager.service.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CsvRecordReaderTest {
+
+    @Test
+    public void whenFieldsAreQuoted_thenCommasQuotesAndLineBreaksArePreserved() throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader(
+                "name,description\r\n\"Desk, oak\",\"Says \"\"hi\"\"\non two lines\"\nLamp,\n"));
+
+        assertEquals(List.of("name", "description"), reader.next());
+        assertEquals(List.of("Desk, oak", "Says \"hi\"\non two lines"), reader.next());
+        assertEquals(List.of("Lamp", ""), reader.next());
+        assertNull(reader.next());
+    }
+
+    @Test
+    public void whenLastRecordHasNoLineBreak_thenItIsStillRead() throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("a,b\rc,d"));
+
+        assertEquals(List.of("a", "b"), reader.next());
+        assertEquals(List.of("c", "d"), reader.next());
+        assertNull(reader.next());
+    }
+
+    @Test
+    public void whenQuoteIsNotClosed_thenThrows() {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("\"open,field\n"));
+
+        assertThrows(IOException.class, reader::next);
+    }
+}
@@ -0,0 +1,152 @@
+package com.dotconvertecs.smart_inventory_manager.service.impl;
+
+import com.dotconvertecs.smart_inventory_manager.event.ItemChangedEvent;
+import com.dotconvertecs.smart_inventory_manager.model.dto.request.ItemBatchEntryDto;
+import com.dotconvertecs.smart_inventory_manager.model.dto.request.ItemBatchRequestDto;
+import com.dotconvertecs.smart_inventory_manager.model.dto.request.ItemRequestCreateDto;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemBatchResponseDto;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemBatchResultDto;
+import com.dotconvertecs.smart_inventory_manager.model.entity.Item;
+import com.dotconvertecs.smart_inventory_manager.model.enums.BatchEntryStatus;
+import com.dotconvertecs.smart_inventory_manager.model.enums.BatchOperation;
+import com.dotconvertecs.smart_inventory_manager.model.mapper.ItemMapper;
+import com.dotconvertecs.smart_inventory_manager.repository.ItemRepository;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ItemBatchServiceImplTest {
+
+    @Mock
+    private ItemRepository repository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ItemBatchServiceImpl service;
+
+    @BeforeEach
+    public void setUp() {
+        service = new ItemBatchServiceImpl(repository, new ItemMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(), eventPublisher, 2);
+    }
+
+    @Test
+    public void whenProcessMixedBatch_thenReturnsPerEntryStatus() {
+        AtomicLong nextId = new AtomicLong(100);
+        when(repository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Item> items = invocation.getArgument(0);
+            for (Item item : items) {
+                item.setId(nextId.getAndIncrement());
+            }
+            return items;
+        });
+        when(repository.updateAll(anyList())).thenAnswer(invocation -> {
+            List<Item> items = invocation.getArgument(0);
+            return items.stream().mapToInt(item -> item.getId() == 999L ? 0 : 1).toArray();
+        });
+        when(repository.deleteAll(anyList())).thenReturn(new int[]{1});
+
+        ItemBatchRequestDto request = new ItemBatchRequestDto(List.of(
+                entry(BatchOperation.CREATE, null, new ItemRequestCreateDto("Keyboard", "Mechanical", 30, 75.0)),
+                entry(BatchOperation.UPDATE, 1L, new ItemRequestCreateDto("Laptop", "Updated", 9, 1400.0)),
+                entry(BatchOperation.CREATE, null, new ItemRequestCreateDto("", "Blank", -1, 5.0)),
+                entry(BatchOperation.DELETE, 2L, null),
+                entry(BatchOperation.UPDATE, 999L, new ItemRequestCreateDto("Ghost", null, 1, 1.0)),
+                entry(BatchOperation.CREATE, null, new ItemRequestCreateDto("Mouse", null, 5, 20.0))));
+
+        ItemBatchResponseDto response = service.process(request);
+
+        List<ItemBatchResultDto> results = response.getResults();
+        assertEquals(6, results.size());
+        assertEquals(BatchEntryStatus.CREATED, results.get(0).getStatus());
+        assertEquals(100L, results.get(0).getId());
+        assertEquals(BatchEntryStatus.UPDATED, results.get(1).getStatus());
+        assertEquals(BatchEntryStatus.INVALID, results.get(2).getStatus());
+        assertEquals("name: Name is required; quantity: Quantity must be >= 0", results.get(2).getMessage());
+        assertEquals(BatchEntryStatus.DELETED, results.get(3).getStatus());
+        assertEquals(BatchEntryStatus.NOT_FOUND, results.get(4).getStatus());
+        assertEquals(BatchEntryStatus.CREATED, results.get(5).getStatus());
+        assertEquals(101L, results.get(5).getId());
+
+        verify(eventPublisher, times(4)).publishEvent(any(ItemChangedEvent.class));
+        verify(repository, times(2)).saveAll(anyList());
+        verify(repository, never()).save(any());
+        verify(repository, never()).update(any());
+        verify(repository, never()).delete(anyLong());
+    }
+
+    @Test
+    public void whenBatchExceedsChunkSize_thenSplitsIntoChunks() {
+        when(repository.deleteAll(anyList())).thenAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            return new int[ids.size()];
+        });
+
+        ItemBatchRequestDto request = new ItemBatchRequestDto(List.of(
+                entry(BatchOperation.DELETE, 1L, null),
+                entry(BatchOperation.DELETE, 2L, null),
+                entry(BatchOperation.DELETE, 3L, null),
+                entry(BatchOperation.DELETE, null, null)));
+
+        ItemBatchResponseDto response = service.process(request);
+
+        verify(repository).deleteAll(List.of(1L, 2L));
+        verify(repository).deleteAll(List.of(3L));
+        assertEquals(BatchEntryStatus.NOT_FOUND, response.getResults().get(2).getStatus());
+        assertEquals(BatchEntryStatus.INVALID, response.getResults().get(3).getStatus());
+    }
+
+    @Test
+    public void whenOperationsInterleaveOnSameId_thenRunsThemInSubmissionOrder() {
+        when(repository.updateAll(anyList())).thenReturn(new int[]{1}, new int[]{0});
+        when(repository.deleteAll(anyList())).thenReturn(new int[]{1});
+
+        ItemBatchRequestDto request = new ItemBatchRequestDto(List.of(
+                entry(BatchOperation.UPDATE, 1L, new ItemRequestCreateDto("Laptop", "Updated", 9, 1400.0)),
+                entry(BatchOperation.DELETE, 1L, null),
+                entry(BatchOperation.UPDATE, 1L, new ItemRequestCreateDto("Laptop", "Again", 3, 1300.0))));
+
+        ItemBatchResponseDto response = service.process(request);
+
+        InOrder inOrder = inOrder(repository);
+        inOrder.verify(repository).updateAll(argThat(items -> items.size() == 1 && "Updated".equals(items.get(0).getDescription())));
+        inOrder.verify(repository).deleteAll(List.of(1L));
+        inOrder.verify(repository).updateAll(argThat(items -> items.size() == 1 && "Again".equals(items.get(0).getDescription())));
+        List<ItemBatchResultDto> results = response.getResults();
+        assertEquals(BatchEntryStatus.UPDATED, results.get(0).getStatus());
+        assertEquals(BatchEntryStatus.DELETED, results.get(1).getStatus());
+        assertEquals(BatchEntryStatus.NOT_FOUND, results.get(2).getStatus());
+    }
+
+    @Test
+    public void whenSameOperationRepeats_thenBatchesConsecutiveEntries() {
+        when(repository.updateAll(anyList())).thenAnswer(invocation -> new int[]{1, 1});
+
+        service.process(new ItemBatchRequestDto(List.of(
+                entry(BatchOperation.UPDATE, 1L, new ItemRequestCreateDto("A", null, 1, 1.0)),
+                entry(BatchOperation.UPDATE, 2L, new ItemRequestCreateDto("", null, 1, 1.0)),
+                entry(BatchOperation.UPDATE, 3L, new ItemRequestCreateDto("C", null, 1, 1.0)))));
+
+        verify(repository, times(1)).updateAll(argThat(items -> items.size() == 2
+                && items.get(0).getId() == 1L && items.get(1).getId() == 3L));
+    }
+
+    private ItemBatchEntryDto entry(BatchOperation operation, Long id, ItemRequestCreateDto item) {
+        return new ItemBatchEntryDto(operation, id, item);
+    }
+}
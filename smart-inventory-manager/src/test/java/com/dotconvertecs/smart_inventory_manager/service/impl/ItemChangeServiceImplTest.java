@@ -0,0 +1,78 @@
+package com.dotconvertecs.smart_inventory_manager.service.impl;
+
+import com.dotconvertecs.smart_inventory_manager.exception.custome.InvalidRequestException;
+import com.dotconvertecs.smart_inventory_manager.journal.ChangeJournal;
+import com.dotconvertecs.smart_inventory_manager.journal.JournalEntry;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemChangePageDto;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemResponseDto;
+import com.dotconvertecs.smart_inventory_manager.model.entity.Item;
+import com.dotconvertecs.smart_inventory_manager.model.enums.ItemChangeType;
+import com.dotconvertecs.smart_inventory_manager.model.mapper.ItemMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ItemChangeServiceImplTest {
+
+    @Mock
+    private ChangeJournal journal;
+
+    @Mock
+    private ItemMapper itemMapper;
+
+    @InjectMocks
+    private ItemChangeServiceImpl service;
+
+    @Test
+    public void whenMoreChangesThanLimit_thenReturnsPageWithCursor() {
+        Item item = new Item(1L, "Laptop", "High-end laptop", 10, 1500.0, 1L);
+        ItemResponseDto dto = new ItemResponseDto(1L, "Laptop", "High-end laptop", 10, 1500.0, 1L);
+        when(journal.head()).thenReturn(12L);
+        when(itemMapper.toResponse(item)).thenReturn(dto);
+        doAnswer(invocation -> {
+            Consumer<JournalEntry> consumer = invocation.getArgument(2);
+            consumer.accept(new JournalEntry(10, ItemChangeType.UPDATED, 1, item));
+            consumer.accept(new JournalEntry(11, ItemChangeType.DELETED, 2, null));
+            consumer.accept(new JournalEntry(12, ItemChangeType.DELETED, 3, null));
+            return 3;
+        }).when(journal).read(eq(9L), eq(3), any());
+
+        ItemChangePageDto page = service.getChanges(9, 2);
+
+        assertEquals(2, page.getChanges().size());
+        assertSame(dto, page.getChanges().get(0).getItem());
+        assertNull(page.getChanges().get(1).getItem());
+        assertEquals("11", page.getNextCursor());
+        assertEquals(12L, page.getHead());
+    }
+
+    @Test
+    public void whenCaughtUp_thenReturnsNoCursor() {
+        when(journal.head()).thenReturn(5L);
+        when(journal.read(eq(5L), eq(101), any())).thenReturn(0);
+
+        ItemChangePageDto page = service.getChanges(5, 100);
+
+        assertTrue(page.getChanges().isEmpty());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    public void whenInvalidRange_thenThrowException() {
+        assertThrows(InvalidRequestException.class, () -> service.getChanges(-1, 10));
+        assertThrows(InvalidRequestException.class, () -> service.getChanges(0, 0));
+        assertThrows(InvalidRequestException.class, () -> service.getChanges(0, 10001));
+        verify(journal, never()).read(anyLong(), anyInt(), any());
+    }
+}
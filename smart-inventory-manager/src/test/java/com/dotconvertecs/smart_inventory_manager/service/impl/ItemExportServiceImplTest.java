@@ -0,0 +1,72 @@
+package com.dotconvertecs.smart_inventory_manager.service.impl;
+
+import com.dotconvertecs.smart_inventory_manager.model.entity.Item;
+import com.dotconvertecs.smart_inventory_manager.model.enums.ExportFormat;
+import com.dotconvertecs.smart_inventory_manager.model.mapper.ItemMapper;
+import com.dotconvertecs.smart_inventory_manager.repository.ItemRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class ItemExportServiceImplTest {
+
+    @Mock
+    private ItemRepository repository;
+
+    private ItemExportServiceImpl service;
+
+    @BeforeEach
+    public void setUp() {
+        service = new ItemExportServiceImpl(repository, new ItemMapper(), new ObjectMapper());
+
+        List<Item> items = List.of(
+                new Item(1L, "Laptop", "High-end, 16\" screen", 10, 1500.0, 0L),
+                new Item(2L, "Mouse", null, 50, 25.0, 0L));
+        doAnswer(invocation -> {
+            Consumer<Item> consumer = invocation.getArgument(0);
+            items.forEach(consumer);
+            return null;
+        }).when(repository).streamAll(any());
+    }
+
+    @Test
+    public void whenExportNdjson_thenWritesOneObjectPerLine() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        service.export(ExportFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("{\"id\":1,\"name\":\"Laptop\",\"description\":\"High-end, 16\\\" screen\",\"quantity\":10,\"price\":1500.0,\"version\":0}", lines[0]);
+        assertEquals("{\"id\":2,\"name\":\"Mouse\",\"description\":null,\"quantity\":50,\"price\":25.0,\"version\":0}", lines[1]);
+        verify(repository, never()).findAll();
+    }
+
+    @Test
+    public void whenExportCsv_thenWritesHeaderAndEscapedRows() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        service.export(ExportFormat.CSV, out);
+
+        assertEquals("""
+                id,name,description,quantity,price
+                1,Laptop,"High-end, 16"" screen",10,1500.0
+                2,Mouse,,50,25.0
+                """, out.toString(StandardCharsets.UTF_8));
+    }
+}
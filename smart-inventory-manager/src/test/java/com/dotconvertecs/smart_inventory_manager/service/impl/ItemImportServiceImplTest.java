@@ -0,0 +1,163 @@
+package com.dotconvertecs.smart_inventory_manager.service.impl;
+
+import com.dotconvertecs.smart_inventory_manager.event.ItemChangedEvent;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemImportErrorDto;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemImportJobDto;
+import com.dotconvertecs.smart_inventory_manager.model.entity.Item;
+import com.dotconvertecs.smart_inventory_manager.model.enums.ImportJobStatus;
+import com.dotconvertecs.smart_inventory_manager.model.mapper.ItemMapper;
+import com.dotconvertecs.smart_inventory_manager.repository.ItemRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class ItemImportServiceImplTest {
+
+    @Mock
+    private ItemRepository repository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final AtomicLong ids = new AtomicLong();
+    private ItemImportServiceImpl service;
+
+    @BeforeEach
+    public void setUp() {
+        service = new ItemImportServiceImpl(repository, new ItemMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(), eventPublisher,
+                new TransactionTemplate(transactionManager), new SimpleMeterRegistry(),
+                2, 2, 2, 2, 10, Duration.ofHours(1));
+        when(repository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Item> items = invocation.getArgument(0);
+            items.forEach(item -> item.setId(ids.incrementAndGet()));
+            return items;
+        });
+    }
+
+    @AfterEach
+    public void tearDown() {
+        service.close();
+    }
+
+    @Test
+    public void whenCsvHasValidAndInvalidRows_thenImportsValidRowsAndReportsOthers() throws Exception {
+        String csv = """
+                id,name,description,quantity,price
+                1,Desk,"Oak, large",3,199.5
+                2,,No name,1,1
+                3,Lamp,,-1,10
+                4,Chair,"Says ""sit""
+                on two lines",8,49.99
+                5,Shelf,,2,abc
+
+                6,Stool,,0,0
+                """;
+
+        ItemImportJobDto job = awaitFinished(service.submit(input(csv)).getId());
+
+        assertEquals(ImportJobStatus.COMPLETED, job.getStatus());
+        assertEquals(6, job.getRowsRead());
+        assertEquals(3, job.getRowsImported());
+        assertEquals(3, job.getRowsRejected());
+        assertEquals(List.of(2L, 3L, 5L), job.getErrors().stream().map(ItemImportErrorDto::getRow).toList());
+        assertEquals("name: Name is required", job.getErrors().get(0).getMessage());
+        assertEquals("quantity: Quantity must be >= 0", job.getErrors().get(1).getMessage());
+        assertEquals("price: Invalid number abc", job.getErrors().get(2).getMessage());
+        verify(eventPublisher, times(3)).publishEvent(any(ItemChangedEvent.class));
+    }
+
+    @Test
+    public void whenBatchInsertFails_thenRetriesRowsOneByOneAndRejectsFailingRow() throws Exception {
+        when(repository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("batch failed"));
+        when(repository.save(any(Item.class))).thenAnswer(invocation -> {
+            Item item = invocation.getArgument(0);
+            if (item.getName().equals("Too long")) {
+                throw new DataIntegrityViolationException("Data too long for column 'name'");
+            }
+            item.setId(ids.incrementAndGet());
+            return item;
+        });
+
+        ItemImportJobDto job = awaitFinished(service.submit(input("name,quantity,price\nDesk,1,2\nToo long,1,2\n")).getId());
+
+        assertEquals(ImportJobStatus.COMPLETED, job.getStatus());
+        assertEquals(1, job.getRowsImported());
+        assertEquals(1, job.getRowsRejected());
+        assertEquals(2L, job.getErrors().getFirst().getRow());
+        assertEquals("Data too long for column 'name'", job.getErrors().getFirst().getMessage());
+    }
+
+    @Test
+    public void whenManyRows_thenAllBatchesAreWritten() throws Exception {
+        StringBuilder csv = new StringBuilder("name,quantity,price\n");
+        for (int i = 0; i < 101; i++) {
+            csv.append("Item ").append(i).append(',').append(i).append(",1.5\n");
+        }
+
+        ItemImportJobDto job = awaitFinished(service.submit(input(csv.toString())).getId());
+
+        assertEquals(ImportJobStatus.COMPLETED, job.getStatus());
+        assertEquals(101, job.getRowsImported());
+        assertEquals(0, job.getRowsRejected());
+        verify(repository, times(51)).saveAll(anyList());
+    }
+
+    @Test
+    public void whenHeaderIsMissingColumns_thenJobFails() throws Exception {
+        ItemImportJobDto job = awaitFinished(service.submit(input("title,amount\nDesk,1\n")).getId());
+
+        assertEquals(ImportJobStatus.FAILED, job.getStatus());
+        assertEquals("CSV header must contain name, quantity and price columns", job.getMessage());
+        verify(repository, never()).saveAll(anyList());
+    }
+
+    @Test
+    public void whenJobIsUnknown_thenReturnsEmpty() {
+        assertTrue(service.getJob("missing").isEmpty());
+    }
+
+    private ItemImportJobDto awaitFinished(String id) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (System.nanoTime() < deadline) {
+            ItemImportJobDto job = service.getJob(id).orElseThrow();
+            if (job.getFinishedAt() != null) {
+                return job;
+            }
+            Thread.sleep(10);
+        }
+        fail("Import " + id + " did not finish");
+        return null;
+    }
+
+    private static ByteArrayInputStream input(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,59 @@
+package com.dotconvertecs.smart_inventory_manager.service.impl;
+
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemResponseDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ItemJsonRowWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void whenRowsWritten_thenOutputMatchesJacksonForDtos() throws Exception {
+        List<ItemResponseDto> dtos = List.of(
+                new ItemResponseDto(1L, "Laptop", "High-end laptop", 10, 1500.0, 0L),
+                new ItemResponseDto(2L, "Café \"quoted\" \\ \n☃", null, 0, 0.1, 7L),
+                new ItemResponseDto(Long.MAX_VALUE, "", "\u0001", -1, 1.0E-7, Long.MAX_VALUE),
+                new ItemResponseDto(4L, "Big", "Price", Integer.MAX_VALUE, 12345678901.25, 1L));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonGenerator generator = objectMapper.createGenerator(out);
+        ItemJsonRowWriter writer = new ItemJsonRowWriter(generator, dtos.size());
+        generator.writeStartArray();
+        for (ItemResponseDto dto : dtos) {
+            writer.accept(dto.getId(), dto.getName(), dto.getDescription(), dto.getQuantity(), dto.getPrice(),
+                    dto.getVersion());
+        }
+        generator.writeEndArray();
+        generator.flush();
+
+        assertArrayEquals(objectMapper.writeValueAsBytes(dtos), out.toByteArray());
+        assertEquals(4, writer.written());
+        assertNull(writer.nextCursor(false));
+    }
+
+    @Test
+    public void whenMoreRowsThanLimit_thenExtraRowIsSkippedAndCursorPointsAtLastWritten() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonGenerator generator = objectMapper.createGenerator(out);
+        ItemJsonRowWriter writer = new ItemJsonRowWriter(generator, 2);
+        generator.writeStartArray();
+        writer.accept(1L, "A", "a", 1, 9.5, 0L);
+        writer.accept(5L, "B", "b", 1, 12.0, 0L);
+        writer.accept(9L, "C", "c", 1, 15.0, 0L);
+        generator.writeEndArray();
+        generator.flush();
+
+        List<?> written = objectMapper.readValue(out.toByteArray(), List.class);
+        assertEquals(2, written.size());
+        assertEquals(2, writer.written());
+        assertEquals("5", writer.nextCursor(false));
+        assertEquals("12.0_5", writer.nextCursor(true));
+    }
+}
@@ -1,20 +1,34 @@
 package com.dotconvertecs.smart_inventory_manager.service.impl;
 
+import com.dotconvertecs.smart_inventory_manager.event.ItemChangedEvent;
+import com.dotconvertecs.smart_inventory_manager.exception.custome.InvalidRequestException;
 import com.dotconvertecs.smart_inventory_manager.exception.custome.ItemNotFoundException;
+import com.dotconvertecs.smart_inventory_manager.exception.custome.PreconditionFailedException;
+import com.dotconvertecs.smart_inventory_manager.exception.custome.ServiceUnavailableException;
+import com.dotconvertecs.smart_inventory_manager.index.PriceIndex;
+import com.dotconvertecs.smart_inventory_manager.index.SearchIndex;
 import com.dotconvertecs.smart_inventory_manager.model.dto.request.ItemRequestCreateDto;
 import com.dotconvertecs.smart_inventory_manager.model.dto.request.ItemRequestUpdateDto;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemJsonPage;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemPageResponseDto;
 import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemResponseDto;
 import com.dotconvertecs.smart_inventory_manager.model.entity.Item;
 import com.dotconvertecs.smart_inventory_manager.model.mapper.ItemMapper;
+import com.dotconvertecs.smart_inventory_manager.model.query.ItemQuery;
 import com.dotconvertecs.smart_inventory_manager.repository.ItemRepository;
 import com.dotconvertecs.smart_inventory_manager.service.impl.ItemServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.io.ByteArrayOutputStream;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,6 +46,21 @@ public class ItemServiceImplTest {
     @Mock
     private ItemMapper itemMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PriceIndex priceIndex;
+
+    @Mock
+    private StockAdjuster stockAdjuster;
+
+    @Mock
+    private SearchIndex searchIndex;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
     @InjectMocks
     private ItemServiceImpl service;
 
@@ -43,33 +72,83 @@ public class ItemServiceImplTest {
 
     @BeforeEach
     public void setUp() {
-        item1 = new Item(1L, "Laptop", "High-end laptop", 10, 1500.0);
-        item2 = new Item(2L, "Mouse", "Wireless mouse", 50, 25.0);
+        item1 = new Item(1L, "Laptop", "High-end laptop", 10, 1500.0, 0L);
+        item2 = new Item(2L, "Mouse", "Wireless mouse", 50, 25.0, 0L);
 
-        itemResponseDto1 = new ItemResponseDto(1L, "Laptop", "High-end laptop", 10, 1500.0);
+        itemResponseDto1 = new ItemResponseDto(1L, "Laptop", "High-end laptop", 10, 1500.0, 0L);
     }
 
     @Test
-    public void whenGetAllItems_withPriceFilterAndSort_thenReturnsFilteredAndSortedList() {
-        when(repository.findAll()).thenReturn(List.of(item1, item2));
+    public void whenGetAllItems_withPriceFilterAndSort_thenPushesQueryToRepository() {
+        when(repository.findPage(any(ItemQuery.class))).thenReturn(List.of(item1));
 
         when(itemMapper.toResponse(item1)).thenReturn(itemResponseDto1);
 
-        List<ItemResponseDto> result = service.getAllItems(1000.0, null, "price", "asc");
+        ItemPageResponseDto result = service.getAllItems(1000.0, null, "price", "asc", 10, null);
+
+        assertEquals(1, result.getItems().size());
+        assertEquals("Laptop", result.getItems().getFirst().getName());
+        assertEquals(1L, result.getItems().getFirst().getId());
+        assertNull(result.getNextCursor());
+
+        ArgumentCaptor<ItemQuery> captor = ArgumentCaptor.forClass(ItemQuery.class);
+        verify(repository).findPage(captor.capture());
+        ItemQuery query = captor.getValue();
+        assertEquals(1000.0, query.getMinPrice());
+        assertNull(query.getMaxPrice());
+        assertTrue(query.isSortByPrice());
+        assertFalse(query.isDescending());
+        assertNull(query.getAfter());
+        assertEquals(11, query.getLimit());
+        verify(repository, never()).findAll();
+    }
+
+    @Test
+    public void whenGetAllItems_moreRowsThanLimit_thenReturnsNextCursor() {
+        when(repository.findPage(any(ItemQuery.class))).thenReturn(List.of(item2, item1));
+        when(itemMapper.toResponse(item2)).thenReturn(new ItemResponseDto(2L, "Mouse", "Wireless mouse", 50, 25.0, 0L));
 
-        assertEquals(1, result.size());
-        assertEquals("Laptop", result.getFirst().getName());
-        assertEquals(1L, result.getFirst().getId());
+        ItemPageResponseDto result = service.getAllItems(null, null, "price", "asc", 1, "10.0_1");
+
+        assertEquals(1, result.getItems().size());
+        assertEquals("25.0_2", result.getNextCursor());
+
+        ArgumentCaptor<ItemQuery> captor = ArgumentCaptor.forClass(ItemQuery.class);
+        verify(repository).findPage(captor.capture());
+        assertEquals(10.0, captor.getValue().getAfter().getPrice());
+        assertEquals(1L, captor.getValue().getAfter().getId());
+        verify(itemMapper, never()).toResponse(item1);
+    }
+
+    @Test
+    public void whenGetAllItems_invalidCursorOrLimit_thenThrowException() {
+        assertThrows(InvalidRequestException.class, () -> service.getAllItems(null, null, "id", "asc", 10, "abc"));
+        assertThrows(InvalidRequestException.class, () -> service.getAllItems(null, null, "price", "asc", 10, "12"));
+        assertThrows(InvalidRequestException.class, () -> service.getAllItems(null, null, "id", "asc", 0, null));
+        verify(repository, never()).findPage(any());
+    }
 
-        verify(repository).findAll();
+    @Test
+    public void whenGetAllItems_sortedByPriceWithIndexReady_thenLoadsIdsFromIndex() {
+        when(priceIndex.isReady()).thenReturn(true);
+        when(priceIndex.range(any(ItemQuery.class))).thenReturn(new long[]{2L, 1L});
+        when(repository.findByIds(List.of(2L, 1L))).thenReturn(List.of(item1, item2));
+        ItemResponseDto itemResponseDto2 = new ItemResponseDto(2L, "Mouse", "Wireless mouse", 50, 25.0, 0L);
+        when(itemMapper.toResponse(item1)).thenReturn(itemResponseDto1);
+        when(itemMapper.toResponse(item2)).thenReturn(itemResponseDto2);
+
+        ItemPageResponseDto result = service.getAllItems(null, null, "price", "asc", 10, null);
+
+        assertEquals(List.of(2L, 1L), result.getItems().stream().map(ItemResponseDto::getId).toList());
+        verify(repository, never()).findPage(any());
     }
 
     @Test
     public void whenCreateItem_validDto_thenReturnsCreatedDto() {
         ItemRequestCreateDto createDto = new ItemRequestCreateDto("Keyboard", "Mechanical", 30, 75.0);
-        Item itemToSave = new Item(null, "Keyboard", "Mechanical", 30, 75.0);
-        Item savedItem = new Item(3L, "Keyboard", "Mechanical", 30, 75.0);
-        ItemResponseDto responseDto = new ItemResponseDto(3L, "Keyboard", "Mechanical", 30, 75.0);
+        Item itemToSave = new Item(null, "Keyboard", "Mechanical", 30, 75.0, null);
+        Item savedItem = new Item(3L, "Keyboard", "Mechanical", 30, 75.0, 0L);
+        ItemResponseDto responseDto = new ItemResponseDto(3L, "Keyboard", "Mechanical", 30, 75.0, 0L);
 
         when(itemMapper.toEntity(any(ItemRequestCreateDto.class))).thenReturn(itemToSave);
         when(repository.save(any(Item.class))).thenReturn(savedItem);
@@ -82,55 +161,148 @@ public class ItemServiceImplTest {
         assertEquals("Keyboard", result.getName());
         verify(repository).save(itemToSave);
         verify(itemMapper).toResponse(savedItem);
+        verify(eventPublisher).publishEvent(any(ItemChangedEvent.class));
     }
 
     @Test
-    public void whenUpdateItem_existingItem_thenReturnsUpdatedDto() {
-        ItemRequestUpdateDto updateDto = new ItemRequestUpdateDto("Updated Name", "Updated Desc", 15, 1600.0);
+    public void whenSearchItems_thenLoadsRankedIdsInOrderAndReturnsNextOffset() {
+        when(searchIndex.isReady()).thenReturn(true);
+        when(searchIndex.search("lap", 20, 3)).thenReturn(new long[]{2L, 1L, 7L});
+        when(repository.findByIds(List.of(2L, 1L))).thenReturn(List.of(item1, item2));
+        ItemResponseDto itemResponseDto2 = new ItemResponseDto(2L, "Mouse", "Wireless mouse", 50, 25.0, 0L);
+        when(itemMapper.toResponse(item1)).thenReturn(itemResponseDto1);
+        when(itemMapper.toResponse(item2)).thenReturn(itemResponseDto2);
 
-        when(repository.findById(1L)).thenReturn(Optional.of(item1));
-        doNothing().when(itemMapper).updateEntityFromDto(any(Item.class), any(ItemRequestUpdateDto.class));
+        ItemPageResponseDto result = service.searchItems("lap", 2, "20");
 
-        when(repository.update(any(Item.class))).thenReturn(1);
+        assertEquals(List.of(itemResponseDto2, itemResponseDto1), result.getItems());
+        assertEquals("22", result.getNextCursor());
+    }
+
+    @Test
+    public void whenSearchItems_indexNotReady_thenThrowServiceUnavailable() {
+        when(searchIndex.isReady()).thenReturn(false);
+
+        assertThrows(ServiceUnavailableException.class, () -> service.searchItems("lap", 20, null));
+        assertThrows(InvalidRequestException.class, () -> service.searchItems(" ", 20, null));
+        assertThrows(InvalidRequestException.class, () -> service.searchItems("lap", 20, "-1"));
+    }
 
-        ItemResponseDto updatedResponse = new ItemResponseDto(1L, "Updated Name", "Updated Desc", 15, 1600.0);
-        when(itemMapper.toResponse(item1)).thenReturn(updatedResponse);
+    @Test
+    public void whenUpdateItem_withoutExpectedVersion_thenRunsSingleUpdateWithoutReadingBack() {
+        ItemRequestUpdateDto updateDto = new ItemRequestUpdateDto("Updated Name", "Updated Desc", 15, 1600.0);
+        when(repository.update(any(Item.class))).thenReturn(1);
+        ItemResponseDto updatedResponse = new ItemResponseDto(1L, "Updated Name", "Updated Desc", 15, 1600.0, null);
+        when(itemMapper.toResponse(any(Item.class))).thenReturn(updatedResponse);
 
-        ItemResponseDto result = service.updateItem(1L, updateDto);
+        ItemResponseDto result = service.updateItem(1L, updateDto, null);
 
         assertNotNull(result);
         assertEquals("Updated Name", result.getName());
-        verify(repository).findById(1L);
-        verify(itemMapper).updateEntityFromDto(item1, updateDto);
-        verify(repository).update(item1);
+        ArgumentCaptor<Item> captor = ArgumentCaptor.forClass(Item.class);
+        verify(repository, times(1)).update(captor.capture());
+        assertEquals(1L, captor.getValue().getId());
+        assertNull(captor.getValue().getVersion());
+        verify(itemMapper).updateEntityFromDto(captor.getValue(), updateDto);
+        verify(repository, never()).findById(anyLong());
+        verifyNoMoreInteractions(repository);
+        verify(itemMapper).toResponse(captor.getValue());
+        assertNull(captor.getValue().getVersion());
+        verify(eventPublisher).publishEvent(any(ItemChangedEvent.class));
+    }
+
+    @Test
+    public void whenUpdateItem_withExpectedVersion_thenReturnsNextVersionWithoutReading() {
+        ItemRequestUpdateDto updateDto = new ItemRequestUpdateDto("Updated Name", "Updated Desc", 15, 1600.0);
+        when(repository.update(any(Item.class))).thenReturn(1);
+
+        service.updateItem(1L, updateDto, 3L);
+
+        ArgumentCaptor<Item> captor = ArgumentCaptor.forClass(Item.class);
+        verify(itemMapper).toResponse(captor.capture());
+        assertEquals(4L, captor.getValue().getVersion());
+        verify(repository, times(1)).update(any(Item.class));
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    public void whenUpdateItem_versionConflict_thenThrowPreconditionFailed() {
+        ItemRequestUpdateDto updateDto = new ItemRequestUpdateDto("Updated Name", "Updated Desc", 15, 1600.0);
+        when(repository.update(any(Item.class))).thenReturn(0);
+        when(repository.findById(1L)).thenReturn(Optional.of(item1));
+
+        assertThrows(PreconditionFailedException.class, () -> service.updateItem(1L, updateDto, 7L));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    public void whenUpdateItem_withExpectedVersionAndMissingItem_thenThrowNotFound() {
+        ItemRequestUpdateDto updateDto = new ItemRequestUpdateDto("Updated Name", "Updated Desc", 15, 1600.0);
+        when(repository.update(any(Item.class))).thenReturn(0);
+        when(repository.findById(999L)).thenReturn(Optional.empty());
+
+        assertThrows(ItemNotFoundException.class, () -> service.updateItem(999L, updateDto, 7L));
+    }
+
+    @Test
+    public void whenGetItemIfModified_sameVersion_thenReturnsEmptyWithoutMapping() {
+        when(repository.findById(1L)).thenReturn(Optional.of(item1));
+
+        assertTrue(service.getItemIfModified(1L, 0L).isEmpty());
+        verify(itemMapper, never()).toResponse(any());
     }
 
 
     @Test
     public void whenUpdateItem_notExisting_thenThrowException() {
         ItemRequestUpdateDto dto = new ItemRequestUpdateDto();
-        when(repository.findById(999L)).thenReturn(Optional.empty());
+        when(repository.update(any(Item.class))).thenReturn(0);
 
-        assertThrows(ItemNotFoundException.class, () -> service.updateItem(999L, dto));
-        verify(repository, never()).update(any());
+        assertThrows(ItemNotFoundException.class, () -> service.updateItem(999L, dto, null));
+        verify(repository, times(1)).update(any(Item.class));
+        verifyNoMoreInteractions(repository);
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
 
     @Test
     public void whenDeleteItem_existing_thenDeletesSuccessfully() {
-        when(repository.findById(1L)).thenReturn(Optional.of(item1));
-
         when(repository.delete(1L)).thenReturn(1);
 
         assertDoesNotThrow(() -> service.deleteItem(1L));
-        verify(repository).delete(1L);
+        verify(repository, times(1)).delete(1L);
+        verifyNoMoreInteractions(repository);
+        verify(eventPublisher).publishEvent(any(ItemChangedEvent.class));
     }
     @Test
     public void whenDeleteItem_notExisting_thenThrowException() {
-        when(repository.findById(999L)).thenReturn(Optional.empty());
+        when(repository.delete(999L)).thenReturn(0);
 
         assertThrows(ItemNotFoundException.class, () -> service.deleteItem(999L));
-        verify(repository, never()).delete(anyLong());
+        verify(repository, times(1)).delete(999L);
+        verifyNoMoreInteractions(repository);
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    public void whenAdjustStock_thenAppliesDeltaAndReturnsAdjustedItem() {
+        Item adjusted = new Item(1L, "Laptop", "High-end laptop", 9, 1500.0, 0L);
+        when(repository.findById(1L)).thenReturn(Optional.of(adjusted));
+        ItemResponseDto response = new ItemResponseDto(1L, "Laptop", "High-end laptop", 9, 1500.0, 0L);
+        when(itemMapper.toResponse(adjusted)).thenReturn(response);
+
+        ItemResponseDto result = service.adjustStock(1L, -1);
+
+        assertEquals(9, result.getQuantity());
+        verify(stockAdjuster).adjust(1L, -1);
+        verify(repository, never()).update(any());
+        verify(eventPublisher).publishEvent(any(ItemChangedEvent.class));
+    }
+
+    @Test
+    public void whenAdjustStock_zeroDelta_thenThrowException() {
+        assertThrows(InvalidRequestException.class, () -> service.adjustStock(1L, 0));
+        verifyNoInteractions(stockAdjuster);
     }
 
     @Test
@@ -145,4 +317,38 @@ public class ItemServiceImplTest {
         verify(repository).findLowStock(15);
         verify(itemMapper).toResponse(item1);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void whenGetAllItemsJson_thenWritesRowsAsDtoJsonAndCursorFromLastRow() throws Exception {
+        doAnswer(invocation -> {
+            ItemRepository.RowConsumer consumer = invocation.getArgument(1);
+            consumer.accept(1L, "Laptop", "High-end laptop", 10, 1500.0, 0L);
+            consumer.accept(2L, "Mouse", null, 50, 25.0, 3L);
+            return null;
+        }).when(repository).forEachInPage(any(ItemQuery.class), any());
+
+        ItemJsonPage page = service.getAllItemsJson(null, null, "price", "asc", 1, null);
+
+        assertArrayEquals(objectMapper.writeValueAsBytes(List.of(itemResponseDto1)), page.getBody());
+        assertEquals("1500.0_1", page.getNextCursor());
+        verify(repository, never()).findPage(any());
+        verifyNoInteractions(itemMapper);
+    }
+
+    @Test
+    public void whenWriteLowStockItemsJson_thenWritesAllRows() throws Exception {
+        doAnswer(invocation -> {
+            ItemRepository.RowConsumer consumer = invocation.getArgument(1);
+            consumer.accept(1L, "Laptop", "High-end laptop", 10, 1500.0, 0L);
+            consumer.accept(2L, "Mouse", "Wireless mouse", 50, 25.0, 0L);
+            return null;
+        }).when(repository).forEachLowStock(eq(60), any());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        service.writeLowStockItemsJson(60, out);
+
+        ItemResponseDto mouse = new ItemResponseDto(2L, "Mouse", "Wireless mouse", 50, 25.0, 0L);
+        assertArrayEquals(objectMapper.writeValueAsBytes(List.of(itemResponseDto1, mouse)), out.toByteArray());
+        verify(repository, never()).findLowStock(anyInt());
+    }
+}
@@ -0,0 +1,121 @@
+package com.dotconvertecs.smart_inventory_manager.service.impl;
+
+import com.dotconvertecs.smart_inventory_manager.event.ItemChangedEvent;
+import com.dotconvertecs.smart_inventory_manager.exception.custome.InvalidRequestException;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemResponseDto;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.LowStockEventDto;
+import com.dotconvertecs.smart_inventory_manager.model.entity.Item;
+import com.dotconvertecs.smart_inventory_manager.model.mapper.ItemMapper;
+import com.dotconvertecs.smart_inventory_manager.repository.ItemRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class LowStockStreamServiceImplTest {
+
+    @Mock
+    private ItemRepository repository;
+
+    private LowStockStreamServiceImpl service;
+
+    @BeforeEach
+    public void setUp() {
+        service = new LowStockStreamServiceImpl(repository, new ItemMapper(), Runnable::run, Duration.ofMinutes(1), 16) {
+            @Override
+            protected SseEmitter createEmitter() {
+                return new RecordingEmitter();
+            }
+        };
+    }
+
+    @Test
+    public void whenSubscribe_thenSendsSnapshot() {
+        when(repository.findLowStock(5)).thenReturn(List.of(new Item(1L, "Low", "Desc", 2, 3.0, 0L)));
+
+        RecordingEmitter emitter = (RecordingEmitter) service.subscribe(5);
+
+        assertEquals(List.of("snapshot"), emitter.names);
+    }
+
+    @Test
+    public void whenQuantityCrossesThreshold_thenOnlyAffectedGroupsAreNotified() {
+        when(repository.findLowStock(anyInt())).thenReturn(List.of(new Item(1L, "Laptop", null, 4, 1500.0, 0L)));
+        RecordingEmitter five = (RecordingEmitter) service.subscribe(5);
+        RecordingEmitter ten = (RecordingEmitter) service.subscribe(10);
+
+        service.onItemChanged(ItemChangedEvent.updated(new Item(1L, "Laptop", null, 7, 1500.0, 0L)));
+        service.onItemChanged(ItemChangedEvent.updated(new Item(2L, "Mouse", null, 50, 25.0, 0L)));
+        service.onItemChanged(ItemChangedEvent.updated(new Item(2L, "Mouse", null, 3, 25.0, 0L)));
+        service.onItemChanged(ItemChangedEvent.updated(new Item(2L, "Mouse", null, 2, 25.0, 0L)));
+        service.onItemChanged(ItemChangedEvent.deleted(1L));
+
+        assertEquals(List.of("snapshot", "restocked", "low-stock"), five.names);
+        assertEquals(List.of("snapshot", "low-stock", "removed"), ten.names);
+        LowStockEventDto restocked = (LowStockEventDto) five.payloads.get(1);
+        assertEquals(1L, restocked.getId());
+        assertEquals(7, restocked.getQuantity());
+        assertEquals(5, restocked.getThreshold());
+        verify(repository, times(2)).findLowStock(anyInt());
+    }
+
+    @Test
+    public void whenChangesCommitDuringSnapshotQuery_thenTheyAreMergedIntoSnapshot() {
+        when(repository.findLowStock(5)).thenAnswer(invocation -> {
+            service.onItemChanged(ItemChangedEvent.updated(new Item(1L, "Laptop", null, 9, 1500.0, 2L)));
+            service.onItemChanged(ItemChangedEvent.updated(new Item(2L, "Mouse", null, 1, 25.0, 1L)));
+            service.onItemChanged(ItemChangedEvent.updated(new Item(3L, "Cable", null, 4, 5.0, 3L)));
+            return List.of(new Item(1L, "Laptop", null, 4, 1500.0, 1L), new Item(3L, "Cable", null, 2, 5.0, 4L));
+        });
+
+        RecordingEmitter emitter = (RecordingEmitter) service.subscribe(5);
+        service.onItemChanged(ItemChangedEvent.updated(new Item(2L, "Mouse", null, 8, 25.0, 2L)));
+
+        assertEquals(List.of("snapshot", "restocked"), emitter.names);
+        List<?> snapshot = (List<?>) emitter.payloads.getFirst();
+        assertEquals(List.of(3L, 2L), snapshot.stream().map(dto -> ((ItemResponseDto) dto).getId()).toList());
+        assertEquals(2, ((ItemResponseDto) snapshot.getFirst()).getQuantity());
+    }
+
+    @Test
+    public void whenNoSubscribers_thenChangesAreIgnored() {
+        service.onItemChanged(ItemChangedEvent.updated(new Item(1L, "Laptop", null, 1, 1500.0, 0L)));
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    public void whenNegativeThreshold_thenThrowException() {
+        assertThrows(InvalidRequestException.class, () -> service.subscribe(-1));
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<String> names = new ArrayList<>();
+        private final List<Object> payloads = new ArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            String name = null;
+            for (DataWithMediaType part : builder.build()) {
+                Object data = part.getData();
+                if (data instanceof String text && text.startsWith("event:")) {
+                    name = text.substring("event:".length(), text.indexOf('\n'));
+                } else if (name != null && !(data instanceof String)) {
+                    names.add(name);
+                    payloads.add(data);
+                    name = null;
+                }
+            }
+        }
+    }
+}
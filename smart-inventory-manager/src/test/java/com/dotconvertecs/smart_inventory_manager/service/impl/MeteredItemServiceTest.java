@@ -0,0 +1,60 @@
+package com.dotconvertecs.smart_inventory_manager.service.impl;
+
+import com.dotconvertecs.smart_inventory_manager.exception.custome.ItemNotFoundException;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemPageResponseDto;
+import com.dotconvertecs.smart_inventory_manager.model.dto.response.ItemResponseDto;
+import com.dotconvertecs.smart_inventory_manager.service.ItemService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class MeteredItemServiceTest {
+
+    private ItemService delegate;
+    private SimpleMeterRegistry registry;
+    private MeteredItemService service;
+
+    @BeforeEach
+    public void setUp() {
+        delegate = mock(ItemService.class);
+        registry = new SimpleMeterRegistry();
+        service = new MeteredItemService(delegate, registry);
+    }
+
+    @Test
+    public void whenGetAllItems_thenTimesCallAndRecordsFetchedAndReturnedRows() {
+        List<ItemResponseDto> items = List.of(
+                new ItemResponseDto(1L, "A", "a", 1, 1.0, 0L),
+                new ItemResponseDto(2L, "B", "b", 2, 2.0, 0L));
+        when(delegate.getAllItems(null, null, "id", "asc", 2, null)).thenReturn(new ItemPageResponseDto(items, "2"));
+
+        ItemPageResponseDto result = service.getAllItems(null, null, "id", "asc", 2, null);
+
+        assertSame(items, result.getItems());
+        assertEquals(1, registry.get("inventory.service.operation").tag("operation", "getAllItems").timer().count());
+        assertEquals(3.0, registry.get("inventory.service.rows").tag("stage", "fetched").summary().totalAmount());
+        assertEquals(2.0, registry.get("inventory.service.rows").tag("operation", "getAllItems")
+                .tag("stage", "returned").summary().totalAmount());
+    }
+
+    @Test
+    public void whenDelegateThrows_thenStillRecordsLatency() {
+        when(delegate.getItemById(9L)).thenThrow(new ItemNotFoundException("missing"));
+
+        assertThrows(ItemNotFoundException.class, () -> service.getItemById(9L));
+        assertEquals(1, registry.get("inventory.service.operation").tag("operation", "getItemById").timer().count());
+    }
+
+    @Test
+    public void whenDeleteItem_thenDelegatesAndTimesCall() {
+        service.deleteItem(4L);
+
+        verify(delegate).deleteItem(4L);
+        assertEquals(1, registry.get("inventory.service.operation").tag("operation", "deleteItem").timer().count());
+    }
+}
@@ -0,0 +1,84 @@
+package com.dotconvertecs.smart_inventory_manager.service.impl;
+
+import com.dotconvertecs.smart_inventory_manager.exception.custome.InsufficientStockException;
+import com.dotconvertecs.smart_inventory_manager.exception.custome.ItemNotFoundException;
+import com.dotconvertecs.smart_inventory_manager.model.entity.Item;
+import com.dotconvertecs.smart_inventory_manager.repository.ItemRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class StockAdjusterTest {
+
+    @Mock
+    private ItemRepository repository;
+
+    @Test
+    public void whenAdjustSucceeds_thenSingleStatement() {
+        StockAdjuster adjuster = new StockAdjuster(repository, false);
+        when(repository.adjustQuantity(1L, -1)).thenReturn(1);
+
+        adjuster.adjust(1L, -1);
+
+        verify(repository).adjustQuantity(1L, -1);
+        verify(repository, never()).findById(anyLong());
+    }
+
+    @Test
+    public void whenNoRowUpdated_thenDistinguishesMissingFromInsufficient() {
+        StockAdjuster adjuster = new StockAdjuster(repository, false);
+        when(repository.adjustQuantity(anyLong(), anyInt())).thenReturn(0);
+        when(repository.findById(1L)).thenReturn(Optional.of(new Item(1L, "Laptop", null, 0, 1500.0, 0L)));
+        when(repository.findById(999L)).thenReturn(Optional.empty());
+
+        assertThrows(InsufficientStockException.class, () -> adjuster.adjust(1L, -1));
+        assertThrows(ItemNotFoundException.class, () -> adjuster.adjust(999L, -1));
+    }
+
+    @Test
+    public void whenCoalescing_thenConcurrentDeltasAreAllApplied() throws Exception {
+        StockAdjuster adjuster = new StockAdjuster(repository, true);
+        AtomicInteger applied = new AtomicInteger();
+        when(repository.adjustQuantity(eq(1L), anyInt())).thenAnswer(invocation -> {
+            Thread.sleep(5);
+            applied.addAndGet(invocation.getArgument(1));
+            return 1;
+        });
+
+        int threads = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                    adjuster.adjust(1L, -1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertEquals(-threads, applied.get());
+        verify(repository, atMost(threads)).adjustQuantity(eq(1L), anyInt());
+    }
+}
@@ -0,0 +1,33 @@
+package com.dotconvertecs.smart_inventory_manager.startup;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StartupCheckTest {
+
+    private final StartupCheck check = new StartupCheck(true, "/api/items?limit=20",
+            Duration.ofSeconds(10), Duration.ofMillis(500));
+
+    @Test
+    public void whenWithinBudgets_thenPasses() {
+        assertEquals(0, check.verdict(200, 4_000, 120));
+    }
+
+    @Test
+    public void whenReadyOverBudget_thenFails() {
+        assertEquals(1, check.verdict(200, 12_000, 120));
+    }
+
+    @Test
+    public void whenFirstRequestOverBudget_thenFails() {
+        assertEquals(1, check.verdict(200, 4_000, 900));
+    }
+
+    @Test
+    public void whenFirstRequestErrors_thenFails() {
+        assertEquals(1, check.verdict(500, 4_000, 120));
+    }
+}